@@ -25,16 +25,33 @@ import java.util.ArrayDeque;
  * @since 0.1.0
  */
 public abstract class AbstractJReleaserLogger implements JReleaserLogger {
-    private final ArrayDeque<String> prefix = new ArrayDeque<>();
+    // prefix and indentation are tracked per thread, worker threads start
+    // with a copy of the state of the thread that created them
+    private final ThreadLocal<ArrayDeque<String>> prefix = new InheritableThreadLocal<ArrayDeque<String>>() {
+        @Override
+        protected ArrayDeque<String> initialValue() {
+            return new ArrayDeque<>();
+        }
+
+        @Override
+        protected ArrayDeque<String> childValue(ArrayDeque<String> parentValue) {
+            return new ArrayDeque<>(parentValue);
+        }
+    };
+    private final ThreadLocal<String> indent = new InheritableThreadLocal<String>() {
+        @Override
+        protected String initialValue() {
+            return "";
+        }
+    };
     private final PrintWriter tracer;
-    private String indent = "";
 
     protected AbstractJReleaserLogger(PrintWriter tracer) {
         this.tracer = tracer;
     }
 
     protected boolean isIndented() {
-        return !indent.isEmpty();
+        return !indent.get().isEmpty();
     }
 
     @Override
@@ -51,8 +68,8 @@ public abstract class AbstractJReleaserLogger implements JReleaserLogger {
 
     @Override
     public void reset() {
-        this.prefix.clear();
-        this.indent = "";
+        this.prefix.get().clear();
+        this.indent.set("");
     }
 
     @Override
@@ -63,30 +80,33 @@ public abstract class AbstractJReleaserLogger implements JReleaserLogger {
 
     @Override
     public void setPrefix(String prefix) {
-        this.prefix.push(prefix);
+        this.prefix.get().push(prefix);
     }
 
     @Override
     public void restorePrefix() {
-        if (!this.prefix.isEmpty()) {
-            this.prefix.pop();
+        ArrayDeque<String> p = this.prefix.get();
+        if (!p.isEmpty()) {
+            p.pop();
         }
     }
 
     @Override
     public void increaseIndent() {
-        indent += "  ";
+        indent.set(indent.get() + "  ");
     }
 
     @Override
     public void decreaseIndent() {
-        if (!indent.isEmpty()) {
-            indent = indent.substring(0, indent.length() - 2);
+        String i = indent.get();
+        if (!i.isEmpty()) {
+            indent.set(i.substring(0, i.length() - 2));
         }
     }
 
     protected String formatMessage(String message) {
-        return indent + (!prefix.isEmpty() ? "[" + prefix.peek() + "] " : "") + message;
+        ArrayDeque<String> p = prefix.get();
+        return indent.get() + (!p.isEmpty() ? "[" + p.peek() + "] " : "") + message;
     }
 
     @Override
@@ -21,6 +21,7 @@ import org.jreleaser.bundle.RB;
 
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.concurrent.Callable;
 import java.util.stream.StreamSupport;
 
 import static java.util.stream.Collectors.toList;
@@ -58,6 +59,24 @@ public final class ExtensionManagerHolder {
         EXTENSION_MANAGER_THREAD_LOCAL.remove();
     }
 
+    /**
+     * Wraps a task so that it sees the extension manager of the calling thread when
+     * it runs on a worker thread, otherwise the worker would get an unloaded instance.
+     *
+     * @since 1.26.0
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        ExtensionManager extensionManager = get();
+        return () -> {
+            EXTENSION_MANAGER_THREAD_LOCAL.set(extensionManager);
+            try {
+                return task.call();
+            } finally {
+                EXTENSION_MANAGER_THREAD_LOCAL.remove();
+            }
+        };
+    }
+
     private static ServiceLoader<ExtensionManager> resolveServiceLoader() {
         // TODO: review when moving baseline to JDK11+
         // Check if handlers must be loaded from a ModuleLayer
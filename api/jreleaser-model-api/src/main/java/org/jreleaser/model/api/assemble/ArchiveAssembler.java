@@ -37,6 +37,10 @@ public interface ArchiveAssembler extends Assembler, SwidTagAware {
 
     boolean isAttachPlatform();
 
+    boolean isParallel();
+
+    int getParallelism();
+
     Set<Archive.Format> getFormats();
 
     ArchiveOptions getOptions();
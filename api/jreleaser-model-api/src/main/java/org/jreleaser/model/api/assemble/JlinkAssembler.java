@@ -64,6 +64,8 @@ public interface JlinkAssembler extends Assembler, JavaAssembler, SwidTagAware {
 
     boolean isCopyJars();
 
+    boolean isParallel();
+
     JavaArchive getJavaArchive();
 
     interface Jdeps extends Domain, EnabledAware {
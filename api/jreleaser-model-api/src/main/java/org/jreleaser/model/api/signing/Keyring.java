@@ -46,6 +46,7 @@ public abstract class Keyring {
     private final KeyFingerPrintCalculator keyFingerPrintCalculator = new BcKeyFingerprintCalculator();
     private PGPPublicKeyRingCollection publicKeyRings;
     private PGPSecretKeyRingCollection secretKeyRings;
+    private volatile PGPPublicKey publicKey;
 
     protected Keyring() {
         this.publicKeyRings = new PGPPublicKeyRingCollection(Collections.emptyList());
@@ -96,6 +97,7 @@ public abstract class Keyring {
 
     public void addSecretKeyRing(PGPSecretKeyRing keyring) {
         this.secretKeyRings = PGPSecretKeyRingCollection.addSecretKeyRing(this.secretKeyRings, keyring);
+        this.publicKey = null;
     }
 
     public void addPublicKeyRing(PGPPublicKeyRing keyring) {
@@ -103,6 +105,16 @@ public abstract class Keyring {
     }
 
     public PGPPublicKey readPublicKey() throws SigningException {
+        // resolved once, signature verification asks for it once per file
+        PGPPublicKey key = publicKey;
+        if (null == key) {
+            key = findPublicKey();
+            publicKey = key;
+        }
+        return key;
+    }
+
+    private PGPPublicKey findPublicKey() throws SigningException {
         Iterator<PGPSecretKeyRing> keyRingIter = secretKeyRings.getKeyRings();
         while (keyRingIter.hasNext()) {
             PGPSecretKeyRing keyRing = keyRingIter.next();
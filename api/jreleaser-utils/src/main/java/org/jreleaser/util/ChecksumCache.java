@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers file checksums for the duration of a run so that every stage hashing
+ * the same file reads it only once. Entries are keyed by the absolute path and
+ * discarded whenever the size or modification time of the file changes. The
+ * workflow clears the cache once it finishes, as long-lived processes such as
+ * daemons would otherwise keep every entry and serve them to later runs.
+ *
+ * @author Andres Almiray
+ * @since 1.26.0
+ */
+public final class ChecksumCache {
+    private static final Map<Path, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    private ChecksumCache() {
+        // noop
+    }
+
+    /**
+     * Returns the requested checksums, computing any missing ones with a single pass over the file.
+     */
+    public static Map<Algorithm, String> checksums(Path file, Collection<Algorithm> algorithms) throws IOException {
+        Path key = file.toAbsolutePath().normalize();
+        BasicFileAttributes attrs = Files.readAttributes(key, BasicFileAttributes.class);
+        long size = attrs.size();
+        long lastModified = attrs.lastModifiedTime().toMillis();
+
+        Entry entry = ENTRIES.get(key);
+        if (null == entry || entry.size != size || entry.lastModified != lastModified) {
+            entry = new Entry(size, lastModified);
+            ENTRIES.put(key, entry);
+        }
+
+        Set<Algorithm> missing = EnumSet.noneOf(Algorithm.class);
+        for (Algorithm algorithm : algorithms) {
+            if (!entry.checksums.containsKey(algorithm)) missing.add(algorithm);
+        }
+
+        if (!missing.isEmpty()) {
+            entry.checksums.putAll(ChecksumUtils.checksums(key, missing));
+        }
+
+        Map<Algorithm, String> checksums = new LinkedHashMap<>();
+        for (Algorithm algorithm : algorithms) {
+            checksums.put(algorithm, entry.checksums.get(algorithm));
+        }
+        return Collections.unmodifiableMap(checksums);
+    }
+
+    public static String checksum(Path file, Algorithm algorithm) throws IOException {
+        return checksums(file, Collections.singleton(algorithm)).get(algorithm);
+    }
+
+    /**
+     * Discards all entries. Called at the end of every run.
+     */
+    public static void clear() {
+        ENTRIES.clear();
+    }
+
+    private static final class Entry {
+        private final long size;
+        private final long lastModified;
+        private final Map<Algorithm, String> checksums = new ConcurrentHashMap<>();
+
+        private Entry(long size, long lastModified) {
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+    }
+}
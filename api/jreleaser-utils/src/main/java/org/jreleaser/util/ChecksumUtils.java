@@ -23,12 +23,21 @@ import org.bouncycastle.crypto.digests.RIPEMD160Digest;
 import org.jreleaser.bundle.RB;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * @author Andres Almiray
  * @since 0.3.0
  */
 public class ChecksumUtils {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private ChecksumUtils() {
         // prevent instantiation
     }
@@ -72,4 +81,73 @@ public class ChecksumUtils {
                 throw new IOException(RB.$("ERROR_unsupported_algorithm", algorithm.name()));
         }
     }
+
+    /**
+     * Computes several checksums with a single pass over the file.
+     */
+    public static Map<Algorithm, String> checksums(Path file, Collection<Algorithm> algorithms) throws IOException {
+        Map<Algorithm, MessageDigest> digests = new LinkedHashMap<>();
+        RIPEMD160Digest rmd160 = null;
+        for (Algorithm algorithm : algorithms) {
+            if (algorithm == Algorithm.RMD160) {
+                rmd160 = new RIPEMD160Digest();
+            } else {
+                digests.put(algorithm, digest(algorithm));
+            }
+        }
+
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                for (MessageDigest digest : digests.values()) {
+                    digest.update(buffer, 0, read);
+                }
+                if (null != rmd160) rmd160.update(buffer, 0, read);
+            }
+        }
+
+        Map<Algorithm, String> checksums = new LinkedHashMap<>();
+        for (Algorithm algorithm : algorithms) {
+            if (algorithm == Algorithm.RMD160) {
+                byte[] output = new byte[rmd160.getDigestSize()];
+                rmd160.doFinal(output, 0);
+                checksums.put(algorithm, Hex.encodeHexString(output));
+            } else {
+                checksums.put(algorithm, Hex.encodeHexString(digests.get(algorithm).digest()));
+            }
+        }
+        return checksums;
+    }
+
+    static MessageDigest digest(Algorithm algorithm) throws IOException {
+        if (null == algorithm) {
+            throw new IOException(RB.$("ERROR_unsupported_algorithm", algorithm));
+        }
+
+        switch (algorithm) {
+            case MD2:
+                return DigestUtils.getMd2Digest();
+            case MD5:
+                return DigestUtils.getMd5Digest();
+            case SHA_1:
+                return DigestUtils.getSha1Digest();
+            case SHA_256:
+                return DigestUtils.getSha256Digest();
+            case SHA_384:
+                return DigestUtils.getSha384Digest();
+            case SHA_512:
+                return DigestUtils.getSha512Digest();
+            case SHA3_224:
+                return DigestUtils.getSha3_224Digest();
+            case SHA3_256:
+                return DigestUtils.getSha3_256Digest();
+            case SHA3_384:
+                return DigestUtils.getSha3_384Digest();
+            case SHA3_512:
+                return DigestUtils.getSha3_512Digest();
+            default:
+                throw new IOException(RB.$("ERROR_unsupported_algorithm", algorithm.name()));
+        }
+    }
 }
@@ -0,0 +1,669 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.jreleaser.bundle.RB;
+import org.jreleaser.logging.JReleaserLogger;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.FileNotFoundException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.jreleaser.util.StringUtils.isBlank;
+import static org.jreleaser.util.StringUtils.isNotBlank;
+
+/**
+ * Downloads remote resources with a pluggable {@code Transport}.
+ * <p>
+ * Payloads are streamed into a {@code .part} file next to the target and moved into place
+ * once complete. Interrupted transfers are resumed from the end of the partial file when
+ * the transport supports it, checksums are verified while streaming, and responses that
+ * carry validators (ETag/Last-Modified) are kept in a local cache so that subsequent
+ * downloads can be revalidated instead of transferred again. Responses fetched with
+ * credentials sent by the transport, such as an {@code Authorization} header, are not cached.
+ *
+ * @author Andres Almiray
+ * @since 1.26.0
+ */
+public final class DownloadEngine {
+    public static final String DOWNLOAD_PARALLELISM = "DOWNLOAD_PARALLELISM";
+    public static final String DOWNLOAD_CACHE_SIZE = "DOWNLOAD_CACHE_SIZE";
+
+    private static final String PART_EXTENSION = ".part";
+    private static final String META_EXTENSION = ".properties";
+    private static final String K_ETAG = "etag";
+    private static final String K_LAST_MODIFIED = "lastModified";
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final JReleaserLogger logger;
+    private final Path cacheDirectory;
+    private final long maxCacheSize;
+    private final int parallelism;
+
+    /**
+     * @param logger         the logger
+     * @param cacheDirectory directory used to store revalidated downloads, may be {@code null}
+     * @param maxCacheSize   maximum size in bytes of the cache, values &lt;= 0 disable the cache
+     * @param parallelism    maximum number of concurrent downloads
+     */
+    public DownloadEngine(JReleaserLogger logger, Path cacheDirectory, long maxCacheSize, int parallelism) {
+        this.logger = logger;
+        this.cacheDirectory = maxCacheSize > 0 ? cacheDirectory : null;
+        this.maxCacheSize = maxCacheSize;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public void download(Transport transport, Request request) throws IOException {
+        doDownload(transport, request);
+        evictCache();
+    }
+
+    public void download(Transport transport, List<Request> requests) throws IOException {
+        // identical requests are downloaded once, requests for the same resource or the same output
+        // run one after the other so that they share the .part and cache files without racing on them
+        Map<String, List<Request>> groups = new LinkedHashMap<>();
+        Map<Path, String> groupByOutput = new LinkedHashMap<>();
+        Set<String> seen = new LinkedHashSet<>();
+        for (Request request : requests) {
+            Path output = request.getOutput().toAbsolutePath();
+            if (seen.add(request.getInput() + "|" + output + "|" + request.getChecksum())) {
+                String group = groupByOutput.getOrDefault(output, request.getInput());
+                groupByOutput.putIfAbsent(output, group);
+                groups.computeIfAbsent(group, k -> new ArrayList<>()).add(request);
+            }
+        }
+
+        int workers = transport.isConcurrent() ? Math.min(parallelism, groups.size()) : 1;
+        if (workers <= 1) {
+            for (List<Request> group : groups.values()) {
+                for (Request request : group) {
+                    doDownload(transport, request);
+                }
+            }
+            evictCache();
+            return;
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "jreleaser-download-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (List<Request> group : groups.values()) {
+                tasks.add(executor.submit(() -> {
+                    for (Request request : group) {
+                        doDownload(transport, request);
+                    }
+                    return null;
+                }));
+            }
+
+            for (Future<?> task : tasks) {
+                await(task);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        evictCache();
+    }
+
+    private void await(Future<?> task) throws IOException {
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private void doDownload(Transport transport, Request request) throws IOException {
+        Path output = request.getOutput().toAbsolutePath();
+        Path part = output.resolveSibling(output.getFileName() + PART_EXTENSION);
+        Files.createDirectories(output.getParent());
+
+        // the body is shared by every output of the same resource, a partial copy belongs to its output
+        String resource = isBlank(transport.getOrigin()) ? request.getInput() : transport.getOrigin() + "|" + request.getInput();
+        String key = null != cacheDirectory && transport.isCacheable() ? DigestUtils.sha256Hex(resource) : null;
+        String partKey = null != cacheDirectory ? DigestUtils.sha256Hex(resource + "|" + output) : null;
+        Path cachedBody = null != key ? cacheDirectory.resolve(key) : null;
+        Path cachedMeta = null != key ? cacheDirectory.resolve(key + META_EXTENSION) : null;
+        Path partMeta = null != partKey ? cacheDirectory.resolve(partKey + PART_EXTENSION + META_EXTENSION) : null;
+
+        Validators cached = null != key && Files.exists(cachedBody) ? readValidators(cachedMeta) : null;
+        Validators partial = Files.exists(part) ? readValidators(partMeta) : null;
+
+        for (int attempt = 1; ; attempt++) {
+            long offset = Files.exists(part) ? Files.size(part) : 0L;
+            if (offset > 0 && null == partial) {
+                // bytes of unknown origin cannot be resumed safely
+                Files.deleteIfExists(part);
+                offset = 0L;
+            }
+
+            try (Response response = transport.open(request.getInput(), offset, offset > 0 ? partial : cached)) {
+                if (response.getStatus() == Response.Status.NOT_MODIFIED) {
+                    if (offset > 0 || null == cached) {
+                        throw new IOException(RB.$("ERROR_unexpected_download", request.getInput()));
+                    }
+                    verify(request, cachedBody);
+                    Files.setLastModifiedTime(cachedMeta, FileTime.fromMillis(System.currentTimeMillis()));
+                    Files.copy(cachedBody, output, REPLACE_EXISTING);
+                    logger.debug(RB.$("download.up.to.date"), request.getInput());
+                    return;
+                }
+
+                boolean append = response.getStatus() == Response.Status.PARTIAL;
+                if (append) {
+                    logger.debug(RB.$("download.resume"), request.getInput(), offset);
+                }
+                partial = response.getValidators();
+                if (null != partMeta) {
+                    writeValidators(partMeta, partial);
+                }
+
+                MessageDigest digest = null != request.getAlgorithm() ? ChecksumUtils.digest(request.getAlgorithm()) : null;
+                if (append && null != digest) {
+                    update(digest, part);
+                }
+
+                try (InputStream in = response.getInputStream();
+                     OutputStream out = Files.newOutputStream(part, CREATE, WRITE, append ? APPEND : TRUNCATE_EXISTING)) {
+                    byte[] buffer = new byte[BUFFER_SIZE];
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        out.write(buffer, 0, read);
+                        if (null != digest) digest.update(buffer, 0, read);
+                    }
+                }
+
+                if (null != digest) {
+                    verify(request, Hex.encodeHexString(digest.digest()), part);
+                }
+            } catch (FileNotFoundException | ChecksumMismatchException e) {
+                throw e;
+            } catch (IOException e) {
+                if (attempt >= MAX_ATTEMPTS) throw e;
+                if (offset > 0 && Files.exists(part) && Files.size(part) == offset) {
+                    // resuming made no progress, start afresh
+                    Files.deleteIfExists(part);
+                    partial = null;
+                }
+                if (null != cached && !Files.exists(cachedBody)) {
+                    cached = null;
+                }
+                logger.debug(RB.$("download.retry"), request.getInput(), attempt + 1, MAX_ATTEMPTS);
+                continue;
+            }
+
+            if (null != partMeta) {
+                Files.deleteIfExists(partMeta);
+            }
+            if (null != key && null != partial && partial.isSet()) {
+                store(part, cachedBody, cachedMeta, partial);
+            }
+            Files.move(part, output, REPLACE_EXISTING);
+            return;
+        }
+    }
+
+    private void verify(Request request, Path file) throws IOException {
+        if (null == request.getAlgorithm()) return;
+        MessageDigest digest = ChecksumUtils.digest(request.getAlgorithm());
+        update(digest, file);
+        verify(request, Hex.encodeHexString(digest.digest()), file);
+    }
+
+    private void verify(Request request, String actual, Path file) throws IOException {
+        if (!actual.equalsIgnoreCase(request.getChecksum())) {
+            Files.deleteIfExists(file);
+            throw new ChecksumMismatchException(RB.$("ERROR_download_checksum", request.getInput(), request.getChecksum(), actual));
+        }
+    }
+
+    private void update(MessageDigest digest, Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+    }
+
+    private void store(Path part, Path cachedBody, Path cachedMeta, Validators validators) throws IOException {
+        Files.createDirectories(cacheDirectory);
+        Path tmp = cacheDirectory.resolve(cachedBody.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            Files.copy(part, tmp, REPLACE_EXISTING);
+            try {
+                Files.move(tmp, cachedBody, ATOMIC_MOVE, REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, cachedBody, REPLACE_EXISTING);
+            }
+            writeValidators(cachedMeta, validators);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private void evictCache() {
+        if (null == cacheDirectory || !Files.isDirectory(cacheDirectory)) return;
+
+        List<Path> entries = new ArrayList<>();
+        long total = 0L;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(cacheDirectory, "*" + META_EXTENSION)) {
+            for (Path meta : stream) {
+                String name = meta.getFileName().toString();
+                if (name.endsWith(PART_EXTENSION + META_EXTENSION)) continue;
+                Path body = cacheDirectory.resolve(name.substring(0, name.length() - META_EXTENSION.length()));
+                if (Files.exists(body)) {
+                    entries.add(meta);
+                    total += Files.size(body);
+                }
+            }
+
+            if (total <= maxCacheSize) return;
+
+            entries.sort(Comparator.comparing(DownloadEngine::lastModified));
+            for (Path meta : entries) {
+                if (total <= maxCacheSize) break;
+                String name = meta.getFileName().toString();
+                Path body = cacheDirectory.resolve(name.substring(0, name.length() - META_EXTENSION.length()));
+                long size = Files.size(body);
+                Files.deleteIfExists(meta);
+                Files.deleteIfExists(body);
+                total -= size;
+            }
+        } catch (IOException e) {
+            // eviction is best effort
+            logger.trace(e);
+        }
+    }
+
+    private static FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0L);
+        }
+    }
+
+    private static Validators readValidators(Path file) {
+        if (null == file || !Files.exists(file)) return null;
+
+        Properties props = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, UTF_8)) {
+            props.load(reader);
+        } catch (IOException e) {
+            return null;
+        }
+
+        Validators validators = new Validators(props.getProperty(K_ETAG), props.getProperty(K_LAST_MODIFIED));
+        return validators.isSet() ? validators : null;
+    }
+
+    private static void writeValidators(Path file, Validators validators) throws IOException {
+        if (null == validators || !validators.isSet()) {
+            Files.deleteIfExists(file);
+            return;
+        }
+
+        Properties props = new Properties();
+        if (isNotBlank(validators.getEtag())) props.setProperty(K_ETAG, validators.getEtag());
+        if (isNotBlank(validators.getLastModified())) props.setProperty(K_LAST_MODIFIED, validators.getLastModified());
+        Files.createDirectories(file.getParent());
+        try (Writer writer = Files.newBufferedWriter(file, UTF_8)) {
+            props.store(writer, null);
+        }
+    }
+
+    private static final class ChecksumMismatchException extends IOException {
+        private static final long serialVersionUID = 4236370939716286364L;
+
+        private ChecksumMismatchException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Opens remote resources on behalf of the engine.
+     */
+    public interface Transport {
+        /**
+         * Opens a remote resource.
+         *
+         * @param input      the resource to open
+         * @param offset     number of bytes already available locally, {@code 0} when starting afresh
+         * @param validators when {@code offset} is {@code 0} the validators of a cached copy, otherwise
+         *                   the validators of the partial copy. May be {@code null}
+         * @return the response, never {@code null}
+         * @throws FileNotFoundException if the resource does not exist
+         * @throws IOException           if the resource could not be opened
+         */
+        Response open(String input, long offset, Validators validators) throws IOException;
+
+        /**
+         * Whether {@code open} may be invoked from several threads at the same time.
+         */
+        default boolean isConcurrent() {
+            return true;
+        }
+
+        /**
+         * Whether responses may be kept in the cache, which is shared by every project of the user.
+         * Transports that authenticate must not share what they fetch.
+         */
+        default boolean isCacheable() {
+            return true;
+        }
+
+        /**
+         * Identifies where inputs are resolved, e.g. {@code ftp://user@host:port}, when inputs
+         * are not unique on their own. May be {@code null} when inputs are absolute URLs.
+         */
+        default String getOrigin() {
+            return null;
+        }
+    }
+
+    public static final class Validators {
+        private final String etag;
+        private final String lastModified;
+
+        public Validators(String etag, String lastModified) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public String getLastModified() {
+            return lastModified;
+        }
+
+        public boolean isSet() {
+            return isNotBlank(etag) || isNotBlank(lastModified);
+        }
+    }
+
+    public static final class Response implements Closeable {
+        public enum Status {
+            /**
+             * The cached copy is still current.
+             */
+            NOT_MODIFIED,
+            /**
+             * The stream contains the full resource.
+             */
+            FULL,
+            /**
+             * The stream continues from the requested offset.
+             */
+            PARTIAL
+        }
+
+        private final Status status;
+        private final InputStream inputStream;
+        private final Validators validators;
+        private final Closeable onClose;
+
+        private Response(Status status, InputStream inputStream, Validators validators, Closeable onClose) {
+            this.status = status;
+            this.inputStream = inputStream;
+            this.validators = validators;
+            this.onClose = onClose;
+        }
+
+        public static Response notModified(Closeable onClose) {
+            return new Response(Status.NOT_MODIFIED, null, null, onClose);
+        }
+
+        public static Response full(InputStream inputStream, Validators validators, Closeable onClose) {
+            return new Response(Status.FULL, inputStream, validators, onClose);
+        }
+
+        public static Response partial(InputStream inputStream, Validators validators, Closeable onClose) {
+            return new Response(Status.PARTIAL, inputStream, validators, onClose);
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public InputStream getInputStream() {
+            return inputStream;
+        }
+
+        public Validators getValidators() {
+            return validators;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                if (null != inputStream) inputStream.close();
+            } finally {
+                if (null != onClose) onClose.close();
+            }
+        }
+    }
+
+    public static final class Request {
+        private final String input;
+        private final Path output;
+        private final Algorithm algorithm;
+        private final String checksum;
+
+        public Request(String input, Path output) {
+            this(input, output, null);
+        }
+
+        /**
+         * @param checksum expected checksum formatted as {@code algorithm:hex}, or plain {@code hex} for SHA-256.
+         *                 May be {@code null}
+         */
+        public Request(String input, Path output, String checksum) {
+            this.input = input;
+            this.output = output;
+
+            if (isBlank(checksum)) {
+                this.algorithm = null;
+                this.checksum = null;
+            } else {
+                int colon = checksum.indexOf(':');
+                this.algorithm = colon > 0 ? Algorithm.of(checksum.substring(0, colon)) : Algorithm.SHA_256;
+                this.checksum = checksum.substring(colon + 1).trim().toLowerCase(Locale.ENGLISH);
+            }
+        }
+
+        public String getInput() {
+            return input;
+        }
+
+        public Path getOutput() {
+            return output;
+        }
+
+        public Algorithm getAlgorithm() {
+            return algorithm;
+        }
+
+        public String getChecksum() {
+            return checksum;
+        }
+    }
+
+    /**
+     * Transport for {@code http} and {@code https} resources.
+     */
+    public static final class HttpTransport implements Transport {
+        private final int connectTimeout;
+        private final int readTimeout;
+        private final Map<String, String> headers = new LinkedHashMap<>();
+
+        /**
+         * @param connectTimeout connect timeout in milliseconds
+         * @param readTimeout    read timeout in milliseconds
+         * @param headers        additional request headers
+         */
+        public HttpTransport(int connectTimeout, int readTimeout, Map<String, String> headers) {
+            this.connectTimeout = connectTimeout;
+            this.readTimeout = readTimeout;
+            if (null != headers) this.headers.putAll(headers);
+        }
+
+        @Override
+        public boolean isCacheable() {
+            // content behind credentials must not be served from the shared cache
+            return headers.keySet().stream()
+                .noneMatch(name -> "Authorization".equalsIgnoreCase(name) || "Proxy-Authorization".equalsIgnoreCase(name));
+        }
+
+        @Override
+        public Response open(String input, long offset, Validators validators) throws IOException {
+            HttpURLConnection connection;
+            try {
+                connection = (HttpURLConnection) new URI(input).toURL().openConnection();
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                throw new IOException(RB.$("ERROR_unexpected_download", input), e);
+            }
+
+            connection.setConnectTimeout(connectTimeout);
+            connection.setReadTimeout(readTimeout);
+            headers.forEach(connection::setRequestProperty);
+
+            if (offset > 0) {
+                connection.setRequestProperty("Range", "bytes=" + offset + "-");
+                if (null != validators) {
+                    connection.setRequestProperty("If-Range", isNotBlank(validators.getEtag()) ? validators.getEtag() : validators.getLastModified());
+                }
+            } else if (null != validators) {
+                if (isNotBlank(validators.getEtag())) connection.setRequestProperty("If-None-Match", validators.getEtag());
+                if (isNotBlank(validators.getLastModified())) connection.setRequestProperty("If-Modified-Since", validators.getLastModified());
+            }
+
+            int code = connection.getResponseCode();
+            long length = connection.getContentLengthLong();
+            Validators received = new Validators(connection.getHeaderField("ETag"), connection.getHeaderField("Last-Modified"));
+            switch (code) {
+                case HttpURLConnection.HTTP_NOT_MODIFIED:
+                    return Response.notModified(connection::disconnect);
+                case HttpURLConnection.HTTP_PARTIAL:
+                    return Response.partial(new LengthCheckingInputStream(connection.getInputStream(), length), received, connection::disconnect);
+                case HttpURLConnection.HTTP_OK:
+                    return Response.full(new LengthCheckingInputStream(connection.getInputStream(), length), received, connection::disconnect);
+                case HttpURLConnection.HTTP_NOT_FOUND:
+                case HttpURLConnection.HTTP_GONE:
+                    connection.disconnect();
+                    throw new FileNotFoundException(input);
+                default:
+                    connection.disconnect();
+                    throw new IOException(RB.$("ERROR_unexpected_download", input) + " (" + code + ")");
+            }
+        }
+
+        /**
+         * Reports a dropped connection when the stream ends before the announced length.
+         */
+        private static final class LengthCheckingInputStream extends FilterInputStream {
+            private final long length;
+            private long count;
+
+            private LengthCheckingInputStream(InputStream in, long length) {
+                super(in);
+                this.length = length;
+            }
+
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                check(b == -1 ? -1 : 1);
+                return b;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int read = super.read(b, off, len);
+                check(read);
+                return read;
+            }
+
+            private void check(int read) throws IOException {
+                if (read == -1) {
+                    if (length >= 0 && count < length) {
+                        throw new EOFException(count + "/" + length);
+                    }
+                } else {
+                    count += read;
+                }
+            }
+        }
+    }
+}
@@ -47,6 +47,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.FileSystemLoopException;
@@ -64,9 +65,10 @@ import java.nio.file.attribute.PosixFilePermission;
 import java.nio.file.attribute.PosixFilePermissions;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Date;
 import java.util.EnumSet;
-import java.util.Enumeration;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -74,6 +76,15 @@ import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -122,6 +133,10 @@ public final class FileUtils {
         TXZ.extension()
     };
 
+    private static final int UNPACK_CHUNK_SIZE = 64 * 1024;
+    private static final int UNPACK_QUEUE_CAPACITY = 64;
+    private static final int UNPACK_ENTRIES_PER_WORKER = 256;
+
     private FileUtils() {
         //noop
     }
@@ -229,7 +244,7 @@ public final class FileUtils {
                 out.putArchiveEntry(archiveEntry);
 
                 if (inputFile.isFile()) {
-                    out.write(Files.readAllBytes(path));
+                    Files.copy(path, out);
                 }
                 out.closeArchiveEntry();
             }
@@ -423,6 +438,56 @@ public final class FileUtils {
         return paths;
     }
 
+    private static final class UnpackChunk {
+        private static final UnpackChunk END_OF_FILE = new UnpackChunk(Type.END_OF_FILE, null, null, null, null, 0, null, 0);
+        private static final UnpackChunk END_OF_ARCHIVE = new UnpackChunk(Type.END_OF_ARCHIVE, null, null, null, null, 0, null, 0);
+
+        private final Type type;
+        private final String entryName;
+        private final File file;
+        private final String linkName;
+        private final Date lastModified;
+        private final int mode;
+        private final byte[] data;
+        private final int length;
+
+        private UnpackChunk(Type type, String entryName, File file, String linkName, Date lastModified, int mode, byte[] data, int length) {
+            this.type = type;
+            this.entryName = entryName;
+            this.file = file;
+            this.linkName = linkName;
+            this.lastModified = lastModified;
+            this.mode = mode;
+            this.data = data;
+            this.length = length;
+        }
+
+        private static UnpackChunk directory(String entryName, File file) {
+            return new UnpackChunk(Type.DIRECTORY, entryName, file, null, null, 0, null, 0);
+        }
+
+        private static UnpackChunk symlink(String entryName, File file, String linkName) {
+            return new UnpackChunk(Type.SYMLINK, entryName, file, linkName, null, 0, null, 0);
+        }
+
+        private static UnpackChunk file(String entryName, File file, Date lastModified, int mode) {
+            return new UnpackChunk(Type.FILE, entryName, file, null, lastModified, mode, null, 0);
+        }
+
+        private static UnpackChunk data(byte[] data, int length) {
+            return new UnpackChunk(Type.DATA, null, null, null, null, 0, data, length);
+        }
+
+        private enum Type {
+            DIRECTORY,
+            SYMLINK,
+            FILE,
+            DATA,
+            END_OF_FILE,
+            END_OF_ARCHIVE
+        }
+    }
+
     public static class ArchiveOptions {
         private final Set<Path> includedPaths = new LinkedHashSet<>();
         private String rootEntryName;
@@ -573,7 +638,7 @@ public final class FileUtils {
         String rootEntryName = resolveRootEntryName(src);
         if (filename.endsWith(ZIP.extension())) {
             try (ZipFile zipFile = ZipFile.builder().setFile(src.toFile()).get()) {
-                unpackArchive(removeRootEntry ? rootEntryName + "/" : "", destinationDir, zipFile);
+                unpackArchive(removeRootEntry ? rootEntryName + "/" : "", destinationDir, src, zipFile);
             }
             return;
         }
@@ -637,90 +702,227 @@ public final class FileUtils {
     }
 
     private static void unpackArchive(String basename, File destinationDir, ArchiveInputStream<?> in) throws IOException {
-        ArchiveEntry entry = null;
-        while (null != (entry = in.getNextEntry())) {
-            if (!in.canReadEntryData(entry)) {
-                // log something?
-                continue;
-            }
+        BlockingQueue<UnpackChunk> queue = new ArrayBlockingQueue<>(UNPACK_QUEUE_CAPACITY);
+        ExecutorService executor = Executors.newSingleThreadExecutor(unpackThreadFactory());
+        Future<?> writer = executor.submit(() -> {
+            writeChunks(destinationDir, queue);
+            return null;
+        });
 
-            String entryName = entry.getName();
-            if (isNotBlank(basename) && entryName.startsWith(basename) && entryName.length() > basename.length() + 1) {
-                entryName = entryName.substring(basename.length());
-            }
+        try {
+            ArchiveEntry entry = null;
+            while (null != (entry = in.getNextEntry())) {
+                if (!in.canReadEntryData(entry)) {
+                    // log something?
+                    continue;
+                }
 
-            File file = new File(destinationDir, entryName);
-            String destDirPath = destinationDir.getCanonicalPath();
-            String destFilePath = file.getCanonicalPath();
-            if (!destFilePath.startsWith(destDirPath + File.separator)) {
-                throw new IOException(RB.$("ERROR_files_unpack_outside_target", entry.getName()));
-            }
+                File file = resolveEntryFile(basename, destinationDir, entry);
 
-            if (entry.isDirectory()) {
-                if (!file.isDirectory() && !file.mkdirs()) {
-                    throw new IOException(RB.$("ERROR_files_unpack_fail_dir", file));
+                if (entry.isDirectory()) {
+                    enqueue(queue, writer, UnpackChunk.directory(entry.getName(), file));
+                } else if (isSymbolicLink(entry)) {
+                    enqueue(queue, writer, UnpackChunk.symlink(entry.getName(), file, getLinkName(in, entry)));
+                } else {
+                    enqueue(queue, writer, UnpackChunk.file(entry.getName(), file, entry.getLastModifiedDate(), getEntryMode(entry, file)));
+                    byte[] buffer = new byte[UNPACK_CHUNK_SIZE];
+                    int read = 0;
+                    while ((read = IOUtils.read(in, buffer)) > 0) {
+                        enqueue(queue, writer, UnpackChunk.data(buffer, read));
+                        if (read < buffer.length) break;
+                        buffer = new byte[UNPACK_CHUNK_SIZE];
+                    }
+                    enqueue(queue, writer, UnpackChunk.END_OF_FILE);
                 }
-            } else {
-                File parent = file.getParentFile();
-                if (!parent.isDirectory() && !parent.mkdirs()) {
-                    throw new IOException(RB.$("ERROR_files_unpack_fail_dir", parent));
+            }
+            enqueue(queue, writer, UnpackChunk.END_OF_ARCHIVE);
+            await(writer);
+        } finally {
+            writer.cancel(true);
+            executor.shutdownNow();
+        }
+    }
+
+    private static void enqueue(BlockingQueue<UnpackChunk> queue, Future<?> writer, UnpackChunk chunk) throws IOException {
+        try {
+            while (!queue.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+                if (writer.isDone()) {
+                    // the writer failed, surface its error
+                    await(writer);
+                    return;
                 }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        }
+    }
 
-                if (isSymbolicLink(entry)) {
-                    Files.createSymbolicLink(file.toPath(), Paths.get(getLinkName(in, entry)));
-                } else {
-                    try (OutputStream o = Files.newOutputStream(file.toPath())) {
-                        IOUtils.copy(in, o);
-                        Files.setLastModifiedTime(file.toPath(), FileTime.from(entry.getLastModifiedDate().toInstant()));
-                        chmod(file, getEntryMode(entry, file));
-                    }
+    private static void writeChunks(File destinationDir, BlockingQueue<UnpackChunk> queue) throws IOException, InterruptedException {
+        UnpackChunk current = null;
+        OutputStream out = null;
+        try {
+            while (true) {
+                UnpackChunk chunk = queue.take();
+                // the reader checks entries before earlier links exist on disk, check again right before writing
+                if (null != chunk.file) checkInsideTarget(destinationDir, chunk.file, chunk.entryName);
+                switch (chunk.type) {
+                    case DIRECTORY:
+                        if (!chunk.file.isDirectory() && !chunk.file.mkdirs()) {
+                            throw new IOException(RB.$("ERROR_files_unpack_fail_dir", chunk.file));
+                        }
+                        break;
+                    case SYMLINK:
+                        createParentDirectory(chunk.file);
+                        Files.createSymbolicLink(chunk.file.toPath(), Paths.get(chunk.linkName));
+                        break;
+                    case FILE:
+                        createParentDirectory(chunk.file);
+                        current = chunk;
+                        out = Files.newOutputStream(chunk.file.toPath());
+                        break;
+                    case DATA:
+                        out.write(chunk.data, 0, chunk.length);
+                        break;
+                    case END_OF_FILE:
+                        out.close();
+                        out = null;
+                        Files.setLastModifiedTime(current.file.toPath(), FileTime.from(current.lastModified.toInstant()));
+                        chmod(current.file, current.mode);
+                        break;
+                    default:
+                        return;
                 }
             }
+        } finally {
+            if (null != out) out.close();
         }
     }
 
-    private static void unpackArchive(String basename, File destinationDir, ZipFile zipFile) throws IOException {
-        Enumeration<ZipArchiveEntry> entries = zipFile.getEntries();
-        while (entries.hasMoreElements()) {
-            ZipArchiveEntry entry = entries.nextElement();
+    private static void await(Future<?> future) throws IOException {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new IOException(cause.getMessage(), cause);
+        }
+    }
+
+    private static void unpackArchive(String basename, File destinationDir, Path src, ZipFile zipFile) throws IOException {
+        List<ZipArchiveEntry> entries = Collections.list(zipFile.getEntries());
+        List<Integer> files = new ArrayList<>();
+        List<File> targets = new ArrayList<>();
+
+        // directories and links first, file contents may be extracted in parallel afterwards
+        for (int i = 0; i < entries.size(); i++) {
+            ZipArchiveEntry entry = entries.get(i);
             if (!zipFile.canReadEntryData(entry)) {
                 // log something?
                 continue;
             }
 
-            String entryName = entry.getName();
-            if (isNotBlank(basename) && entryName.startsWith(basename) && entryName.length() > basename.length() + 1) {
-                entryName = entryName.substring(basename.length());
-            }
-
-            File file = new File(destinationDir, entryName);
-            String destDirPath = destinationDir.getCanonicalPath();
-            String destFilePath = file.getCanonicalPath();
-            if (!destFilePath.startsWith(destDirPath + File.separator)) {
-                throw new IOException(RB.$("ERROR_files_unpack_outside_target", entry.getName()));
-            }
+            File file = resolveEntryFile(basename, destinationDir, entry);
 
             if (entry.isDirectory()) {
                 if (!file.isDirectory() && !file.mkdirs()) {
                     throw new IOException(RB.$("ERROR_files_unpack_fail_dir", file));
                 }
             } else {
-                File parent = file.getParentFile();
-                if (!parent.isDirectory() && !parent.mkdirs()) {
-                    throw new IOException(RB.$("ERROR_files_unpack_fail_dir", parent));
-                }
-
+                createParentDirectory(file);
                 if (entry.isUnixSymlink()) {
                     Files.createSymbolicLink(file.toPath(), Paths.get(zipFile.getUnixSymlink(entry)));
                 } else {
-                    try (OutputStream o = Files.newOutputStream(file.toPath())) {
-                        IOUtils.copy(zipFile.getInputStream(entry), o);
-                        Files.setLastModifiedTime(file.toPath(), FileTime.from(entry.getLastModifiedDate().toInstant()));
-                        chmod(file, getEntryMode(entry, file));
-                    }
+                    files.add(i);
+                    targets.add(file);
                 }
             }
         }
+
+        int workers = Math.min(Runtime.getRuntime().availableProcessors(), files.size() / UNPACK_ENTRIES_PER_WORKER);
+        if (workers < 2) {
+            unpackZipEntries(destinationDir, zipFile, entries, files, targets, 0, files.size());
+            return;
+        }
+
+        // each worker reads from its own ZipFile, entries are listed in the same central directory order
+        ExecutorService executor = Executors.newFixedThreadPool(workers, unpackThreadFactory());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            int size = (files.size() + workers - 1) / workers;
+            for (int start = 0; start < files.size(); start += size) {
+                int from = start;
+                int to = Math.min(start + size, files.size());
+                futures.add(executor.submit(() -> {
+                    try (ZipFile zf = ZipFile.builder().setFile(src.toFile()).get()) {
+                        unpackZipEntries(destinationDir, zf, Collections.list(zf.getEntries()), files, targets, from, to);
+                    }
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                await(future);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void unpackZipEntries(File destinationDir, ZipFile zipFile, List<ZipArchiveEntry> entries, List<Integer> files, List<File> targets, int from, int to) throws IOException {
+        for (int i = from; i < to; i++) {
+            ZipArchiveEntry entry = entries.get(files.get(i));
+            File file = targets.get(i);
+            // links are created after files are listed, check again right before writing
+            checkInsideTarget(destinationDir, file, entry.getName());
+            try (InputStream in = zipFile.getInputStream(entry);
+                 OutputStream o = Files.newOutputStream(file.toPath())) {
+                IOUtils.copy(in, o);
+            }
+            Files.setLastModifiedTime(file.toPath(), FileTime.from(entry.getLastModifiedDate().toInstant()));
+            chmod(file, getEntryMode(entry, file));
+        }
+    }
+
+    private static File resolveEntryFile(String basename, File destinationDir, ArchiveEntry entry) throws IOException {
+        String entryName = entry.getName();
+        if (isNotBlank(basename) && entryName.startsWith(basename) && entryName.length() > basename.length() + 1) {
+            entryName = entryName.substring(basename.length());
+        }
+
+        File file = new File(destinationDir, entryName);
+        checkInsideTarget(destinationDir, file, entry.getName());
+
+        return file;
+    }
+
+    private static void checkInsideTarget(File destinationDir, File file, String entryName) throws IOException {
+        String destDirPath = destinationDir.getCanonicalPath();
+        String destFilePath = file.getCanonicalPath();
+        if (!destFilePath.startsWith(destDirPath + File.separator)) {
+            throw new IOException(RB.$("ERROR_files_unpack_outside_target", entryName));
+        }
+    }
+
+    private static void createParentDirectory(File file) throws IOException {
+        File parent = file.getParentFile();
+        if (!parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException(RB.$("ERROR_files_unpack_fail_dir", parent));
+        }
+    }
+
+    private static ThreadFactory unpackThreadFactory() {
+        AtomicInteger counter = new AtomicInteger(1);
+        return r -> {
+            Thread t = Executors.defaultThreadFactory().newThread(r);
+            t.setDaemon(true);
+            t.setName("jreleaser-unpack-" + counter.getAndIncrement());
+            return t;
+        };
     }
 
     private static boolean isSymbolicLink(ArchiveEntry entry) {
@@ -975,7 +1177,10 @@ public final class FileUtils {
                 stream
                     .sorted(Comparator.reverseOrder())
                     .map(Path::toFile)
-                    .forEach(File::delete);
+                    .forEach(file -> {
+                        // Windows refuses to delete read-only files, such as links into the unpack cache
+                        if (!file.delete() && file.setWritable(true)) file.delete();
+                    });
             }
             if (!keepRoot) Files.deleteIfExists(path);
         }
@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Process-wide cache of {@code ServiceLoader} providers.
+ * <p>
+ * Providers are looked up in the classloader of the service type followed by every
+ * registered extension classloader. Results are cached per service type until a
+ * classloader is registered or unregistered. Cached providers are shared, thus they
+ * must be stateless. Owners of an extension classloader must unregister it once they
+ * are done with it, otherwise it stays reachable for the lifetime of the process.
+ *
+ * @author Andres Almiray
+ * @since 1.26.0
+ */
+public final class ServiceRegistry {
+    private static final List<ClassLoader> CLASS_LOADERS = new CopyOnWriteArrayList<>();
+    private static final Map<Class<?>, List<?>> PROVIDERS = new ConcurrentHashMap<>();
+
+    private ServiceRegistry() {
+        // noop
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <S> List<S> load(Class<S> type) {
+        return (List<S>) PROVIDERS.computeIfAbsent(type, ServiceRegistry::scan);
+    }
+
+    public static void registerClassLoader(ClassLoader classLoader) {
+        if (null != classLoader && !CLASS_LOADERS.contains(classLoader)) {
+            CLASS_LOADERS.add(classLoader);
+            invalidate();
+        }
+    }
+
+    public static void unregisterClassLoader(ClassLoader classLoader) {
+        if (null != classLoader && CLASS_LOADERS.remove(classLoader)) {
+            // drop cached lists holding providers defined by the classloader
+            PROVIDERS.values().removeIf(providers -> providers.stream()
+                .anyMatch(provider -> provider.getClass().getClassLoader() == classLoader));
+        }
+    }
+
+    public static void invalidate() {
+        PROVIDERS.clear();
+    }
+
+    private static <S> List<S> scan(Class<S> type) {
+        List<S> providers = new ArrayList<>();
+        Set<String> visited = new LinkedHashSet<>();
+
+        collect(type, type.getClassLoader(), providers, visited);
+        for (ClassLoader classLoader : CLASS_LOADERS) {
+            collect(type, classLoader, providers, visited);
+        }
+
+        return Collections.unmodifiableList(providers);
+    }
+
+    private static <S> void collect(Class<S> type, ClassLoader classLoader, List<S> providers, Set<String> visited) {
+        for (S provider : ServiceLoader.load(type, classLoader)) {
+            // extension classloaders delegate to their parent, skip providers seen already
+            if (visited.add(provider.getClass().getName())) {
+                providers.add(provider);
+            }
+        }
+    }
+}
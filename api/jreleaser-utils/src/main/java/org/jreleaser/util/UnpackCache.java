@@ -0,0 +1,230 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.COPY_ATTRIBUTES;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Content-addressed cache of unpacked archives.
+ * <p>
+ * Each archive is unpacked once into a directory keyed by its SHA-256 digest. An entry
+ * is valid only once its marker file exists, which is written after the unpacked
+ * directory has been moved into place. Entries are materialized into destination
+ * directories with hard links, falling back to copies when links are not supported.
+ * Cached files are made read-only, as writing through a link would corrupt the entry.
+ * Least recently used entries are evicted when the total size exceeds the configured limit.
+ * <p>
+ * Lookups, stores, evictions and materializations hold a lock on the cache directory,
+ * so processes sharing the cache never evict an entry that another one is reading.
+ *
+ * @author Andres Almiray
+ * @since 1.26.0
+ */
+public final class UnpackCache {
+    private static final String MARKER_EXTENSION = ".complete";
+    private static final String LOCK_FILE = ".lock";
+    // file locks are held per process, threads of this process queue here first
+    private static final Object LOCK = new Object();
+
+    private final Path directory;
+    private final long maxSize;
+    private boolean linksSupported = true;
+
+    public UnpackCache(Path directory, long maxSize) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+    }
+
+    public void unpackArchive(Path archive, Path dest, boolean removeRootEntry) throws IOException {
+        if (maxSize <= 0) {
+            FileUtils.unpackArchive(archive, dest, removeRootEntry);
+            return;
+        }
+
+        String key = resolveKey(archive, removeRootEntry);
+        Path entry = directory.resolve(key);
+        Path marker = directory.resolve(key + MARKER_EXTENSION);
+
+        Files.createDirectories(directory);
+        synchronized (LOCK) {
+            try (FileChannel channel = FileChannel.open(directory.resolve(LOCK_FILE), CREATE, WRITE);
+                 FileLock ignored = channel.lock()) {
+                if (Files.exists(marker) && Files.isDirectory(entry)) {
+                    Files.setLastModifiedTime(marker, FileTime.fromMillis(System.currentTimeMillis()));
+                } else {
+                    store(archive, removeRootEntry, entry, marker);
+                    evict(marker);
+                }
+
+                materialize(entry, dest);
+            }
+        }
+    }
+
+    private String resolveKey(Path archive, boolean removeRootEntry) throws IOException {
+        String digest = ChecksumCache.checksum(archive, Algorithm.SHA_256);
+
+        // the file extension selects the unpack strategy, root removal changes the layout
+        return DigestUtils.sha256Hex(digest + "\n" + archive.getFileName() + "\n" + removeRootEntry);
+    }
+
+    private void store(Path archive, boolean removeRootEntry, Path entry, Path marker) throws IOException {
+        FileUtils.deleteFiles(entry);
+
+        Path tmp = directory.resolve(entry.getFileName() + ".tmp-" + UUID.randomUUID());
+        try {
+            FileUtils.unpackArchive(archive, tmp, removeRootEntry);
+            long size = computeSize(tmp);
+            makeReadOnly(tmp);
+
+            try {
+                Files.move(tmp, entry, ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, entry);
+            }
+
+            Path tmpMarker = directory.resolve(marker.getFileName() + ".tmp-" + UUID.randomUUID());
+            Files.write(tmpMarker, String.valueOf(size).getBytes(UTF_8));
+            try {
+                Files.move(tmpMarker, marker, ATOMIC_MOVE, REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmpMarker, marker, REPLACE_EXISTING);
+            }
+        } finally {
+            FileUtils.deleteFiles(tmp);
+        }
+    }
+
+    private void evict(Path current) throws IOException {
+        List<Path> markers = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + MARKER_EXTENSION)) {
+            stream.forEach(markers::add);
+        }
+        markers.sort(Comparator.comparing(UnpackCache::lastModified).reversed());
+
+        long total = 0;
+        for (Path marker : markers) {
+            total += readSize(marker);
+            if (total > maxSize && !marker.equals(current)) {
+                String name = marker.getFileName().toString();
+                Files.deleteIfExists(marker);
+                FileUtils.deleteFiles(directory.resolve(name.substring(0, name.length() - MARKER_EXTENSION.length())));
+            }
+        }
+    }
+
+    private void materialize(Path entry, Path dest) throws IOException {
+        FileUtils.deleteFiles(dest, true);
+        Files.createDirectories(dest);
+
+        Files.walkFileTree(entry, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                Files.createDirectories(dest.resolve(entry.relativize(dir).toString()));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Path target = dest.resolve(entry.relativize(file).toString());
+                if (attrs.isSymbolicLink()) {
+                    Files.createSymbolicLink(target, Files.readSymbolicLink(file));
+                } else {
+                    link(file, target);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private void link(Path source, Path target) throws IOException {
+        if (linksSupported) {
+            try {
+                Files.createLink(target, source);
+                return;
+            } catch (IOException | UnsupportedOperationException e) {
+                // cross device or unsupported file system
+                linksSupported = false;
+            }
+        }
+
+        Files.copy(source, target, COPY_ATTRIBUTES);
+    }
+
+    private static void makeReadOnly(Path path) throws IOException {
+        Files.walkFileTree(path, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (!attrs.isSymbolicLink()) file.toFile().setWritable(false, false);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static long computeSize(Path path) throws IOException {
+        AtomicLong size = new AtomicLong();
+        Files.walkFileTree(path, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                size.addAndGet(attrs.size());
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return size.get();
+    }
+
+    private static long readSize(Path marker) {
+        try {
+            return Long.parseLong(new String(Files.readAllBytes(marker), UTF_8).trim());
+        } catch (IOException | NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private static long lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+}
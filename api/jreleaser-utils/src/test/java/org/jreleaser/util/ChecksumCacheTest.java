@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class ChecksumCacheTest {
+    private static final String JRELEASER = "d561fd74d2ebaff0b5c1e4ff4b0b918e09ba041e0eeccca1c12b801441b68fdb";
+
+    @AfterEach
+    void cleanup() {
+        ChecksumCache.clear();
+    }
+
+    @Test
+    void testEntriesAreReusedUntilCleared(@TempDir Path directory) throws IOException {
+        // given:
+        Path file = directory.resolve("file.txt");
+        Files.write(file, "JRELEASER\n".getBytes(UTF_8));
+        FileTime lastModified = Files.getLastModifiedTime(file);
+        assertThat(ChecksumCache.checksum(file, Algorithm.SHA_256), equalTo(JRELEASER));
+
+        // when:
+        // same size and modification time
+        Files.write(file, "jreleaser\n".getBytes(UTF_8));
+        Files.setLastModifiedTime(file, lastModified);
+
+        // then:
+        assertThat(ChecksumCache.checksum(file, Algorithm.SHA_256), equalTo(JRELEASER));
+
+        // when:
+        ChecksumCache.clear();
+
+        // then:
+        assertThat(ChecksumCache.checksum(file, Algorithm.SHA_256),
+            equalTo(ChecksumUtils.checksum(Algorithm.SHA_256, "jreleaser\n".getBytes(UTF_8))));
+    }
+
+    @Test
+    void testEntriesAreDiscardedWhenFileChanges(@TempDir Path directory) throws IOException {
+        // given:
+        Path file = directory.resolve("file.txt");
+        Files.write(file, "JRELEASER\n".getBytes(UTF_8));
+        FileTime lastModified = Files.getLastModifiedTime(file);
+        assertThat(ChecksumCache.checksum(file, Algorithm.SHA_256), equalTo(JRELEASER));
+
+        // when:
+        Files.write(file, "jreleaser\n".getBytes(UTF_8));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified.toMillis() + 2000));
+
+        // then:
+        assertThat(ChecksumCache.checksum(file, Algorithm.SHA_256),
+            equalTo(ChecksumUtils.checksum(Algorithm.SHA_256, "jreleaser\n".getBytes(UTF_8))));
+    }
+}
@@ -23,6 +23,10 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -61,6 +65,21 @@ class ChecksumUtilsTest {
         assertThat(actual, equalTo(expected));
     }
 
+    @Test
+    void testChecksumsOfFile() throws IOException {
+        // given:
+        Path file = Files.createTempFile("checksums", ".txt");
+        Files.write(file, "JRELEASER\n".getBytes(UTF_8));
+
+        // when:
+        Map<Algorithm, String> actual = ChecksumUtils.checksums(file, Arrays.asList(Algorithm.SHA_1, Algorithm.RMD160, Algorithm.SHA_256));
+
+        // then:
+        assertThat(actual.get(Algorithm.SHA_1), equalTo("caa084c608363078d6e7185c8cff1aca897cba23"));
+        assertThat(actual.get(Algorithm.RMD160), equalTo("c419193a7fbb103de91b50c9ca4c9c4153842ade"));
+        assertThat(actual.get(Algorithm.SHA_256), equalTo("d561fd74d2ebaff0b5c1e4ff4b0b918e09ba041e0eeccca1c12b801441b68fdb"));
+    }
+
     private static Stream<Arguments> algorithm_factory() {
         return Stream.of(
             Arguments.of(null, null),
@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DownloadEngineTest {
+    private static final byte[] DATA = new byte[200_000];
+
+    static {
+        new Random(42).nextBytes(DATA);
+    }
+
+    @Test
+    void testResumeAfterDroppedConnection() throws IOException {
+        // given:
+        Path tmp = Files.createTempDirectory("download");
+        Path output = tmp.resolve("file.bin");
+        List<Long> offsets = new ArrayList<>();
+        DownloadEngine.Transport transport = (input, offset, validators) -> {
+            offsets.add(offset);
+            DownloadEngine.Validators received = new DownloadEngine.Validators("\"1\"", null);
+            if (offset == 0) {
+                return DownloadEngine.Response.full(new DroppingInputStream(DATA, 0, 50_000), received, null);
+            }
+            return DownloadEngine.Response.partial(new ByteArrayInputStream(DATA, (int) offset, DATA.length - (int) offset), received, null);
+        };
+
+        // when:
+        new DownloadEngine(new SimpleJReleaserLoggerAdapter(), null, 0L, 1)
+            .download(transport, new DownloadEngine.Request("file.bin", output, "sha256:" + DigestUtils.sha256Hex(DATA)));
+
+        // then:
+        assertEquals(2, offsets.size());
+        assertEquals(50_000L, offsets.get(1).longValue());
+        assertArrayEquals(DATA, Files.readAllBytes(output));
+        assertFalse(Files.exists(tmp.resolve("file.bin.part")));
+    }
+
+    @Test
+    void testChecksumMismatch() throws IOException {
+        // given:
+        Path tmp = Files.createTempDirectory("download");
+        Path output = tmp.resolve("file.bin");
+        DownloadEngine.Transport transport = (input, offset, validators) ->
+            DownloadEngine.Response.full(new ByteArrayInputStream(DATA), null, null);
+
+        // when:
+        DownloadEngine engine = new DownloadEngine(new SimpleJReleaserLoggerAdapter(), null, 0L, 1);
+
+        // then:
+        assertThrows(IOException.class, () -> engine.download(transport, new DownloadEngine.Request("file.bin", output, "sha256:00")));
+        assertFalse(Files.exists(output));
+        assertFalse(Files.exists(tmp.resolve("file.bin.part")));
+    }
+
+    @Test
+    void testSameResourceIsTransferredOnce() throws IOException {
+        // given:
+        Path tmp = Files.createTempDirectory("download");
+        Path first = tmp.resolve("first.bin");
+        Path second = tmp.resolve("second.bin");
+        List<DownloadEngine.Validators> opened = Collections.synchronizedList(new ArrayList<>());
+        DownloadEngine.Transport transport = (input, offset, validators) -> {
+            opened.add(validators);
+            if (null != validators) {
+                return DownloadEngine.Response.notModified(null);
+            }
+            return DownloadEngine.Response.full(new ByteArrayInputStream(DATA), new DownloadEngine.Validators("\"1\"", null), null);
+        };
+
+        // when:
+        new DownloadEngine(new SimpleJReleaserLoggerAdapter(), tmp.resolve("cache"), 1_000_000L, 4)
+            .download(transport, Arrays.asList(
+                new DownloadEngine.Request("file.bin", first),
+                new DownloadEngine.Request("file.bin", first),
+                new DownloadEngine.Request("file.bin", second)));
+
+        // then:
+        assertEquals(2, opened.size());
+        assertNull(opened.get(0));
+        assertNotNull(opened.get(1));
+        assertArrayEquals(DATA, Files.readAllBytes(first));
+        assertArrayEquals(DATA, Files.readAllBytes(second));
+    }
+
+    private static final class DroppingInputStream extends InputStream {
+        private final InputStream delegate;
+
+        private DroppingInputStream(byte[] data, int offset, int length) {
+            this.delegate = new ByteArrayInputStream(data, offset, length);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b == -1) throw new IOException("connection reset");
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = delegate.read(b, off, len);
+            if (read == -1) throw new IOException("connection reset");
+            return read;
+        }
+    }
+}
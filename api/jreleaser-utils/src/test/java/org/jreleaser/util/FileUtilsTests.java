@@ -17,17 +17,25 @@
  */
 package org.jreleaser.util;
 
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.jreleaser.test.Platform;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -64,4 +72,62 @@ class FileUtilsTests {
         assertTrue(() -> Files.exists(executable), "executable exists");
         assertTrue(() -> Files.isExecutable(executable), "executable has executable bit set");
     }
+
+    @ParameterizedTest
+    @EnumSource(value = FileType.class, names = {"TAR_GZ", "ZIP"})
+    @Platform(platform = "windows", match = false)
+    void unpackArchiveWithManyEntries(FileType fileType) throws IOException {
+        // given:
+        Path src = Files.createTempDirectory(fileType.name());
+        Path root = src.resolve("app-1.0.0");
+        for (int i = 0; i < 2000; i++) {
+            Path file = root.resolve("dir" + (i % 10)).resolve("file" + i + ".txt");
+            Files.createDirectories(file.getParent());
+            Files.write(file, ("content " + i).getBytes(UTF_8));
+        }
+        Path tmp1 = Files.createTempDirectory(fileType.name());
+        Path tmp2 = Files.createTempDirectory(fileType.name());
+        Path archive = tmp1.resolve("app-1.0.0" + fileType.extension());
+
+        // when:
+        FileUtils.packArchive(src, archive);
+        FileUtils.unpackArchive(archive, tmp2);
+
+        // then:
+        for (int i = 0; i < 2000; i++) {
+            Path file = tmp2.resolve("dir" + (i % 10)).resolve("file" + i + ".txt");
+            assertEquals("content " + i, new String(Files.readAllBytes(file), UTF_8));
+        }
+    }
+
+    @Test
+    @Platform(platform = "windows", match = false)
+    void unpackArchiveRejectsEntryWrittenThroughSymlink() throws IOException {
+        // given:
+        Path outside = Files.createTempDirectory("outside");
+        Path tmp1 = Files.createTempDirectory("TAR");
+        Path tmp2 = Files.createTempDirectory("TAR");
+        Path archive = tmp1.resolve("app-1.0.0.tar");
+
+        byte[] content = "pwned".getBytes(UTF_8);
+        try (OutputStream out = Files.newOutputStream(archive);
+             TarArchiveOutputStream tar = new TarArchiveOutputStream(out)) {
+            TarArchiveEntry link = new TarArchiveEntry("lib", TarArchiveEntry.LF_SYMLINK);
+            link.setLinkName(outside.toAbsolutePath().toString());
+            tar.putArchiveEntry(link);
+            tar.closeArchiveEntry();
+
+            TarArchiveEntry file = new TarArchiveEntry("lib/passwd");
+            file.setSize(content.length);
+            tar.putArchiveEntry(file);
+            tar.write(content);
+            tar.closeArchiveEntry();
+        }
+
+        // when:
+        assertThrows(IOException.class, () -> FileUtils.unpackArchive(archive, tmp2, false));
+
+        // then:
+        assertFalse(Files.exists(outside.resolve("passwd")), "entry was not written outside of the target dir");
+    }
 }
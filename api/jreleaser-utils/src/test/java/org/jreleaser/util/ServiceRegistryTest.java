@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.spi.FileSystemProvider;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ServiceRegistryTest {
+    private URLClassLoader classLoader;
+
+    @AfterEach
+    void cleanup() throws IOException {
+        if (null != classLoader) {
+            ServiceRegistry.unregisterClassLoader(classLoader);
+            classLoader.close();
+        }
+        ServiceRegistry.invalidate();
+    }
+
+    @Test
+    void testProvidersAreCachedUntilClassLoaderIsRegistered() {
+        // given:
+        List<FileSystemProvider> providers = ServiceRegistry.load(FileSystemProvider.class);
+
+        // then:
+        assertSame(providers, ServiceRegistry.load(FileSystemProvider.class));
+
+        // when:
+        classLoader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+        ServiceRegistry.registerClassLoader(classLoader);
+        List<FileSystemProvider> reloaded = ServiceRegistry.load(FileSystemProvider.class);
+
+        // then:
+        assertNotSame(providers, reloaded);
+        assertEquals(providers.size(), reloaded.size());
+    }
+
+    @Test
+    void testUnregisteredClassLoaderIsReleased(@TempDir Path services) throws IOException {
+        // given:
+        Path descriptor = services.resolve("META-INF/services/" + Greeter.class.getName());
+        Files.createDirectories(descriptor.getParent());
+        Files.write(descriptor, EnglishGreeter.class.getName().getBytes(UTF_8));
+        classLoader = new ExtensionClassLoader(services.toUri().toURL(), getClass().getClassLoader());
+        ServiceRegistry.registerClassLoader(classLoader);
+        List<Greeter> providers = ServiceRegistry.load(Greeter.class);
+
+        // then:
+        assertEquals(1, providers.size());
+        assertSame(classLoader, providers.get(0).getClass().getClassLoader());
+        assertSame(providers, ServiceRegistry.load(Greeter.class));
+
+        // when:
+        ServiceRegistry.unregisterClassLoader(classLoader);
+        List<Greeter> reloaded = ServiceRegistry.load(Greeter.class);
+
+        // then:
+        assertNotSame(providers, reloaded);
+        assertTrue(reloaded.isEmpty());
+    }
+
+    public interface Greeter {
+        String greet();
+    }
+
+    public static class EnglishGreeter implements Greeter {
+        @Override
+        public String greet() {
+            return "hello";
+        }
+    }
+
+    /**
+     * Defines {@link EnglishGreeter} on its own, like an extension jar would.
+     */
+    private static final class ExtensionClassLoader extends URLClassLoader {
+        private ExtensionClassLoader(URL url, ClassLoader parent) {
+            super(new URL[]{url}, parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!EnglishGreeter.class.getName().equals(name)) return super.loadClass(name, resolve);
+
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> c = findLoadedClass(name);
+                if (null == c) {
+                    byte[] bytes = readClass(name);
+                    c = defineClass(name, bytes, 0, bytes.length);
+                }
+                if (resolve) resolveClass(c);
+                return c;
+            }
+        }
+
+        private byte[] readClass(String name) throws ClassNotFoundException {
+            String resource = name.replace('.', '/') + ".class";
+            try (InputStream in = getParent().getResourceAsStream(resource)) {
+                if (null == in) throw new ClassNotFoundException(name);
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4096];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+                return out.toByteArray();
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+    }
+}
@@ -35,16 +35,24 @@ import org.jreleaser.sdk.command.Command;
 import org.jreleaser.sdk.command.CommandException;
 import org.jreleaser.sdk.command.CommandExecutor;
 import org.jreleaser.templates.TemplateResource;
+import org.jreleaser.util.Env;
 import org.jreleaser.util.FileUtils;
 import org.jreleaser.util.PlatformUtils;
+import org.jreleaser.util.UnpackCache;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
@@ -59,6 +67,7 @@ import static org.jreleaser.templates.TemplateUtils.trimTplExtension;
 import static org.jreleaser.util.FileUtils.createDirectoriesWithFullAccess;
 import static org.jreleaser.util.FileUtils.grantFullAccess;
 import static org.jreleaser.util.PlatformUtils.isWindows;
+import static org.jreleaser.util.StringUtils.isBlank;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 import static org.jreleaser.util.StringUtils.quote;
 
@@ -74,8 +83,13 @@ public abstract class AbstractAssemblerProcessor<A extends org.jreleaser.model.a
     public static final String WORK_DIRECTORY = "work";
     public static final String JARS_DIRECTORY = "jars";
     public static final String ARCHIVE_DIRECTORY = "archive";
+    public static final String UNPACK_CACHE_SIZE = "UNPACK_CACHE_SIZE";
+    // JDK and GraalVM archives rarely change between runs, 4 GiB hold a handful of platforms
+    private static final long DEFAULT_UNPACK_CACHE_SIZE = 4096L;
+    private static final String JDKS_DIRECTORY = "jdks";
 
     protected final JReleaserContext context;
+    private final Map<Artifact, Path> javaHomes = new HashMap<>();
     protected S assembler;
 
     protected AbstractAssemblerProcessor(JReleaserContext context) {
@@ -241,26 +255,47 @@ public abstract class AbstractAssemblerProcessor<A extends org.jreleaser.model.a
     }
 
     protected void copyArtifacts(JReleaserContext context, TemplateContext additionalContext, Path destination, String platformConstraint, boolean filterByPlatform) throws AssemblerProcessingException {
+        copyResolvedArtifacts(context, resolveArtifacts(context, additionalContext, platformConstraint, filterByPlatform), destination);
+    }
+
+    /**
+     * Resolves the artifacts to be copied, keyed by their path relative to the destination,
+     * as {@link #resolveFiles} does for files.
+     */
+    protected Map<Path, Path> resolveArtifacts(JReleaserContext context, TemplateContext additionalContext, String platformConstraint, boolean filterByPlatform) {
+        Map<Path, Path> artifacts = new LinkedHashMap<>();
+
+        for (Artifact artifact : assembler.getArtifacts()) {
+            if (!artifact.resolveEnabled(context.getModel().getProject())) continue;
+            Path incoming = artifact.getResolvedPath(context, additionalContext, assembler);
+            if (artifact.isOptional(context) && !artifact.resolvedPathExists()) continue;
+            String platform = artifact.getPlatform();
+            if (filterByPlatform && isNotBlank(platformConstraint) && isNotBlank(platform) && !PlatformUtils.isCompatible(platformConstraint, platform)) {
+                context.getLogger().debug(RB.$("assembler.artifact.filter"), incoming.getFileName());
+                continue;
+            }
+            Path outgoing = incoming.getFileName();
+
+            String transform = artifact.getTransform();
+            if (isNotBlank(transform)) {
+                if (transform.startsWith("/")) transform = transform.substring(1);
+                outgoing = Paths.get(Artifacts.resolveForArtifact(transform, context, additionalContext, artifact, assembler));
+            }
+            // later artifacts replace earlier ones with the same target
+            artifacts.remove(outgoing);
+            artifacts.put(outgoing, incoming);
+        }
+
+        return artifacts;
+    }
+
+    protected void copyResolvedArtifacts(JReleaserContext context, Map<Path, Path> artifacts, Path destination) throws AssemblerProcessingException {
         try {
             Files.createDirectories(destination);
 
-            for (Artifact artifact : assembler.getArtifacts()) {
-                if (!artifact.resolveEnabled(context.getModel().getProject())) continue;
-                Path incoming = artifact.getResolvedPath(context, additionalContext, assembler);
-                if (artifact.isOptional(context) && !artifact.resolvedPathExists()) continue;
-                String platform = artifact.getPlatform();
-                if (filterByPlatform && isNotBlank(platformConstraint) && isNotBlank(platform) && !PlatformUtils.isCompatible(platformConstraint, platform)) {
-                    context.getLogger().debug(RB.$("assembler.artifact.filter"), incoming.getFileName());
-                    continue;
-                }
-                Path outgoing = incoming.getFileName();
-
-                String transform = artifact.getTransform();
-                if (isNotBlank(transform)) {
-                    if (transform.startsWith("/")) transform = transform.substring(1);
-                    outgoing = Paths.get(Artifacts.resolveForArtifact(transform, context, additionalContext, artifact, assembler));
-                }
-                outgoing = destination.resolve(outgoing);
+            for (Map.Entry<Path, Path> e : artifacts.entrySet()) {
+                Path incoming = e.getValue();
+                Path outgoing = destination.resolve(e.getKey());
                 Files.createDirectories(outgoing.getParent());
 
                 context.getLogger().debug(RB.$("assembler.copying"), incoming.getFileName());
@@ -276,9 +311,16 @@ public abstract class AbstractAssemblerProcessor<A extends org.jreleaser.model.a
     }
 
     protected void copyFiles(JReleaserContext context, TemplateContext additionalContext, Path destination) throws AssemblerProcessingException {
+        copyResolvedFiles(context, resolveFiles(context, additionalContext), destination);
+    }
+
+    /**
+     * Resolves the paths of all files. Resolution updates the shared model, thus it must
+     * happen on a single thread before files are copied concurrently.
+     */
+    protected Set<Path> resolveFiles(JReleaserContext context, TemplateContext additionalContext) {
         Set<Path> paths = new LinkedHashSet<>();
 
-        // resolve all first
         for (Glob glob : assembler.getFiles()) {
             if (!glob.resolveActiveAndSelected(context)) continue;
             glob.getResolvedArtifacts(context, additionalContext).stream()
@@ -286,7 +328,10 @@ public abstract class AbstractAssemblerProcessor<A extends org.jreleaser.model.a
                 .forEach(paths::add);
         }
 
-        // copy all next
+        return paths;
+    }
+
+    protected void copyResolvedFiles(JReleaserContext context, Set<Path> paths, Path destination) throws AssemblerProcessingException {
         try {
             Files.createDirectories(destination);
             for (Path path : paths) {
@@ -303,19 +348,38 @@ public abstract class AbstractAssemblerProcessor<A extends org.jreleaser.model.a
     }
 
     protected void copyFileSets(JReleaserContext context, TemplateContext additionalContext, Path destination) throws AssemblerProcessingException {
+        copyResolvedFileSets(context, resolveFileSets(context, additionalContext), destination);
+    }
+
+    /**
+     * Resolves the inputs, outputs and paths of all file sets, as {@link #resolveFiles} does for files.
+     */
+    protected List<ResolvedFileSet> resolveFileSets(JReleaserContext context, TemplateContext additionalContext) throws AssemblerProcessingException {
+        List<ResolvedFileSet> fileSets = new ArrayList<>();
+
         try {
             for (FileSet fileSet : assembler.getFileSets()) {
                 if (!fileSet.resolveActiveAndSelected(context)) continue;
-                Path src = context.getBasedir().resolve(fileSet.getResolvedInput(context, additionalContext));
-                Path dest = destination;
+                fileSets.add(new ResolvedFileSet(context.getBasedir().resolve(fileSet.getResolvedInput(context, additionalContext)),
+                    fileSet.getResolvedOutput(context, additionalContext),
+                    fileSet.getResolvedPaths(context, additionalContext)));
+            }
+        } catch (IOException e) {
+            throw new AssemblerProcessingException(RB.$("ERROR_assembler_copying_files"), e);
+        }
 
-                String output = fileSet.getResolvedOutput(context, additionalContext);
-                if (isNotBlank(output)) {
-                    dest = destination.resolve(output);
+        return fileSets;
+    }
+
+    protected void copyResolvedFileSets(JReleaserContext context, List<ResolvedFileSet> fileSets, Path destination) throws AssemblerProcessingException {
+        try {
+            for (ResolvedFileSet fileSet : fileSets) {
+                Path dest = destination;
+                if (isNotBlank(fileSet.output)) {
+                    dest = destination.resolve(fileSet.output);
                 }
 
-                Set<Path> paths = fileSet.getResolvedPaths(context, additionalContext);
-                FileUtils.copyFiles(context.getLogger(), src, dest, paths);
+                FileUtils.copyFiles(context.getLogger(), fileSet.input, dest, fileSet.paths);
             }
         } catch (IOException e) {
             throw new AssemblerProcessingException(RB.$("ERROR_assembler_copying_files"), e);
@@ -334,6 +398,77 @@ public abstract class AbstractAssemblerProcessor<A extends org.jreleaser.model.a
         }
     }
 
+    /**
+     * Resolves the home directory of a JDK or GraalVM. Paths that point to an archive are
+     * unpacked into the assemble directory through the shared unpack cache, which keys
+     * every entry on the checksum of the archive.
+     *
+     * @param jdk    the JDK artifact.
+     * @param shared whether the home may link read-only files from the cache, set to
+     *               {@code false} when the home is modified afterwards.
+     * @return the home directory.
+     */
+    protected Path resolveJavaHome(Artifact jdk, boolean shared) throws AssemblerProcessingException {
+        Path path = jdk.getEffectivePath(context, assembler);
+        if (!Files.isRegularFile(path)) return path;
+
+        Path javaHome = javaHomes.get(jdk);
+        if (null != javaHome) return javaHome;
+
+        Path destination = context.getAssembleDirectory()
+            .resolve(assembler.getName())
+            .resolve(assembler.getType())
+            .resolve(JDKS_DIRECTORY)
+            .resolve(path.getFileName().toString());
+        try {
+            if (shared) {
+                long maxSize = Long.parseLong(Env.resolve(UNPACK_CACHE_SIZE, String.valueOf(DEFAULT_UNPACK_CACHE_SIZE)));
+                new UnpackCache(resolveUnpackCacheDirectory(), maxSize * 1024 * 1024)
+                    .unpackArchive(path, destination, true);
+            } else {
+                FileUtils.unpackArchive(path, destination, true);
+            }
+        } catch (IOException | NumberFormatException e) {
+            throw new AssemblerProcessingException(RB.$("ERROR_unexpected_error"), e);
+        }
+
+        javaHome = findJavaHome(destination);
+        javaHomes.put(jdk, javaHome);
+        return javaHome;
+    }
+
+    private Path findJavaHome(Path directory) {
+        // archives may nest the home inside a versioned directory and/or a macOS bundle
+        List<Path> candidates = new ArrayList<>();
+        candidates.add(directory);
+        try (Stream<Path> children = Files.list(directory)) {
+            children.filter(Files::isDirectory).forEach(candidates::add);
+        } catch (IOException ignored) {
+            // noop
+        }
+
+        for (Path candidate : candidates) {
+            if (Files.exists(candidate.resolve("release"))) return candidate;
+            Path bundleHome = candidate.resolve("Contents").resolve("Home");
+            if (Files.exists(bundleHome.resolve("release"))) return bundleHome;
+        }
+
+        return directory;
+    }
+
+    private Path resolveUnpackCacheDirectory() {
+        String home = System.getenv(Constants.XDG_CACHE_HOME);
+        if (isNotBlank(home)) {
+            return Paths.get(home).resolve("jreleaser").resolve("unpack");
+        }
+
+        home = System.getenv(Constants.JRELEASER_USER_HOME);
+        if (isBlank(home)) {
+            home = System.getProperty("user.home") + File.separator + ".jreleaser";
+        }
+        return Paths.get(home).resolve("caches").resolve("unpack");
+    }
+
     protected String maybeQuote(String str) {
         return isWindows() ? quote(str) : str;
     }
@@ -360,4 +495,16 @@ public abstract class AbstractAssemblerProcessor<A extends org.jreleaser.model.a
         return assembler.getSkipTemplates().stream()
             .anyMatch(fname::matches);
     }
+
+    protected static final class ResolvedFileSet {
+        private final Path input;
+        private final String output;
+        private final Set<Path> paths;
+
+        private ResolvedFileSet(Path input, String output, Set<Path> paths) {
+            this.input = input;
+            this.output = output;
+            this.paths = paths;
+        }
+    }
 }
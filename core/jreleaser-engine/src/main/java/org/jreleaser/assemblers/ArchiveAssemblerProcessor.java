@@ -18,6 +18,7 @@
 package org.jreleaser.assemblers;
 
 import org.jreleaser.bundle.RB;
+import org.jreleaser.extensions.api.ExtensionManagerHolder;
 import org.jreleaser.model.Archive;
 import org.jreleaser.model.Constants;
 import org.jreleaser.model.internal.JReleaserContext;
@@ -31,8 +32,16 @@ import org.jreleaser.util.PlatformUtils;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Collections.emptyMap;
 import static org.jreleaser.model.Constants.KEY_PLATFORM;
@@ -52,25 +61,89 @@ public class ArchiveAssemblerProcessor extends AbstractAssemblerProcessor<org.jr
     protected void doAssemble(TemplateContext props) throws AssemblerProcessingException {
         if (!assembler.getMatrix().isEmpty()) {
             List<Map<String, String>> matrix = assembler.getMatrix().resolve();
+            Map<Integer, Map<String, String>> rows = new LinkedHashMap<>();
             for (int i = 0; i < matrix.size(); i++) {
                 Map<String, String> matrixRow = matrix.get(i);
                 if (matrixRow.containsKey(KEY_PLATFORM)) {
                     String srcPlatform = matrixRow.get(KEY_PLATFORM);
                     if (context.isPlatformSelected(srcPlatform, assembler.getPlatform())) {
-                        doAssemble(props, i, matrixRow);
+                        rows.put(i, matrixRow);
                     }
                 } else {
-                    doAssemble(props, i, matrixRow);
+                    rows.put(i, matrixRow);
+                }
+            }
+
+            if (assembler.isParallel() && rows.size() > 1) {
+                doAssembleConcurrently(props, rows);
+            } else {
+                for (Map.Entry<Integer, Map<String, String>> row : rows.entrySet()) {
+                    doAssemble(props, row.getKey(), row.getValue(), resolveInputs(row.getValue()));
                 }
             }
         } else {
-            doAssemble(props, 0, emptyMap());
+            doAssemble(props, 0, emptyMap(), resolveInputs(emptyMap()));
         }
     }
 
-    private void doAssemble(TemplateContext props, int itemIndex, Map<String, String> matrix) throws AssemblerProcessingException {
+    private RowInputs resolveInputs(Map<String, String> matrix) throws AssemblerProcessingException {
+        TemplateContext additionalContext = Matrix.asTemplateContext(matrix);
+        return new RowInputs(assembler.getResolvedArchiveName(context, matrix),
+            resolveArtifacts(context, additionalContext, PlatformUtils.getCurrentFull(), assembler.isAttachPlatform()),
+            resolveFiles(context, additionalContext),
+            resolveFileSets(context, additionalContext));
+    }
+
+    private void doAssembleConcurrently(TemplateContext props, Map<Integer, Map<String, String>> rows) throws AssemblerProcessingException {
+        // every row stages into its own matrix-<index> directory, rows are awaited
+        // in matrix order so that failures are reported deterministically
+        int workers = Math.min(rows.size(), assembler.getParallelism());
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "jreleaser-archive-" + assembler.getName() + "-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            // artifacts, globs and file sets resolve lazily on the shared model, resolve every
+            // row in matrix order on this thread, leaving only copying and packing to the workers
+            Map<Integer, RowInputs> inputs = new LinkedHashMap<>();
+            for (Map.Entry<Integer, Map<String, String>> row : rows.entrySet()) {
+                inputs.put(row.getKey(), resolveInputs(row.getValue()));
+            }
+
+            // rendering templates writes into the context, every row gets its own copy
+            List<Future<?>> tasks = new ArrayList<>();
+            for (Map.Entry<Integer, Map<String, String>> row : rows.entrySet()) {
+                TemplateContext rowProps = new TemplateContext(props);
+                tasks.add(executor.submit(ExtensionManagerHolder.propagate(() -> {
+                    doAssemble(rowProps, row.getKey(), row.getValue(), inputs.get(row.getKey()));
+                    return null;
+                })));
+            }
+
+            for (Future<?> task : tasks) {
+                try {
+                    task.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new AssemblerProcessingException(RB.$("ERROR_unexpected_error"), e);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof AssemblerProcessingException) {
+                        throw (AssemblerProcessingException) e.getCause();
+                    }
+                    throw new AssemblerProcessingException(RB.$("ERROR_unexpected_error"), e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void doAssemble(TemplateContext props, int itemIndex, Map<String, String> matrix, RowInputs inputs) throws AssemblerProcessingException {
         Path assembleDirectory = props.get(Constants.KEY_DISTRIBUTION_ASSEMBLE_DIRECTORY);
-        String archiveName = assembler.getResolvedArchiveName(context, matrix);
+        String archiveName = inputs.archiveName;
 
         Path workDirectory = assembleDirectory.resolve(WORK_DIRECTORY);
         Path matrixDirectory = workDirectory.resolve("matrix-" + itemIndex);
@@ -92,9 +165,9 @@ public class ArchiveAssemblerProcessor extends AbstractAssemblerProcessor<org.jr
 
         // copy fileSets
         context.getLogger().debug(RB.$("assembler.copy.files"), context.relativizeToBasedir(archiveDirectory));
-        copyArtifacts(context, Matrix.asTemplateContext(matrix), archiveDirectory, PlatformUtils.getCurrentFull(), assembler.isAttachPlatform());
-        copyFiles(context, Matrix.asTemplateContext(matrix), archiveDirectory);
-        copyFileSets(context, Matrix.asTemplateContext(matrix), archiveDirectory);
+        copyResolvedArtifacts(context, inputs.artifacts, archiveDirectory);
+        copyResolvedFiles(context, inputs.files, archiveDirectory);
+        copyResolvedFileSets(context, inputs.fileSets, archiveDirectory);
         generateSwidTag(context, archiveDirectory);
 
         // run archive x format
@@ -117,4 +190,18 @@ public class ArchiveAssemblerProcessor extends AbstractAssemblerProcessor<org.jr
             throw new AssemblerProcessingException(RB.$("ERROR_unexpected_error"), e);
         }
     }
+
+    private static final class RowInputs {
+        private final String archiveName;
+        private final Map<Path, Path> artifacts;
+        private final Set<Path> files;
+        private final List<ResolvedFileSet> fileSets;
+
+        private RowInputs(String archiveName, Map<Path, Path> artifacts, Set<Path> files, List<ResolvedFileSet> fileSets) {
+            this.archiveName = archiveName;
+            this.artifacts = artifacts;
+            this.files = files;
+            this.fileSets = fileSets;
+        }
+    }
 }
@@ -18,6 +18,7 @@
 package org.jreleaser.assemblers;
 
 import org.jreleaser.bundle.RB;
+import org.jreleaser.extensions.api.ExtensionManagerHolder;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.assemble.ArchiveAssembler;
 import org.jreleaser.model.internal.assemble.Assembler;
@@ -28,6 +29,7 @@ import org.jreleaser.model.internal.assemble.NativeImageAssembler;
 import org.jreleaser.model.internal.common.Artifact;
 import org.jreleaser.model.spi.assemble.AssemblerProcessingException;
 import org.jreleaser.mustache.TemplateContext;
+import org.jreleaser.util.Env;
 import org.jreleaser.util.Errors;
 import org.jreleaser.util.FileUtils;
 import org.jreleaser.util.PlatformUtils;
@@ -36,11 +38,19 @@ import org.jreleaser.util.StringUtils;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
-import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.jreleaser.model.Constants.KEY_DEB_CONTROL_ARCHITECTURE;
 import static org.jreleaser.model.Constants.KEY_DEB_CONTROL_BREAKS;
 import static org.jreleaser.model.Constants.KEY_DEB_CONTROL_BUILT_USING;
@@ -85,11 +95,11 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
  * @since 1.16.0
  */
 public class DebAssemblerProcessor extends AbstractAssemblerProcessor<org.jreleaser.model.api.assemble.DebAssembler, DebAssembler> {
+    public static final String DEB_PARALLELISM = "DEB_PARALLELISM";
+
     private static final String CONTROL_DIRECTORY = "control";
-    private static final String CONTROL_TAR_ZST = "control.tar.zst";
     private static final String DATA_DIRECTORY = "data";
-    private static final String DATA_TAR_ZST = "data.tar.zst";
-    private static final String DEBIAN_BINARY = "debian-binary";
+    private static final int DEFAULT_PARALLELISM = 4;
 
     public DebAssemblerProcessor(JReleaserContext context) {
         super(context);
@@ -136,21 +146,87 @@ public class DebAssemblerProcessor extends AbstractAssemblerProcessor<org.jrelea
     @Override
     protected void doAssemble(TemplateContext props) throws AssemblerProcessingException {
         String assemblerRef = assembler.getAssemblerRef();
+        // resolved once up front, architectures may be assembled concurrently
+        Set<Path> files = resolveFiles(context, null);
+        List<ResolvedFileSet> fileSets = resolveFileSets(context, null);
 
         if (isNotBlank(assemblerRef)) {
             Assembler<?> assemblerReference = resolveAssemblerReference(assemblerRef.trim());
+            // artifacts sharing an architecture write to the same work directory
+            Map<String, List<Artifact>> architectures = new LinkedHashMap<>();
             for (Artifact artifact : assemblerReference.getOutputs()) {
-                assembleDebianArtifact(props, artifact);
+                String architecture = resolveArchitecture(artifact);
+                if (null != architecture) {
+                    architectures.computeIfAbsent(architecture, k -> new ArrayList<>()).add(artifact);
+                }
             }
+            assembleArchitectures(props, architectures, files, fileSets);
         } else {
-            assembleDebianArtifact(props, null);
+            assembleDebianArtifact(props, resolveArchitecture(null), null, files, fileSets);
         }
     }
 
-    private void assembleDebianArtifact(TemplateContext props, Artifact artifact) throws AssemblerProcessingException {
-        Path assembleDirectory = props.get(KEY_DISTRIBUTION_ASSEMBLE_DIRECTORY);
-        Path workDirectory = assembleDirectory.resolve(WORK_DIRECTORY);
+    private void assembleArchitectures(TemplateContext props, Map<String, List<Artifact>> architectures,
+                                       Set<Path> files, List<ResolvedFileSet> fileSets) throws AssemblerProcessingException {
+        int workers = Math.min(resolveParallelism(), architectures.size());
+        if (workers <= 1) {
+            for (Map.Entry<String, List<Artifact>> e : architectures.entrySet()) {
+                for (Artifact artifact : e.getValue()) {
+                    assembleDebianArtifact(new TemplateContext(props), e.getKey(), artifact, files, fileSets);
+                }
+            }
+            return;
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "jreleaser-deb-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
 
+        try {
+            List<Future<Void>> tasks = new ArrayList<>();
+            for (Map.Entry<String, List<Artifact>> e : architectures.entrySet()) {
+                // templates rendered by workers need the extension manager of this thread
+                tasks.add(executor.submit(ExtensionManagerHolder.propagate(() -> {
+                    for (Artifact artifact : e.getValue()) {
+                        assembleDebianArtifact(new TemplateContext(props), e.getKey(), artifact, files, fileSets);
+                    }
+                    return null;
+                })));
+            }
+
+            for (Future<Void> task : tasks) {
+                try {
+                    task.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new AssemblerProcessingException(RB.$("ERROR_unexpected_error"), e);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof AssemblerProcessingException) {
+                        throw (AssemblerProcessingException) e.getCause();
+                    }
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new AssemblerProcessingException(RB.$("ERROR_unexpected_error"), e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static int resolveParallelism() {
+        try {
+            return Math.max(1, Integer.parseInt(Env.resolve(DEB_PARALLELISM, String.valueOf(DEFAULT_PARALLELISM)).trim()));
+        } catch (NumberFormatException e) {
+            return DEFAULT_PARALLELISM;
+        }
+    }
+
+    private String resolveArchitecture(Artifact artifact) {
         String architecture = isNotBlank(assembler.getArchitecture()) ? assembler.getArchitecture().trim() : "all";
         if (null != artifact) {
             String platform = artifact.getPlatform();
@@ -163,10 +239,17 @@ public class DebAssemblerProcessor extends AbstractAssemblerProcessor<org.jrelea
                 architecture = "arm64";
             } else {
                 context.getLogger().debug(RB.$("assemble.deb.unsupported.artifact", platform));
-                return;
+                return null;
             }
         }
 
+        return architecture;
+    }
+
+    private void assembleDebianArtifact(TemplateContext props, String architecture, Artifact artifact,
+                                        Set<Path> files, List<ResolvedFileSet> fileSets) throws AssemblerProcessingException {
+        Path assembleDirectory = props.get(KEY_DISTRIBUTION_ASSEMBLE_DIRECTORY);
+        Path workDirectory = assembleDirectory.resolve(WORK_DIRECTORY);
         Path architectureDirectory = workDirectory.resolve(architecture);
         Path dataDirectory = architectureDirectory.resolve(DATA_DIRECTORY);
 
@@ -179,59 +262,23 @@ public class DebAssemblerProcessor extends AbstractAssemblerProcessor<org.jrelea
             props.set(KEY_DEB_CONTROL_ARCHITECTURE, architecture);
             context.getLogger().debug(RB.$("assembler.copy.files"), context.relativizeToBasedir(dataDirectory));
             //copyArtifacts(context, dataDirectory, PlatformUtils.getCurrentFull(), assembler.isAttachPlatform());
-            copyFiles(context, dataDirectory);
-            copyFileSets(context, dataDirectory);
+            copyResolvedFiles(context, files, dataDirectory);
+            copyResolvedFileSets(context, fileSets, dataDirectory);
 
-            long size = org.apache.commons.io.FileUtils.sizeOfDirectory(dataDirectory.toFile()) / 1024;
-            props.set(KEY_DEB_CONTROL_INSTALLED_SIZE, String.valueOf(size));
+            DebPackageWriter writer = new DebPackageWriter(dataDirectory,
+                assembler.getResolvedInstallationPath(context, props),
+                context.getModel().resolveArchiveTimestamp());
+            props.set(KEY_DEB_CONTROL_INSTALLED_SIZE, String.valueOf(writer.installedSize()));
             copyTemplates(context, props, architectureDirectory);
 
-            createControlArchive(props, architectureDirectory);
-            createDataArchive(props, architectureDirectory);
-            createDebArchive(props, architectureDirectory);
-
+            createDebArchive(props, architectureDirectory, writer);
         } catch (IOException ioe) {
             throw new AssemblerProcessingException(ioe);
         }
     }
 
-    private void createControlArchive(TemplateContext props, Path architectureDirectory) throws AssemblerProcessingException {
-        Path controlDirectory = architectureDirectory.resolve(CONTROL_DIRECTORY);
-
-        try {
-            FileUtils.packArchive(controlDirectory, architectureDirectory.resolve(CONTROL_TAR_ZST),
-                new FileUtils.ArchiveOptions()
-                    .withTimestamp(context.getModel().resolveArchiveTimestamp()));
-        } catch (IOException e) {
-            throw new AssemblerProcessingException(e);
-        }
-    }
-
-    private void createDataArchive(TemplateContext props, Path architectureDirectory) throws AssemblerProcessingException {
-        Path dataDirectory = architectureDirectory.resolve(DATA_DIRECTORY);
-
-        try {
-            FileUtils.packArchive(dataDirectory, architectureDirectory.resolve(DATA_TAR_ZST),
-                new FileUtils.ArchiveOptions()
-                    .withTimestamp(context.getModel().resolveArchiveTimestamp())
-                    .withRootEntryName(assembler.getResolvedInstallationPath(context, props))
-                    .withCreateIntermediateDirs(true));
-        } catch (IOException e) {
-            throw new AssemblerProcessingException(e);
-        }
-    }
-
-    private void createDebArchive(TemplateContext props, Path architectureDirectory) throws AssemblerProcessingException {
+    private void createDebArchive(TemplateContext props, Path architectureDirectory, DebPackageWriter writer) throws AssemblerProcessingException {
         Path assembleDirectory = props.get(KEY_DISTRIBUTION_ASSEMBLE_DIRECTORY);
-        Path debianBinaryPath = architectureDirectory.resolve(DEBIAN_BINARY);
-
-        try {
-            Files.deleteIfExists(debianBinaryPath);
-            Path debianBinaryFile = Files.createFile(debianBinaryPath);
-            Files.write(debianBinaryFile, "2.0\n".getBytes(UTF_8));
-        } catch (IOException e) {
-            throw new AssemblerProcessingException(e);
-        }
 
         Path debianPackage = assembleDirectory.resolve(
             resolveTemplate(context.getLogger(), assembler.getControl().getPackageName(), props) + "-" +
@@ -242,14 +289,7 @@ public class DebAssemblerProcessor extends AbstractAssemblerProcessor<org.jrelea
         context.getLogger().info("- {}", debianPackage.getFileName());
 
         try {
-            Files.deleteIfExists(debianPackage);
-            FileUtils.ar(architectureDirectory, debianPackage,
-                new FileUtils.ArchiveOptions()
-                    .withTimestamp(context.getModel().resolveArchiveTimestamp())
-                    .withLongFileMode(FileUtils.ArchiveOptions.TarMode.POSIX)
-                    .withIncludedPath(debianBinaryPath)
-                    .withIncludedPath(architectureDirectory.resolve(CONTROL_TAR_ZST))
-                    .withIncludedPath(architectureDirectory.resolve(DATA_TAR_ZST)));
+            writer.write(architectureDirectory.resolve(CONTROL_DIRECTORY), debianPackage);
         } catch (IOException e) {
             throw new AssemblerProcessingException(e);
         }
@@ -0,0 +1,337 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.assemblers;
+
+import com.github.luben.zstd.Zstd;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.compressors.zstandard.ZstdCompressorOutputStream;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Writes a Debian package straight from its control and data directories.
+ * <p>
+ * {@link #installedSize()} is computed before templates are rendered, as the control
+ * file needs it. {@link #write(Path, Path)} then walks the data directory once more,
+ * picking up any template rendered into it, to collect the files and their md5sums.
+ * Each tarball is compressed directly into its {@code ar} member, patching the member
+ * size once the stream ends.
+ *
+ * @author Andres Almiray
+ * @since 1.26.0
+ */
+final class DebPackageWriter {
+    private static final String DEBIAN_BINARY = "debian-binary";
+    private static final String CONTROL_TAR_ZST = "control.tar.zst";
+    private static final String DATA_TAR_ZST = "data.tar.zst";
+    private static final String MD5SUMS = "md5sums";
+
+    private static final byte[] AR_MAGIC = "!<arch>\n".getBytes(US_ASCII);
+    private static final byte[] DEBIAN_BINARY_CONTENT = "2.0\n".getBytes(US_ASCII);
+    private static final int AR_HEADER_SIZE = 60;
+    private static final int AR_SIZE_OFFSET = 48;
+    private static final int AR_SIZE_LENGTH = 10;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path dataDirectory;
+    private final String rootEntryName;
+    private final FileTime fileTime;
+    private final Set<Path> files = new TreeSet<>();
+    private final Map<String, String> checksums = new TreeMap<>();
+
+    DebPackageWriter(Path dataDirectory, String rootEntryName, ZonedDateTime timestamp) {
+        this.dataDirectory = dataDirectory;
+        this.rootEntryName = normalizeRootEntryName(rootEntryName);
+        this.fileTime = FileTime.from(timestamp.toInstant());
+    }
+
+    /**
+     * Walks the data directory, adding up the size of every file.
+     *
+     * @return the installed size in KiB
+     */
+    long installedSize() throws IOException {
+        long[] installedSize = new long[]{0};
+
+        Files.walkFileTree(dataDirectory, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (attrs.isRegularFile()) installedSize[0] += attrs.size();
+                return FileVisitResult.CONTINUE;
+            }
+        });
+
+        return installedSize[0] / 1024;
+    }
+
+    void write(Path controlDirectory, Path debianPackage) throws IOException {
+        scan();
+
+        try (FileChannel channel = FileChannel.open(debianPackage, CREATE, TRUNCATE_EXISTING, WRITE)) {
+            channel.write(ByteBuffer.wrap(AR_MAGIC));
+            writeMember(channel, DEBIAN_BINARY, out -> out.write(DEBIAN_BINARY_CONTENT));
+            writeMember(channel, CONTROL_TAR_ZST, out -> writeControl(controlDirectory, out));
+            writeMember(channel, DATA_TAR_ZST, this::writeData);
+        }
+    }
+
+    private void scan() throws IOException {
+        files.clear();
+        checksums.clear();
+
+        Files.walkFileTree(dataDirectory, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                files.add(file);
+                if (attrs.isRegularFile()) {
+                    try (InputStream in = Files.newInputStream(file)) {
+                        checksums.put(packagePath(file), DigestUtils.md5Hex(in));
+                    }
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private void writeControl(Path controlDirectory, OutputStream member) throws IOException {
+        Set<Path> paths = new TreeSet<>();
+        if (Files.exists(controlDirectory)) {
+            Files.walkFileTree(controlDirectory, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    paths.add(file);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        }
+
+        try (TarArchiveOutputStream out = newTarStream(member)) {
+            for (Path path : paths) {
+                putFile(out, path, controlDirectory.relativize(path).toString());
+            }
+
+            if (!Files.exists(controlDirectory.resolve(MD5SUMS))) {
+                StringBuilder content = new StringBuilder();
+                for (Map.Entry<String, String> e : checksums.entrySet()) {
+                    content.append(e.getValue()).append("  ").append(e.getKey()).append('\n');
+                }
+
+                byte[] bytes = content.toString().getBytes(UTF_8);
+                TarArchiveEntry entry = new TarArchiveEntry(MD5SUMS);
+                entry.setModTime(fileTime);
+                entry.setSize(bytes.length);
+                out.putArchiveEntry(entry);
+                out.write(bytes);
+                out.closeArchiveEntry();
+            }
+        }
+    }
+
+    private void writeData(OutputStream member) throws IOException {
+        try (TarArchiveOutputStream out = newTarStream(member)) {
+            Set<String> entryNames = new TreeSet<>();
+            for (Path path : files) {
+                String entryName = rootEntryName + dataDirectory.relativize(path);
+                entryNames.add(entryName);
+
+                Path parentPath = Paths.get(entryName).getParent();
+                if (null != parentPath) {
+                    Iterator<Path> it = parentPath.iterator();
+                    List<String> directories = new ArrayList<>();
+                    while (it.hasNext()) {
+                        directories.add(it.next().getFileName().toString());
+                        String directoryEntryName = String.join("/", directories) + "/";
+                        if ("./".equals(directoryEntryName)) continue;
+                        if (entryNames.add(directoryEntryName)) {
+                            TarArchiveEntry entry = new TarArchiveEntry(directoryEntryName);
+                            entry.setModTime(fileTime);
+                            out.putArchiveEntry(entry);
+                            out.closeArchiveEntry();
+                        }
+                    }
+                }
+
+                putFile(out, path, entryName);
+            }
+        }
+    }
+
+    private void putFile(TarArchiveOutputStream out, Path path, String entryName) throws IOException {
+        File inputFile = path.toFile();
+        TarArchiveEntry entry = out.createArchiveEntry(inputFile, entryName);
+        entry.setModTime(fileTime);
+
+        if (inputFile.isFile() && Files.isExecutable(path)) {
+            entry.setMode(0100755);
+        }
+
+        out.putArchiveEntry(entry);
+        if (inputFile.isFile()) {
+            Files.copy(path, out);
+        }
+        out.closeArchiveEntry();
+    }
+
+    private TarArchiveOutputStream newTarStream(OutputStream member) throws IOException {
+        return new TarArchiveOutputStream(new ZstdCompressorOutputStream(member, Zstd.defaultCompressionLevel(), true));
+    }
+
+    private void writeMember(FileChannel channel, String name, MemberContent content) throws IOException {
+        long headerPosition = channel.position();
+        channel.write(ByteBuffer.wrap(header(name, "")));
+
+        MemberOutputStream member = new MemberOutputStream(channel);
+        try {
+            content.write(member);
+        } finally {
+            member.close();
+        }
+
+        String size = String.valueOf(member.size);
+        if (size.length() > AR_SIZE_LENGTH) {
+            throw new IOException(name + " is too large for an ar archive");
+        }
+        channel.write(ByteBuffer.wrap(pad(size, AR_SIZE_LENGTH)), headerPosition + AR_SIZE_OFFSET);
+
+        if (member.size % 2 != 0) {
+            channel.write(ByteBuffer.wrap(new byte[]{'\n'}));
+        }
+    }
+
+    private byte[] header(String name, String size) {
+        String mtime = String.valueOf(fileTime.toMillis() / 1000);
+        byte[] header = new byte[AR_HEADER_SIZE];
+        int offset = 0;
+        offset = put(header, offset, pad(name, 16));
+        offset = put(header, offset, pad(mtime, 12));
+        offset = put(header, offset, pad("0", 6));
+        offset = put(header, offset, pad("0", 6));
+        offset = put(header, offset, pad("100644", 8));
+        offset = put(header, offset, pad(size, AR_SIZE_LENGTH));
+        put(header, offset, "`\n".getBytes(US_ASCII));
+        return header;
+    }
+
+    private String packagePath(Path file) {
+        String path = rootEntryName + dataDirectory.relativize(file).toString().replace(File.separatorChar, '/');
+        while (path.startsWith("/") || path.startsWith("./")) {
+            path = path.substring(path.startsWith("/") ? 1 : 2);
+        }
+        return path;
+    }
+
+    private static int put(byte[] target, int offset, byte[] source) {
+        System.arraycopy(source, 0, target, offset, source.length);
+        return offset + source.length;
+    }
+
+    private static byte[] pad(String value, int length) {
+        StringBuilder b = new StringBuilder(value);
+        while (b.length() < length) b.append(' ');
+        return b.toString().getBytes(US_ASCII);
+    }
+
+    private static String normalizeRootEntryName(String rootEntryName) {
+        if (null == rootEntryName) return "";
+        return rootEntryName.endsWith("/") ? rootEntryName : rootEntryName + "/";
+    }
+
+    @FunctionalInterface
+    private interface MemberContent {
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Buffers writes into the package channel. Closing only drains the buffer,
+     * the channel stays open for the next member.
+     */
+    private static final class MemberOutputStream extends OutputStream {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private long size;
+
+        private MemberOutputStream(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!buffer.hasRemaining()) drain();
+            buffer.put((byte) b);
+            size++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (!buffer.hasRemaining()) drain();
+                int n = Math.min(len, buffer.remaining());
+                buffer.put(b, off, n);
+                off += n;
+                len -= n;
+                size += n;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            drain();
+        }
+
+        @Override
+        public void close() throws IOException {
+            drain();
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
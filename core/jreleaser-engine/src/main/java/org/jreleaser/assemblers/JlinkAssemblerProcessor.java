@@ -36,10 +36,21 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static java.lang.String.join;
@@ -79,6 +90,9 @@ import static org.jreleaser.util.StringUtils.isTrue;
  * @since 0.2.0
  */
 public class JlinkAssemblerProcessor extends AbstractAssemblerProcessor<org.jreleaser.model.api.assemble.JlinkAssembler, JlinkAssembler> {
+    private static final String CDS = "cds";
+    private static final String CDS_TRAINING_ARGS = "cdsTrainingArgs";
+
     public JlinkAssemblerProcessor(JReleaserContext context) {
         super(context);
     }
@@ -121,7 +135,7 @@ public class JlinkAssemblerProcessor extends AbstractAssemblerProcessor<org.jrel
     @Override
     protected void doAssemble(TemplateContext props) throws AssemblerProcessingException {
         // verify jdk
-        Path jdkPath = assembler.getJdk().getEffectivePath(context, assembler);
+        Path jdkPath = resolveJavaHome(assembler.getJdk(), true);
         SemanticVersion jdkVersion = SemanticVersion.of(readJavaVersion(jdkPath));
         context.getLogger().debug(RB.$("assembler.jlink.jdk"), jdkVersion, jdkPath.toAbsolutePath().toString());
 
@@ -131,7 +145,7 @@ public class JlinkAssemblerProcessor extends AbstractAssemblerProcessor<org.jrel
             if (!targetJdk.isActiveAndSelected()) continue;
             selectedJdks = true;
 
-            Path targetJdkPath = targetJdk.getEffectivePath(context, assembler);
+            Path targetJdkPath = resolveJavaHome(targetJdk, true);
             SemanticVersion targetJdkVersion = SemanticVersion.of(readJavaVersion(targetJdkPath));
             context.getLogger().debug(RB.$("assembler.jlink.target"), jdkVersion, targetJdkPath.toAbsolutePath().toString());
 
@@ -200,51 +214,130 @@ public class JlinkAssemblerProcessor extends AbstractAssemblerProcessor<org.jrel
             }
         }
 
+        if (assembler.isParallel()) {
+            assembleConcurrently(props, assembleDirectory, jdkPath, jarsDirectory, imageName);
+            return;
+        }
+
         for (Artifact targetJdk : assembler.getTargetJdks()) {
             if (!targetJdk.isActiveAndSelected()) continue;
 
-            String platform = targetJdk.getPlatform();
-            Path platformJarsDirectory = jarsDirectory.resolve(platform);
-            context.getLogger().debug(RB.$("assembler.copy.jars"), context.relativizeToBasedir(platformJarsDirectory));
-            copyJars(context, assembler, platformJarsDirectory, platform);
+            Set<String> moduleNames = prepareModules(props, jdkPath, jarsDirectory, targetJdk);
+            String finalImageName = jlink(props, assembleDirectory, jdkPath, targetJdk, moduleNames, imageName);
+            archive(assembleDirectory, finalImageName, targetJdk);
+        }
+    }
+
+    private void assembleConcurrently(TemplateContext props, Path assembleDirectory, Path jdkPath, Path jarsDirectory, String imageName) throws AssemblerProcessingException {
+        List<Artifact> targetJdks = assembler.getTargetJdks().stream()
+            .filter(Artifact::isActiveAndSelected)
+            .collect(toList());
+        if (targetJdks.isEmpty()) return;
+
+        // jlink runs single threaded, images for different platforms may be linked at the same time.
+        // Files are copied into each image on this thread, archives are packed while other images link.
+        int workers = Math.min(targetJdks.size(), Runtime.getRuntime().availableProcessors());
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = Executors.defaultThreadFactory().newThread(r);
+            t.setDaemon(true);
+            t.setName("jreleaser-jlink-" + assembler.getName() + "-" + threadCount.incrementAndGet());
+            return t;
+        });
 
-            // resolve module names
-            Set<String> moduleNames = new TreeSet<>(resolveModuleNames(context, jdkPath, jarsDirectory, platform, props));
-            context.getLogger().debug(RB.$("assembler.resolved.module.names"), moduleNames);
-            if (moduleNames.isEmpty()) {
-                throw new AssemblerProcessingException(RB.$("ERROR_assembler_no_module_names"));
+        try {
+            Map<Artifact, Future<?>> images = new LinkedHashMap<>();
+            for (Artifact targetJdk : targetJdks) {
+                Set<String> moduleNames = prepareModules(props, jdkPath, jarsDirectory, targetJdk);
+                Command cmd = createJlinkCommand(props, assembleDirectory, jdkPath, targetJdk, moduleNames, imageName);
+                images.put(targetJdk, executor.submit(() -> executeCommand(cmd)));
             }
-            moduleNames.addAll(assembler.getAdditionalModuleNames().stream()
-                .map(arg -> resolveTemplate(context.getLogger(), arg, props))
-                .collect(toList()));
-            String moduleName = resolveTemplate(context.getLogger(), assembler.getJava().getMainModule(), props);
-            if (isNotBlank(moduleName)) {
-                moduleNames.add(moduleName);
+
+            List<Future<?>> archives = new ArrayList<>();
+            for (Map.Entry<Artifact, Future<?>> image : images.entrySet()) {
+                await(image.getValue());
+                Artifact targetJdk = image.getKey();
+                String finalImageName = copyImageFiles(props, assembleDirectory, targetJdk, imageName);
+                archives.add(executor.submit(() -> {
+                    archive(assembleDirectory, finalImageName, targetJdk);
+                    return null;
+                }));
             }
-            context.getLogger().debug(RB.$("assembler.module.names"), moduleNames);
 
-            String finalImageName = jlink(props, assembleDirectory, jdkPath, targetJdk, moduleNames, imageName);
-            Path workDirectory = assembleDirectory.resolve(WORK_DIRECTORY + "-" + platform);
-            // run archive x format
-            for (Archive.Format format : assembler.getFormats()) {
-                String propertyName = "skip" + capitalize(format.normalized());
-                if (isTrue(targetJdk.getExtraProperties().getOrDefault(propertyName, false))) {
-                    continue;
-                }
-                archive(assembleDirectory, finalImageName, workDirectory, format);
+            for (Future<?> archive : archives) {
+                await(archive);
             }
+        } finally {
+            // interrupted workers destroy their jlink process
+            executor.shutdownNow();
+        }
+    }
+
+    private void await(Future<?> future) throws AssemblerProcessingException {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssemblerProcessingException(RB.$("ERROR_unexpected_error"), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof AssemblerProcessingException) {
+                throw (AssemblerProcessingException) e.getCause();
+            }
+            throw new AssemblerProcessingException(RB.$("ERROR_unexpected_error"), e.getCause());
+        }
+    }
+
+    private Set<String> prepareModules(TemplateContext props, Path jdkPath, Path jarsDirectory, Artifact targetJdk) throws AssemblerProcessingException {
+        String platform = targetJdk.getPlatform();
+        Path platformJarsDirectory = jarsDirectory.resolve(platform);
+        context.getLogger().debug(RB.$("assembler.copy.jars"), context.relativizeToBasedir(platformJarsDirectory));
+        copyJars(context, assembler, platformJarsDirectory, platform);
+
+        // resolve module names
+        Set<String> moduleNames = new TreeSet<>(resolveModuleNames(context, jdkPath, jarsDirectory, platform, props));
+        context.getLogger().debug(RB.$("assembler.resolved.module.names"), moduleNames);
+        if (moduleNames.isEmpty()) {
+            throw new AssemblerProcessingException(RB.$("ERROR_assembler_no_module_names"));
+        }
+        moduleNames.addAll(assembler.getAdditionalModuleNames().stream()
+            .map(arg -> resolveTemplate(context.getLogger(), arg, props))
+            .collect(toList()));
+        String moduleName = resolveTemplate(context.getLogger(), assembler.getJava().getMainModule(), props);
+        if (isNotBlank(moduleName)) {
+            moduleNames.add(moduleName);
+        }
+        context.getLogger().debug(RB.$("assembler.module.names"), moduleNames);
+        return moduleNames;
+    }
+
+    private void archive(Path assembleDirectory, String finalImageName, Artifact targetJdk) throws AssemblerProcessingException {
+        Path workDirectory = assembleDirectory.resolve(WORK_DIRECTORY + "-" + targetJdk.getPlatform());
+        // run archive x format
+        for (Archive.Format format : assembler.getFormats()) {
+            String propertyName = "skip" + capitalize(format.normalized());
+            if (isTrue(targetJdk.getExtraProperties().getOrDefault(propertyName, false))) {
+                continue;
+            }
+            archive(assembleDirectory, finalImageName, workDirectory, format);
         }
     }
 
     private String jlink(TemplateContext props, Path assembleDirectory, Path jdkPath, Artifact targetJdk, Set<String> moduleNames, String imageName) throws AssemblerProcessingException {
+        executeCommand(createJlinkCommand(props, assembleDirectory, jdkPath, targetJdk, moduleNames, imageName));
+        return copyImageFiles(props, assembleDirectory, targetJdk, imageName);
+    }
+
+    private String resolveFinalImageName(Artifact targetJdk, String imageName) {
+        String platformReplaced = assembler.getPlatform().applyReplacements(targetJdk.getPlatform());
+        return imageName + "-" + platformReplaced;
+    }
+
+    private Command createJlinkCommand(TemplateContext props, Path assembleDirectory, Path jdkPath, Artifact targetJdk, Set<String> moduleNames, String imageName) throws AssemblerProcessingException {
         String platform = targetJdk.getPlatform();
-        String platformReplaced = assembler.getPlatform().applyReplacements(platform);
-        String finalImageName = imageName + "-" + platformReplaced;
+        String finalImageName = resolveFinalImageName(targetJdk, imageName);
         context.getLogger().debug("- {}", finalImageName);
 
-        boolean hasJavaArchive = assembler.getJavaArchive().isSet();
         Path inputsDirectory = assembleDirectory.resolve(INPUTS_DIRECTORY);
-        Path archiveDirectory = inputsDirectory.resolve(ARCHIVE_DIRECTORY);
         Path jarsDirectory = inputsDirectory.resolve(JARS_DIRECTORY);
         Path workDirectory = assembleDirectory.resolve(WORK_DIRECTORY + "-" + platform);
         Path imageDirectory = workDirectory.resolve(finalImageName).toAbsolutePath();
@@ -256,7 +349,7 @@ public class JlinkAssemblerProcessor extends AbstractAssemblerProcessor<org.jrel
 
         // jlink it
         String moduleName = resolveTemplate(context.getLogger(), assembler.getJava().getMainModule(), props);
-        String modulePath = maybeQuote(targetJdk.getEffectivePath(context, assembler).resolve("jmods").toAbsolutePath().toString());
+        String modulePath = maybeQuote(resolveJavaHome(targetJdk, true).resolve("jmods").toAbsolutePath().toString());
         if (isNotBlank(moduleName) || assembler.isCopyJars()) {
             modulePath += File.pathSeparator + maybeQuote(jarsDirectory
                 .resolve(UNIVERSAL_DIRECTORY)
@@ -285,14 +378,27 @@ public class JlinkAssemblerProcessor extends AbstractAssemblerProcessor<org.jrel
             .arg(modulePath)
             .arg("--add-modules")
             .arg(join(",", moduleNames));
-        if (assembler.getJava().getJvmOptions().isSet()) {
+        if (!assembler.getJava().getJvmOptions().getUniversal().isEmpty()) {
             cmd.arg("--add-options=\"" + join(" ", assembler.getJava().getJvmOptions().getResolvedUniversal(context)) + "\"");
         }
         cmd.arg("--output")
             .arg(maybeQuote(imageDirectory.toString()));
 
         context.getLogger().debug(join(" ", cmd.getArgs()));
-        executeCommand(cmd);
+        return cmd;
+    }
+
+    private String copyImageFiles(TemplateContext props, Path assembleDirectory, Artifact targetJdk, String imageName) throws AssemblerProcessingException {
+        String platform = targetJdk.getPlatform();
+        String finalImageName = resolveFinalImageName(targetJdk, imageName);
+
+        boolean hasJavaArchive = assembler.getJavaArchive().isSet();
+        Path inputsDirectory = assembleDirectory.resolve(INPUTS_DIRECTORY);
+        Path archiveDirectory = inputsDirectory.resolve(ARCHIVE_DIRECTORY);
+        Path jarsDirectory = inputsDirectory.resolve(JARS_DIRECTORY);
+        Path workDirectory = assembleDirectory.resolve(WORK_DIRECTORY + "-" + platform);
+        Path imageDirectory = workDirectory.resolve(finalImageName).toAbsolutePath();
+        String moduleName = resolveTemplate(context.getLogger(), assembler.getJava().getMainModule(), props);
 
         if (isBlank(moduleName)) {
             // non modular
@@ -366,6 +472,7 @@ public class JlinkAssemblerProcessor extends AbstractAssemblerProcessor<org.jrel
             copyArtifacts(context, imageDirectory, platform, true);
             copyFiles(context, imageDirectory);
             copyFileSets(context, imageDirectory);
+            createCdsArchive(props, imageDirectory, targetJdk);
             generateSwidTag(context, imageDirectory);
             return finalImageName;
         } catch (IOException e) {
@@ -373,6 +480,71 @@ public class JlinkAssemblerProcessor extends AbstractAssemblerProcessor<org.jrel
         }
     }
 
+    private void createCdsArchive(TemplateContext props, Path imageDirectory, Artifact targetJdk) {
+        if (!isTrue(assembler.getExtraProperties().getOrDefault(CDS, false))) return;
+
+        // archives are tied to the JVM that dumps them, only the image itself may create one
+        if (!PlatformUtils.isCompatible(PlatformUtils.getCurrentFull(), targetJdk.getPlatform())) {
+            context.getLogger().debug(RB.$("assembler.cds.skip"), targetJdk.getPlatform());
+            return;
+        }
+
+        // mirror the launcher, the archive is only used when the class path matches
+        Path archiveFile = imageDirectory.resolve("lib").resolve(assembler.getExecutable() + ".jsa");
+        Path jarsDirectory = imageDirectory.resolve(JARS_DIRECTORY);
+        Command cmd = new Command(imageDirectory.resolve(BIN_DIRECTORY)
+            .resolve(PlatformUtils.isWindows() ? "java.exe" : "java").toString())
+            .arg("-XX:ArchiveClassesAtExit=" + archiveFile);
+
+        String moduleName = resolveTemplate(context.getLogger(), assembler.getJava().getMainModule(), props);
+        String mainClass = assembler.getJava().getMainClass();
+        if (isNotBlank(moduleName)) {
+            cmd.arg("-p")
+                .arg(jarsDirectory.toString())
+                .arg("-m")
+                .arg(moduleName + "/" + mainClass);
+        } else if (isNotBlank(mainClass)) {
+            cmd.arg("-classpath")
+                .arg(jarsDirectory + File.separator + "*")
+                .arg(mainClass);
+        } else {
+            cmd.arg("-classpath")
+                .arg(jarsDirectory + File.separator + "*")
+                .arg("-jar")
+                .arg(jarsDirectory.resolve(assembler.getMainJar().getEffectivePath(context, assembler).getFileName()).toString());
+        }
+        cmd.args(resolveCdsTrainingArgs(props));
+
+        context.getLogger().info(RB.$("assembler.cds.archive"), context.relativizeToBasedir(archiveFile));
+        try {
+            executeCommand(imageDirectory, cmd);
+        } catch (AssemblerProcessingException e) {
+            // the image still works without an archive
+            context.getLogger().warn(RB.$("ERROR_assembler_cds_archive"), context.relativizeToBasedir(archiveFile));
+            context.getLogger().trace(e);
+            try {
+                Files.deleteIfExists(archiveFile);
+            } catch (IOException ignored) {
+                // noop
+            }
+        }
+    }
+
+    private List<String> resolveCdsTrainingArgs(TemplateContext props) {
+        Object value = assembler.getExtraProperties().get(CDS_TRAINING_ARGS);
+        if (value instanceof Collection) {
+            return ((Collection<?>) value).stream()
+                .map(String::valueOf)
+                .map(arg -> resolveTemplate(context.getLogger(), arg, props))
+                .collect(toList());
+        } else if (null != value && isNotBlank(String.valueOf(value))) {
+            return Arrays.stream(String.valueOf(value).trim().split("\\s+"))
+                .map(arg -> resolveTemplate(context.getLogger(), arg, props))
+                .collect(toList());
+        }
+        return Collections.emptyList();
+    }
+
     private void archive(Path assembleDirectory, String finalImageName, Path workDirectory, Archive.Format archiveFormat) throws AssemblerProcessingException {
         try {
             Path imageArchive = assembleDirectory.resolve(finalImageName + "." + archiveFormat.extension());
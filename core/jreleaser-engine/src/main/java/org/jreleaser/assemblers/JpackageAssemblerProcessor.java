@@ -69,7 +69,7 @@ public class JpackageAssemblerProcessor extends AbstractAssemblerProcessor<org.j
         if (!packager.getJdk().isActiveAndSelected()) return;
 
         // verify jdk
-        Path jdkPath = packager.getJdk().getEffectivePath(context, assembler);
+        Path jdkPath = resolveJavaHome(packager.getJdk(), true);
         SemanticVersion jdkVersion = SemanticVersion.of(readJavaVersion(jdkPath));
         context.getLogger().debug(RB.$("assembler.jpackage.jdk"), jdkVersion, jdkPath.toAbsolutePath().toString());
         if (jdkVersion.getMajor() < 16) {
@@ -196,7 +196,7 @@ public class JpackageAssemblerProcessor extends AbstractAssemblerProcessor<org.j
 
     private void jpackage(JReleaserContext context, String type, Path workDirectory, TemplateContext props) throws AssemblerProcessingException {
         JpackageAssembler.PlatformPackager packager = assembler.getResolvedPlatformPackager();
-        Path jdkPath = packager.getJdk().getEffectivePath(context, assembler);
+        Path jdkPath = resolveJavaHome(packager.getJdk(), true);
         String platform = packager.getJdk().getPlatform();
         String platformReplaced = assembler.getPlatform().applyReplacements(platform);
 
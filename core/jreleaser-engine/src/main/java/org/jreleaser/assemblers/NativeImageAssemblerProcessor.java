@@ -71,7 +71,8 @@ public class NativeImageAssemblerProcessor extends AbstractAssemblerProcessor<or
         if (!assembler.getGraal().isActiveAndSelected()) return;
 
         // verify graal
-        Path graalPath = assembler.getGraal().getEffectivePath(context, assembler);
+        // gu installs components into the GraalVM home, which must not link cached files then
+        Path graalPath = resolveJavaHome(assembler.getGraal(), assembler.getComponents().isEmpty());
         SemanticVersion javaVersion = SemanticVersion.of(readJavaVersion(graalPath));
         SemanticVersion graalVersion = SemanticVersion.of(readGraalVersion(graalPath));
         context.getLogger().debug(RB.$("assembler.graal.java"), javaVersion, graalPath.toAbsolutePath().toString());
@@ -29,28 +29,31 @@ import org.jreleaser.model.internal.catalog.swid.SwidTag;
 import org.jreleaser.model.internal.project.Project;
 import org.jreleaser.model.internal.util.VersionUtils;
 import org.jreleaser.util.Algorithm;
-import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.ChecksumCache;
 import org.jreleaser.version.SemanticVersion;
 import org.jreleaser.version.Version;
 
 import java.io.IOException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.FileSystemLoopException;
-import java.nio.file.FileVisitResult;
-import java.nio.file.FileVisitor;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
-import java.nio.file.attribute.BasicFileAttributes;
-import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
-import java.util.Deque;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Pattern;
 
 import static java.lang.System.lineSeparator;
 import static java.nio.charset.StandardCharsets.UTF_8;
-import static java.nio.file.FileVisitResult.CONTINUE;
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 import static java.nio.file.StandardOpenOption.WRITE;
@@ -116,75 +119,85 @@ public final class SwidTagGenerator {
     }
 
     private static void addPayload(JReleaserContext context, SoftwareIdentity softwareIdentity, SwidTag tag, Path inputPath) throws IOException {
-        FileTagger tagger = new FileTagger(context.getLogger());
-        Files.walkFileTree(inputPath, tagger);
-        if (tagger.isSuccessful()) {
-            softwareIdentity.getPayload().getDirectories().add(tagger.getRoot());
-        } else {
-            throw new IOException(RB.$("ERROR_swid_generator", inputPath));
+        AtomicBoolean success = new AtomicBoolean(true);
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        try {
+            Directory root = pool.invoke(new DirectoryTagger(context.getLogger(), inputPath, success));
+            if (success.get()) {
+                softwareIdentity.getPayload().getDirectories().add(root);
+            } else {
+                throw new IOException(RB.$("ERROR_swid_generator", inputPath));
+            }
+        } finally {
+            pool.shutdown();
         }
     }
 
-    private static class FileTagger implements FileVisitor<Path> {
-        private final JReleaserLogger logger;
-        private final Deque<Directory> directories = new ArrayDeque<>();
-        private Directory root = new Directory();
-        private boolean success = true;
-
-        private FileTagger(JReleaserLogger logger) {
-            this.logger = logger;
-        }
+    /**
+     * Tags a directory, forking a subtask per nested directory. Files are hashed
+     * with a single pass for both digests, reusing checksums computed by earlier stages.
+     */
+    private static class DirectoryTagger extends RecursiveTask<Directory> {
+        private static final long serialVersionUID = 2426734389651290235L;
+        private static final List<Algorithm> ALGORITHMS = Arrays.asList(Algorithm.SHA_256, Algorithm.SHA_512);
 
-        public Directory getRoot() {
-            return root;
-        }
+        private final transient JReleaserLogger logger;
+        private final transient Path path;
+        private final AtomicBoolean success;
 
-        public boolean isSuccessful() {
-            return success;
+        private DirectoryTagger(JReleaserLogger logger, Path path, AtomicBoolean success) {
+            this.logger = logger;
+            this.path = path;
+            this.success = success;
         }
 
         @Override
-        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+        protected Directory compute() {
             Directory d = new Directory();
-            d.setName(dir.getFileName().toString());
-            if (directories.isEmpty()) {
-                root = d;
-            } else {
-                directories.peek().getDirectories().add(d);
+            d.setName(path.getFileName().toString());
+
+            List<DirectoryTagger> subtasks = new ArrayList<>();
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(path)) {
+                for (Path entry : entries) {
+                    if (Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS)) {
+                        DirectoryTagger subtask = new DirectoryTagger(logger, entry, success);
+                        subtask.fork();
+                        subtasks.add(subtask);
+                    } else {
+                        tagFile(d, entry);
+                    }
+                }
+            } catch (IOException e) {
+                logger.error(RB.$("ERROR_files_read"), path, e);
+                success.set(false);
             }
-            directories.addFirst(d);
-            return CONTINUE;
-        }
 
-        @Override
-        public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
-            directories.removeFirst();
-            return CONTINUE;
-        }
+            for (DirectoryTagger subtask : subtasks) {
+                d.getDirectories().add(subtask.join());
+            }
 
-        @Override
-        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
-            File f = new File();
-            f.setName(file.getFileName().toString());
-            f.setSize(Files.size(file));
+            return d;
+        }
 
-            byte[] data = Files.readAllBytes(file);
-            f.setSha256(ChecksumUtils.checksum(Algorithm.SHA_256, data));
-            f.setSha512(ChecksumUtils.checksum(Algorithm.SHA_512, data));
+        private void tagFile(Directory d, Path file) {
+            try {
+                File f = new File();
+                f.setName(file.getFileName().toString());
+                f.setSize(Files.size(file));
 
-            directories.peek().getFiles().add(f);
-            return CONTINUE;
-        }
+                Map<Algorithm, String> checksums = ChecksumCache.checksums(file, ALGORITHMS);
+                f.setSha256(checksums.get(Algorithm.SHA_256));
+                f.setSha512(checksums.get(Algorithm.SHA_512));
 
-        @Override
-        public FileVisitResult visitFileFailed(Path file, IOException e) throws IOException {
-            if (e instanceof FileSystemLoopException) {
-                logger.error(RB.$("ERROR_files_cycle"), file);
-            } else {
-                logger.error(RB.$("ERROR_files_read"), file, e);
+                d.getFiles().add(f);
+            } catch (IOException e) {
+                if (e instanceof FileSystemLoopException) {
+                    logger.error(RB.$("ERROR_files_cycle"), file);
+                } else {
+                    logger.error(RB.$("ERROR_files_read"), file, e);
+                }
+                success.set(false);
             }
-            success = false;
-            return CONTINUE;
         }
     }
 
@@ -26,7 +26,6 @@ import org.jreleaser.model.spi.catalog.sbom.AbstractSbomCatalogerProcessor;
 import org.jreleaser.sdk.command.CommandException;
 import org.jreleaser.sdk.tool.Cyclonedx;
 import org.jreleaser.sdk.tool.ToolException;
-import org.jreleaser.util.FileUtils;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -36,9 +35,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
-import static java.nio.file.StandardCopyOption.COPY_ATTRIBUTES;
-import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
-import static org.jreleaser.util.StringUtils.getFilename;
+import static java.util.stream.Collectors.toList;
 
 /**
  * @author Andres Almiray
@@ -77,10 +74,7 @@ public class CyclonedxSbomCatalogerProcessor extends AbstractSbomCatalogerProces
 
         Cyclonedx cyclonedx = setupCyclonedx(context);
 
-        boolean executed = false;
-        for (Artifact artifact : artifacts) {
-            if (generateSbom(cyclonedx, artifact)) executed = true;
-        }
+        boolean executed = generateSboms(artifacts, artifact -> generateSbom(cyclonedx, artifact));
 
         Path archivePath = cataloger.resolveArchivePath(context);
         if (executed || !Files.exists(archivePath)) {
@@ -93,22 +87,10 @@ public class CyclonedxSbomCatalogerProcessor extends AbstractSbomCatalogerProces
     private void pack(Set<Artifact> candidates, Path archivePath) throws CatalogProcessingException {
         if (!cataloger.getPack().isEnabled()) return;
 
-        context.getLogger().info(RB.$("catalog.sbom.pack", archivePath.getFileName()));
-
-        String archiveFileName = getFilename(archivePath.getFileName().toString());
-
-        try {
-            Path tmp = Files.createTempDirectory(getType());
-            Path workingDirectory = tmp.resolve(archiveFileName);
-            Files.createDirectories(workingDirectory);
-            for (Artifact artifact : doResolveArtifacts(candidates)) {
-                Files.copy(artifact.getEffectivePath(), workingDirectory.resolve(artifact.getEffectivePath().getFileName()),
-                    REPLACE_EXISTING, COPY_ATTRIBUTES);
-            }
-            FileUtils.zip(workingDirectory, archivePath);
-        } catch (IOException e) {
-            throw new CatalogProcessingException(RB.$("ERROR_catalog_unexpected_error_packing", archivePath.getFileName()), e);
-        }
+        List<Path> sboms = doResolveArtifacts(candidates).stream()
+            .map(Artifact::getEffectivePath)
+            .collect(toList());
+        pack(resolveCatalogDirectory(), sboms, archivePath);
     }
 
     private Set<Artifact> doResolveArtifacts(Set<Artifact> candidates) {
@@ -151,6 +133,7 @@ public class CyclonedxSbomCatalogerProcessor extends AbstractSbomCatalogerProces
             throw new CatalogProcessingException(RB.$("ERROR_assembler_create_directories"), e);
         }
 
+        String checksum = checksum(artifactPath);
         boolean executed = false;
         for (CyclonedxSbomCataloger.Format format : cataloger.getFormats()) {
             Path targetPath = catalogDirectory.resolve(artifactFile + format.extension());
@@ -166,15 +149,10 @@ public class CyclonedxSbomCatalogerProcessor extends AbstractSbomCatalogerProces
             args.add("--include");
             args.add(artifactFile);
 
-            if (!Files.exists(targetPath)) {
-                context.getLogger().debug(RB.$("catalog.sbom.not.exist"), context.relativizeToBasedir(targetPath));
-                generateSbom(cyclonedx, artifactPath.getParent(), targetPath.getFileName(), args);
-                executed = true;
-            } else if (artifactPath.toFile().lastModified() > targetPath.toFile().lastModified()) {
-                context.getLogger().debug(RB.$("checksum.file.newer"),
-                    context.relativizeToBasedir(artifactPath),
-                    context.relativizeToBasedir(targetPath));
+            String key = cacheKey(checksum, cyclonedx.getVersion(), args);
+            if (!isUpToDate(artifactPath, targetPath, key)) {
                 generateSbom(cyclonedx, artifactPath.getParent(), targetPath.getFileName(), args);
+                recordChecksum(targetPath, key);
                 executed = true;
             }
         }
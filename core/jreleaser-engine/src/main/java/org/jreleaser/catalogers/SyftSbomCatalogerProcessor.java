@@ -26,7 +26,6 @@ import org.jreleaser.model.spi.catalog.sbom.AbstractSbomCatalogerProcessor;
 import org.jreleaser.sdk.command.CommandException;
 import org.jreleaser.sdk.tool.Syft;
 import org.jreleaser.sdk.tool.ToolException;
-import org.jreleaser.util.FileUtils;
 import org.jreleaser.version.SemanticVersion;
 
 import java.io.IOException;
@@ -37,10 +36,8 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
-import static java.nio.file.StandardCopyOption.COPY_ATTRIBUTES;
-import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.stream.Collectors.toList;
 import static org.jreleaser.util.ComparatorUtils.greaterThanOrEqualTo;
-import static org.jreleaser.util.StringUtils.getFilename;
 
 /**
  * @author Andres Almiray
@@ -79,10 +76,7 @@ public class SyftSbomCatalogerProcessor extends AbstractSbomCatalogerProcessor<S
 
         Syft syft = setupSyft(context);
 
-        boolean executed = false;
-        for (Artifact artifact : artifacts) {
-            if (generateSbom(syft, artifact)) executed = true;
-        }
+        boolean executed = generateSboms(artifacts, artifact -> generateSbom(syft, artifact));
 
         Path archivePath = cataloger.resolveArchivePath(context);
         if (executed || !Files.exists(archivePath)) {
@@ -95,22 +89,10 @@ public class SyftSbomCatalogerProcessor extends AbstractSbomCatalogerProcessor<S
     private void pack(Set<Artifact> candidates, Path archivePath) throws CatalogProcessingException {
         if (!cataloger.getPack().isEnabled()) return;
 
-        context.getLogger().info(RB.$("catalog.sbom.pack", archivePath.getFileName()));
-
-        String archiveFileName = getFilename(archivePath.getFileName().toString());
-
-        try {
-            Path tmp = Files.createTempDirectory(getType());
-            Path workingDirectory = tmp.resolve(archiveFileName);
-            Files.createDirectories(workingDirectory);
-            for (Artifact artifact : doResolveArtifacts(candidates)) {
-                Files.copy(artifact.getEffectivePath(), workingDirectory.resolve(artifact.getEffectivePath().getFileName()),
-                    REPLACE_EXISTING, COPY_ATTRIBUTES);
-            }
-            FileUtils.zip(workingDirectory, archivePath);
-        } catch (IOException e) {
-            throw new CatalogProcessingException(RB.$("ERROR_catalog_unexpected_error_packing", archivePath.getFileName()), e);
-        }
+        List<Path> sboms = doResolveArtifacts(candidates).stream()
+            .map(Artifact::getEffectivePath)
+            .collect(toList());
+        pack(resolveCatalogDirectory(), sboms, archivePath);
     }
 
     private Set<Artifact> doResolveArtifacts(Set<Artifact> candidates) {
@@ -158,6 +140,7 @@ public class SyftSbomCatalogerProcessor extends AbstractSbomCatalogerProcessor<S
         SemanticVersion syft99 = SemanticVersion.of("0.99.0");
         boolean deprecations = greaterThanOrEqualTo(syftVersion, syft99);
 
+        String checksum = checksum(artifactPath);
         boolean executed = false;
         for (SyftSbomCataloger.Format format : cataloger.getFormats()) {
             Path targetPath = catalogDirectory.resolve(artifactFile + format.extension());
@@ -178,15 +161,10 @@ public class SyftSbomCatalogerProcessor extends AbstractSbomCatalogerProcessor<S
             }
             args.add(artifactFile);
 
-            if (!Files.exists(targetPath)) {
-                context.getLogger().debug(RB.$("catalog.sbom.not.exist"), context.relativizeToBasedir(targetPath));
-                generateSbom(syft, artifactPath.getParent(), targetPath.getFileName(), args);
-                executed = true;
-            } else if (artifactPath.toFile().lastModified() > targetPath.toFile().lastModified()) {
-                context.getLogger().debug(RB.$("checksum.file.newer"),
-                    context.relativizeToBasedir(artifactPath),
-                    context.relativizeToBasedir(targetPath));
+            String key = cacheKey(checksum, syft.getVersion(), args);
+            if (!isUpToDate(artifactPath, targetPath, key)) {
                 generateSbom(syft, artifactPath.getParent(), targetPath.getFileName(), args);
+                recordChecksum(targetPath, key);
                 executed = true;
             }
         }
@@ -18,21 +18,28 @@
 package org.jreleaser.engine.announce;
 
 import org.jreleaser.bundle.RB;
+import org.jreleaser.extensions.api.ExtensionManagerHolder;
 import org.jreleaser.extensions.api.workflow.WorkflowListenerException;
+import org.jreleaser.model.JReleaserException;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.api.hooks.ExecutionEvent;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.JReleaserModel;
 import org.jreleaser.model.spi.announce.AnnounceException;
 import org.jreleaser.model.spi.announce.Announcer;
-import org.jreleaser.model.spi.announce.AnnouncerBuilder;
 import org.jreleaser.model.spi.announce.AnnouncerBuilderFactory;
+import org.jreleaser.util.Env;
+import org.jreleaser.util.ServiceRegistry;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.ServiceLoader;
 import java.util.TreeMap;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.jreleaser.model.internal.JReleaserSupport.supportedAnnouncers;
 
@@ -41,6 +48,10 @@ import static org.jreleaser.model.internal.JReleaserSupport.supportedAnnouncers;
  * @since 0.1.0
  */
 public final class Announcers {
+    public static final String ANNOUNCE_PARALLELISM = "ANNOUNCE_PARALLELISM";
+
+    private static final int DEFAULT_PARALLELISM = 4;
+
     private Announcers() {
         // noop
     }
@@ -65,8 +76,8 @@ public final class Announcers {
             return;
         }
 
+        List<Announcer<?>> selected = new ArrayList<>();
         if (!context.getIncludedAnnouncers().isEmpty()) {
-            boolean announced = false;
             for (String announcerName : context.getIncludedAnnouncers()) {
                 // check if the announcer name is valid
                 if (!supportedAnnouncers().contains(announcerName)) {
@@ -86,34 +97,79 @@ public final class Announcers {
                     continue;
                 }
 
-                if (announce(context, announcer)) announced = true;
+                selected.add(announcer);
             }
+        } else {
+            for (Map.Entry<String, Announcer<?>> entry : announcers.entrySet()) {
+                Announcer<?> announcer = entry.getValue();
 
-            if (!announced) {
-                context.getLogger().info(RB.$("announcers.not.triggered"));
+                if (context.getExcludedAnnouncers().contains(announcer.getName())) {
+                    context.getLogger().info(RB.$("announcers.announcer.excluded"), announcer.getName());
+                    continue;
+                }
+
+                selected.add(announcer);
             }
-            context.getLogger().decreaseIndent();
-            context.getLogger().restorePrefix();
-            return;
         }
 
-        boolean announced = false;
-        for (Map.Entry<String, Announcer<?>> entry : announcers.entrySet()) {
-            Announcer<?> announcer = entry.getValue();
+        if (!announce(context, selected)) {
+            context.getLogger().info(RB.$("announcers.not.triggered"));
+        }
+        context.getLogger().decreaseIndent();
+        context.getLogger().restorePrefix();
+    }
+
+    private static boolean announce(JReleaserContext context, List<Announcer<?>> announcers) {
+        int workers = Math.min(resolveParallelism(), announcers.size());
+        if (workers <= 1) {
+            boolean announced = false;
+            for (Announcer<?> announcer : announcers) {
+                if (announce(context, announcer)) announced = true;
+            }
+            return announced;
+        }
+
+        // every announcer reports its own outcome, a slow or failing
+        // target does not hold back the others
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "jreleaser-announce-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
 
-            if (context.getExcludedAnnouncers().contains(announcer.getName())) {
-                context.getLogger().info(RB.$("announcers.announcer.excluded"), announcer.getName());
-                continue;
+        try {
+            List<Future<Boolean>> tasks = new ArrayList<>();
+            for (Announcer<?> announcer : announcers) {
+                tasks.add(executor.submit(ExtensionManagerHolder.propagate(() -> announce(context, announcer))));
             }
 
-            if (announce(context, announcer)) announced = true;
+            boolean announced = false;
+            for (Future<Boolean> task : tasks) {
+                try {
+                    if (task.get()) announced = true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new JReleaserException(RB.$("ERROR_unexpected_error"), e);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new JReleaserException(RB.$("ERROR_unexpected_error"), e.getCause());
+                }
+            }
+            return announced;
+        } finally {
+            executor.shutdownNow();
         }
+    }
 
-        if (!announced) {
-            context.getLogger().info(RB.$("announcers.not.triggered"));
+    private static int resolveParallelism() {
+        try {
+            return Math.max(1, Integer.parseInt(Env.resolve(ANNOUNCE_PARALLELISM, String.valueOf(DEFAULT_PARALLELISM)).trim()));
+        } catch (NumberFormatException e) {
+            return DEFAULT_PARALLELISM;
         }
-        context.getLogger().decreaseIndent();
-        context.getLogger().restorePrefix();
     }
 
     private static boolean announce(JReleaserContext context, Announcer<?> announcer) {
@@ -154,17 +210,14 @@ public final class Announcers {
     private static Map<String, Announcer<?>> findAnnouncers(JReleaserContext context) {
         JReleaserModel model = context.getModel();
 
-        Map<String, AnnouncerBuilder<?>> builders = StreamSupport.stream(ServiceLoader.load(AnnouncerBuilderFactory.class,
-                Announcers.class.getClassLoader()).spliterator(), false)
-            .collect(Collectors.toMap(AnnouncerBuilderFactory::getName, AnnouncerBuilderFactory::getBuilder));
-
         Map<String, Announcer<?>> announcers = new TreeMap<>();
-        builders.forEach((name, builder) -> {
+        for (AnnouncerBuilderFactory<?, ?> factory : ServiceRegistry.load(AnnouncerBuilderFactory.class)) {
+            String name = factory.getName();
             if (null != model.getAnnounce().findAnnouncer(name) &&
                 !context.getExcludedAnnouncers().contains(name)) {
-                announcers.put(name, builder.configureWith(context).build());
+                announcers.put(name, factory.getBuilder().configureWith(context).build());
             }
-        });
+        }
 
         return announcers;
     }
@@ -23,11 +23,7 @@ import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.assemble.Assembler;
 import org.jreleaser.model.spi.assemble.AssemblerProcessor;
 import org.jreleaser.model.spi.assemble.AssemblerProcessorFactory;
-
-import java.util.Map;
-import java.util.ServiceLoader;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import org.jreleaser.util.ServiceRegistry;
 
 /**
  * @author Andres Almiray
@@ -39,14 +35,12 @@ public final class AssemblerProcessors {
     }
 
     public static <A extends org.jreleaser.model.api.assemble.Assembler, S extends Assembler<A>> AssemblerProcessor<A, S> findProcessor(JReleaserContext context, S assembler) {
-        Map<String, AssemblerProcessor<?, ?>> processors = StreamSupport.stream(ServiceLoader.load(AssemblerProcessorFactory.class,
-                AssemblerProcessors.class.getClassLoader()).spliterator(), false)
-            .collect(Collectors.toMap(AssemblerProcessorFactory::getName, factory -> factory.getAssemblerProcessor(context)));
-
-        if (processors.containsKey(assembler.getType())) {
-            AssemblerProcessor assemblerProcessor = processors.get(assembler.getType());
-            assemblerProcessor.setAssembler(assembler);
-            return assemblerProcessor;
+        for (AssemblerProcessorFactory factory : ServiceRegistry.load(AssemblerProcessorFactory.class)) {
+            if (factory.getName().equals(assembler.getType())) {
+                AssemblerProcessor assemblerProcessor = factory.getAssemblerProcessor(context);
+                assemblerProcessor.setAssembler(assembler);
+                return assemblerProcessor;
+            }
         }
 
         throw new JReleaserException(RB.$("ERROR_unsupported_assembler", assembler.getType()));
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.assemble;
+
+import org.jreleaser.bundle.RB;
+import org.jreleaser.model.JReleaserException;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.model.internal.assemble.Assemble;
+import org.jreleaser.model.internal.assemble.Assembler;
+import org.jreleaser.model.internal.assemble.DebAssembler;
+import org.jreleaser.model.internal.assemble.JpackageAssembler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.joining;
+import static org.jreleaser.util.StringUtils.isNotBlank;
+
+/**
+ * Runs assemblers in dependency order.
+ * <p>
+ * A {@code deb} assembler that sets {@code assemblerRef} runs after the referenced
+ * assembler, as does a {@code jpackage} assembler after its {@code jlink} assembler.
+ * Assemblers run one at a time, as they resolve templates and paths on the shared model.
+ *
+ * @author Andres Almiray
+ * @since 1.26.0
+ */
+final class AssemblerScheduler {
+    private final JReleaserContext context;
+    private final List<Assembler<?>> assemblers;
+    private final Map<Assembler<?>, List<Assembler<?>>> dependents = new HashMap<>();
+    private final Map<Assembler<?>, Integer> pending = new HashMap<>();
+
+    AssemblerScheduler(JReleaserContext context, Collection<Assembler<?>> assemblers) {
+        this.context = context;
+        this.assemblers = new ArrayList<>(assemblers);
+        buildGraph();
+    }
+
+    boolean run(Task task) {
+        boolean assembled = false;
+        for (Assembler<?> assembler : sort()) {
+            if (task.assemble(assembler)) assembled = true;
+        }
+        return assembled;
+    }
+
+    private void buildGraph() {
+        for (Assembler<?> assembler : assemblers) {
+            pending.put(assembler, 0);
+        }
+
+        for (Assembler<?> assembler : assemblers) {
+            for (Assembler<?> reference : referencesOf(assembler)) {
+                // a reference outside of this run was assembled earlier, its outputs are already in place
+                if (null == reference || reference == assembler || !pending.containsKey(reference)) continue;
+
+                dependents.computeIfAbsent(reference, k -> new ArrayList<>()).add(assembler);
+                pending.merge(assembler, 1, Integer::sum);
+            }
+        }
+    }
+
+    private List<Assembler<?>> referencesOf(Assembler<?> assembler) {
+        List<Assembler<?>> references = new ArrayList<>();
+        Assemble assemble = context.getModel().getAssemble();
+
+        if (assembler instanceof DebAssembler) {
+            String assemblerRef = ((DebAssembler) assembler).getAssemblerRef();
+            if (isNotBlank(assemblerRef)) references.add(assemble.findAssembler(assemblerRef.trim()));
+        } else if (assembler instanceof JpackageAssembler) {
+            // jpackage consumes the runtime images produced by its jlink assembler
+            String jlink = ((JpackageAssembler) assembler).getJlink();
+            if (isNotBlank(jlink)) references.add(assemble.getJlink().get(jlink.trim()));
+        }
+
+        return references;
+    }
+
+    List<Assembler<?>> sort() {
+        Map<Assembler<?>, Integer> waiting = new LinkedHashMap<>();
+        for (Assembler<?> assembler : assemblers) {
+            waiting.put(assembler, pending.get(assembler));
+        }
+
+        List<Assembler<?>> order = new ArrayList<>();
+        boolean progress = true;
+        while (!waiting.isEmpty() && progress) {
+            progress = false;
+            for (Assembler<?> assembler : new ArrayList<>(waiting.keySet())) {
+                if (waiting.get(assembler) != 0) continue;
+
+                waiting.remove(assembler);
+                order.add(assembler);
+                for (Assembler<?> dependent : dependents.getOrDefault(assembler, Collections.emptyList())) {
+                    waiting.merge(dependent, -1, Integer::sum);
+                }
+                progress = true;
+            }
+        }
+
+        if (!waiting.isEmpty()) {
+            throw new JReleaserException(RB.$("assemblers.dependency.cycle", waiting.keySet().stream()
+                .map(a -> a.getType() + ":" + a.getName())
+                .collect(joining(", "))));
+        }
+
+        return order;
+    }
+
+    @FunctionalInterface
+    interface Task {
+        boolean assemble(Assembler<?> assembler);
+    }
+}
@@ -27,7 +27,9 @@ import org.jreleaser.model.internal.assemble.Assemble;
 import org.jreleaser.model.internal.assemble.Assembler;
 import org.jreleaser.model.spi.assemble.AssemblerProcessingException;
 
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
 import static org.jreleaser.model.internal.JReleaserSupport.supportedAssemblers;
 
@@ -61,6 +63,9 @@ public final class Assemblers {
     }
 
     private static void doAssemble(JReleaserContext context, Assemble assemble) {
+        // collect every assembler first, the scheduler orders them by assemblerRef
+        Set<Assembler<?>> selected = new LinkedHashSet<>();
+
         if (!context.getIncludedAssemblers().isEmpty()) {
             for (String assemblerType : context.getIncludedAssemblers()) {
                 // check if the assemblerType is valid
@@ -73,12 +78,12 @@ public final class Assemblers {
 
                 if (assemblers.isEmpty()) {
                     context.getLogger().info(RB.$("assemblers.no.match"), assemblerType);
-                    return;
+                    break;
                 }
 
                 if (!context.getIncludedDistributions().isEmpty()) {
                     for (String distributionName : context.getIncludedDistributions()) {
-                        boolean[] assembled = new boolean[]{false};
+                        boolean[] triggered = new boolean[]{false};
                         if (!assemblers.containsKey(distributionName)) {
                             context.getLogger().error(RB.$("assemblers.distribution.not.configured"), assemblerType, distributionName);
                             continue;
@@ -89,21 +94,21 @@ public final class Assemblers {
                             .peek(assembler -> context.getLogger().info(RB.$("assemblers.assemble.distribution.with"),
                                 distributionName, assembler.getName()))
                             .forEach(assembler -> {
-                                if (assemble(context, assembler)) assembled[0] = true;
+                                if (select(selected, assembler)) triggered[0] = true;
                             });
 
-                        if (!assembled[0]) {
+                        if (!triggered[0]) {
                             context.getLogger().info(RB.$("assemblers.not.triggered"));
                         }
                     }
                 } else {
                     context.getLogger().info(RB.$("assemblers.assemble.all.distributions.with"), assemblerType);
-                    boolean[] assembled = new boolean[]{false};
+                    boolean[] triggered = new boolean[]{false};
                     assemblers.values().forEach(assembler -> {
-                        if (assemble(context, assembler)) assembled[0] = true;
+                        if (select(selected, assembler)) triggered[0] = true;
                     });
 
-                    if (!assembled[0]) {
+                    if (!triggered[0]) {
                         context.getLogger().info(RB.$("assemblers.not.triggered"));
                     }
                 }
@@ -112,20 +117,20 @@ public final class Assemblers {
             for (String distributionName : context.getIncludedDistributions()) {
                 context.getLogger().info(RB.$("assemblers.assemble.distribution.with.all"), distributionName);
 
-                boolean[] assembled = new boolean[]{false};
+                boolean[] triggered = new boolean[]{false};
                 assemble.findAllAssemblers().stream()
                     .filter(a -> distributionName.equals(a.getName()))
                     .forEach(assembler -> {
-                        if (assemble(context, assembler)) assembled[0] = true;
+                        if (select(selected, assembler)) triggered[0] = true;
                     });
 
-                if (!assembled[0]) {
+                if (!triggered[0]) {
                     context.getLogger().info(RB.$("assemblers.not.triggered"));
                 }
             }
         } else {
             context.getLogger().info(RB.$("assemblers.assemble.all.distributions"));
-            boolean assembled = false;
+            boolean triggered = false;
             for (Assembler<?> assembler : assemble.findAllAssemblers()) {
                 String assemblerType = assembler.getType();
                 String distributionName = assembler.getName();
@@ -135,13 +140,22 @@ public final class Assemblers {
                     continue;
                 }
 
-                if (assemble(context, assembler)) assembled = true;
+                if (select(selected, assembler)) triggered = true;
             }
 
-            if (!assembled) {
+            if (!triggered) {
                 context.getLogger().info(RB.$("assemblers.not.triggered"));
             }
         }
+
+        if (!selected.isEmpty()) {
+            new AssemblerScheduler(context, selected).run(assembler -> assemble(context, assembler));
+        }
+    }
+
+    private static boolean select(Set<Assembler<?>> selected, Assembler<?> assembler) {
+        selected.add(assembler);
+        return assembler.isEnabled();
     }
 
     private static boolean assemble(JReleaserContext context, Assembler<?> assembler) {
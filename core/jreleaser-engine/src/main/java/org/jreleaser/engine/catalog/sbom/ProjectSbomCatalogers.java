@@ -22,11 +22,7 @@ import org.jreleaser.model.JReleaserException;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.spi.catalog.sbom.SbomCatalogerProcessor;
 import org.jreleaser.model.spi.catalog.sbom.SbomCatalogerProcessorFactory;
-
-import java.util.Map;
-import java.util.ServiceLoader;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import org.jreleaser.util.ServiceRegistry;
 
 /**
  * @author Andres Almiray
@@ -38,14 +34,12 @@ public final class ProjectSbomCatalogers {
     }
 
     public static <A extends org.jreleaser.model.api.catalog.sbom.SbomCataloger, C extends org.jreleaser.model.internal.catalog.sbom.SbomCataloger<A>> SbomCatalogerProcessor<A, C> findSbomCataloger(JReleaserContext context, C cataloger) {
-        Map<String, SbomCatalogerProcessor<?, ?>> catalogers = StreamSupport.stream(ServiceLoader.load(SbomCatalogerProcessorFactory.class,
-                ProjectSbomCatalogers.class.getClassLoader()).spliterator(), false)
-            .collect(Collectors.toMap(SbomCatalogerProcessorFactory::getName, factory -> factory.getSbomCataloger(context)));
-
-        if (catalogers.containsKey(cataloger.getType())) {
-            SbomCatalogerProcessor sbomCataloger = catalogers.get(cataloger.getType());
-            sbomCataloger.setCataloger(cataloger);
-            return sbomCataloger;
+        for (SbomCatalogerProcessorFactory factory : ServiceRegistry.load(SbomCatalogerProcessorFactory.class)) {
+            if (factory.getName().equals(cataloger.getType())) {
+                SbomCatalogerProcessor sbomCataloger = factory.getSbomCataloger(context);
+                sbomCataloger.setCataloger(cataloger);
+                return sbomCataloger;
+            }
         }
 
         throw new JReleaserException(RB.$("ERROR_unsupported_cataloger", cataloger.getType()));
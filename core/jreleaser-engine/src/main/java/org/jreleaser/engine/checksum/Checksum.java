@@ -24,7 +24,7 @@ import org.jreleaser.model.internal.common.Artifact;
 import org.jreleaser.model.internal.distributions.Distribution;
 import org.jreleaser.model.internal.util.Artifacts;
 import org.jreleaser.util.Algorithm;
-import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.ChecksumCache;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -187,7 +187,11 @@ public final class Checksum {
     public static String calculateHash(JReleaserContext context, Path input, Path output, Algorithm algorithm) throws JReleaserException {
         try {
             context.getLogger().info("{}.{}", context.relativizeToBasedir(input), algorithm.formatted());
-            String hashcode = ChecksumUtils.checksum(algorithm, Files.readAllBytes(input));
+            if (Files.size(input) == 0) {
+                throw new IOException(RB.$("ERROR_empty_data", algorithm));
+            }
+            // shared with other stages hashing the same file, e.g. SWID tag generation
+            String hashcode = ChecksumCache.checksum(input, algorithm);
             output.toFile().getParentFile().mkdirs();
             Files.write(output, hashcode.getBytes(UTF_8));
             return hashcode;
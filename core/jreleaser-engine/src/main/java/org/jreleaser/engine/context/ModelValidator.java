@@ -43,11 +43,15 @@ public final class ModelValidator {
     }
 
     public static void validate(JReleaserContext context) {
+        validate(context, false);
+    }
+
+    public static void validate(JReleaserContext context, boolean full) {
         try {
-            Errors errors = context.validateModel();
+            Errors errors = context.validateModel(full);
 
             new JReleaserModelPrinter.Plain(context.getLogger().getTracer())
-                .print(context.getModel().asMap(true));
+                .print(full ? context.getModel().asMap(true) : context.getModel().asMap(true, context.getMode()));
 
             if (context.isStrict() && errors.hasWarnings()) {
                 throw new JReleaserException(RB.$("ERROR_context_configurer_jreleaser_misconfigured") +
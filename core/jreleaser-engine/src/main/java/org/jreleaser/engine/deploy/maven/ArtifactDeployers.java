@@ -22,11 +22,7 @@ import org.jreleaser.model.JReleaserException;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.spi.deploy.maven.MavenDeployer;
 import org.jreleaser.model.spi.deploy.maven.MavenDeployerFactory;
-
-import java.util.Map;
-import java.util.ServiceLoader;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import org.jreleaser.util.ServiceRegistry;
 
 /**
  * @author Andres Almiray
@@ -38,14 +34,12 @@ public final class ArtifactDeployers {
     }
 
     public static <A extends org.jreleaser.model.api.deploy.maven.MavenDeployer, D extends org.jreleaser.model.internal.deploy.maven.MavenDeployer<A>> MavenDeployer<A, D> findMavenDeployer(JReleaserContext context, D deployer) {
-        Map<String, MavenDeployer<?, ?>> deployers = StreamSupport.stream(ServiceLoader.load(MavenDeployerFactory.class,
-                ArtifactDeployers.class.getClassLoader()).spliterator(), false)
-            .collect(Collectors.toMap(MavenDeployerFactory::getName, factory -> factory.getMavenDeployer(context)));
-
-        if (deployers.containsKey(deployer.getType())) {
-            MavenDeployer artifactMavenDeployer = deployers.get(deployer.getType());
-            artifactMavenDeployer.setDeployer(deployer);
-            return artifactMavenDeployer;
+        for (MavenDeployerFactory factory : ServiceRegistry.load(MavenDeployerFactory.class)) {
+            if (factory.getName().equals(deployer.getType())) {
+                MavenDeployer artifactMavenDeployer = factory.getMavenDeployer(context);
+                artifactMavenDeployer.setDeployer(deployer);
+                return artifactMavenDeployer;
+            }
         }
 
         throw new JReleaserException(RB.$("ERROR_unsupported_deployer", deployer.getType()));
@@ -23,12 +23,7 @@ import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.packagers.Packager;
 import org.jreleaser.model.spi.packagers.PackagerProcessor;
 import org.jreleaser.model.spi.packagers.PackagerProcessorFactory;
-
-import java.util.Map;
-import java.util.ServiceLoader;
-import java.util.stream.StreamSupport;
-
-import static java.util.stream.Collectors.toMap;
+import org.jreleaser.util.ServiceRegistry;
 
 /**
  * @author Andres Almiray
@@ -40,14 +35,12 @@ public final class PackagerProcessors {
     }
 
     public static <T extends Packager> PackagerProcessor<T> findProcessor(JReleaserContext context, T packager) {
-        Map<String, PackagerProcessor> processors = StreamSupport.stream(ServiceLoader.load(PackagerProcessorFactory.class,
-                PackagerProcessors.class.getClassLoader()).spliterator(), false)
-            .collect(toMap(PackagerProcessorFactory::getName, factory -> factory.getPackagerNameProcessor(context)));
-
-        if (processors.containsKey(packager.getType())) {
-            PackagerProcessor<T> packagerProcessor = processors.get(packager.getType());
-            packagerProcessor.setPackager(packager);
-            return packagerProcessor;
+        for (PackagerProcessorFactory factory : ServiceRegistry.load(PackagerProcessorFactory.class)) {
+            if (factory.getName().equals(packager.getType())) {
+                PackagerProcessor<T> packagerProcessor = factory.getPackagerNameProcessor(context);
+                packagerProcessor.setPackager(packager);
+                return packagerProcessor;
+            }
         }
 
         throw new JReleaserException(RB.$("ERROR_unsupported_packager", packager.getType()));
@@ -23,11 +23,7 @@ import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.download.Downloader;
 import org.jreleaser.model.spi.download.ArtifactDownloader;
 import org.jreleaser.model.spi.download.ArtifactDownloaderFactory;
-
-import java.util.Map;
-import java.util.ServiceLoader;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import org.jreleaser.util.ServiceRegistry;
 
 /**
  * @author Andres Almiray
@@ -39,14 +35,12 @@ public final class ArtifactDownloaders {
     }
 
     public static <A extends org.jreleaser.model.api.download.Downloader, D extends Downloader<A>> ArtifactDownloader<A, D> findDownloader(JReleaserContext context, D downloader) {
-        Map<String, ArtifactDownloader<?, ?>> downloaders = StreamSupport.stream(ServiceLoader.load(ArtifactDownloaderFactory.class,
-                ArtifactDownloaders.class.getClassLoader()).spliterator(), false)
-            .collect(Collectors.toMap(ArtifactDownloaderFactory::getName, factory -> factory.getArtifactDownloader(context)));
-
-        if (downloaders.containsKey(downloader.getType())) {
-            ArtifactDownloader artifactDownloader = downloaders.get(downloader.getType());
-            artifactDownloader.setDownloader(downloader);
-            return artifactDownloader;
+        for (ArtifactDownloaderFactory factory : ServiceRegistry.load(ArtifactDownloaderFactory.class)) {
+            if (factory.getName().equals(downloader.getType())) {
+                ArtifactDownloader artifactDownloader = factory.getArtifactDownloader(context);
+                artifactDownloader.setDownloader(downloader);
+                return artifactDownloader;
+            }
         }
 
         throw new JReleaserException(RB.$("ERROR_unsupported_downloader", downloader.getType()));
@@ -21,6 +21,7 @@ import org.jreleaser.bundle.RB;
 import org.jreleaser.config.JReleaserConfigLoader;
 import org.jreleaser.config.JReleaserConfigParser;
 import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.util.ServiceRegistry;
 
 import java.io.File;
 import java.io.IOException;
@@ -28,9 +29,9 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
-import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -136,8 +137,7 @@ public final class Environment {
     }
 
     private static Optional<Path> resolveConfigFileAt(Path directory) {
-        ServiceLoader<JReleaserConfigParser> parsers = ServiceLoader.load(JReleaserConfigParser.class,
-            JReleaserConfigParser.class.getClassLoader());
+        List<JReleaserConfigParser> parsers = ServiceRegistry.load(JReleaserConfigParser.class);
 
         for (JReleaserConfigParser parser : parsers) {
             Path file = directory.resolve("config." + parser.getPreferredFileExtension());
@@ -24,6 +24,7 @@ import org.jreleaser.model.JReleaserException;
 import org.jreleaser.templates.TemplateResource;
 import org.jreleaser.templates.TemplateUtils;
 import org.jreleaser.templates.VersionDecoratingWriter;
+import org.jreleaser.util.ServiceRegistry;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
@@ -33,7 +34,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.LinkedHashSet;
-import java.util.ServiceLoader;
+import java.util.List;
 import java.util.Set;
 
 import static java.nio.file.StandardOpenOption.CREATE;
@@ -90,8 +91,7 @@ public final class Init {
     private static Set<String> getSupportedConfigFormats() {
         Set<String> extensions = new LinkedHashSet<>();
 
-        ServiceLoader<JReleaserConfigParser> parsers = ServiceLoader.load(JReleaserConfigParser.class,
-            JReleaserConfigParser.class.getClassLoader());
+        List<JReleaserConfigParser> parsers = ServiceRegistry.load(JReleaserConfigParser.class);
 
         for (JReleaserConfigParser parser : parsers) {
             extensions.add(parser.getPreferredFileExtension());
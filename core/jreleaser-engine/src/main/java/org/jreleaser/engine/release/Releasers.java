@@ -33,11 +33,7 @@ import org.jreleaser.model.spi.release.ReleaseException;
 import org.jreleaser.model.spi.release.Releaser;
 import org.jreleaser.model.spi.release.ReleaserBuilder;
 import org.jreleaser.model.spi.release.ReleaserBuilderFactory;
-
-import java.util.Map;
-import java.util.ServiceLoader;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import org.jreleaser.util.ServiceRegistry;
 
 /**
  * @author Andres Almiray
@@ -72,27 +68,35 @@ public final class Releasers {
     }
 
     private static <T extends ReleaserBuilder<?>> T findReleaser(JReleaserContext context) {
-        Map<String, ReleaserBuilder<?>> builders = StreamSupport.stream(ServiceLoader.load(ReleaserBuilderFactory.class,
-                Releasers.class.getClassLoader()).spliterator(), false)
-            .collect(Collectors.toMap(ReleaserBuilderFactory::getName, ReleaserBuilderFactory::getBuilder));
+        String type = resolveReleaserType(context);
+
+        for (ReleaserBuilderFactory factory : ServiceRegistry.load(ReleaserBuilderFactory.class)) {
+            if (factory.getName().equals(type)) {
+                return (T) factory.getBuilder();
+            }
+        }
+
+        return null;
+    }
 
+    private static String resolveReleaserType(JReleaserContext context) {
         if (null != context.getModel().getRelease().getGithub()) {
-            return (T) builders.get(GithubReleaser.TYPE);
+            return GithubReleaser.TYPE;
         }
         if (null != context.getModel().getRelease().getGitlab()) {
-            return (T) builders.get(GitlabReleaser.TYPE);
+            return GitlabReleaser.TYPE;
         }
         if (null != context.getModel().getRelease().getGitea()) {
-            return (T) builders.get(GiteaReleaser.TYPE);
+            return GiteaReleaser.TYPE;
         }
         if (null != context.getModel().getRelease().getForgejo()) {
-            return (T) builders.get(ForgejoReleaser.TYPE);
+            return ForgejoReleaser.TYPE;
         }
         if (null != context.getModel().getRelease().getCodeberg()) {
-            return (T) builders.get(CodebergReleaser.TYPE);
+            return CodebergReleaser.TYPE;
         }
         if (null != context.getModel().getRelease().getGeneric()) {
-            return (T) builders.get(GenericGitReleaser.TYPE);
+            return GenericGitReleaser.TYPE;
         }
 
         throw new JReleaserException(RB.$("ERROR_releaser_no_match"));
@@ -17,6 +17,8 @@
  */
 package org.jreleaser.engine.sign;
 
+import org.jreleaser.bundle.RB;
+import org.jreleaser.model.JReleaserException;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.catalog.sbom.SbomCataloger;
 import org.jreleaser.model.internal.common.Artifact;
@@ -26,11 +28,17 @@ import org.jreleaser.model.internal.util.Artifacts;
 import org.jreleaser.model.spi.catalog.sbom.SbomCatalogerProcessorHelper;
 import org.jreleaser.sdk.signing.SigningUtils;
 import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.Env;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
 import static org.jreleaser.model.api.signing.Signing.KEY_SKIP_SIGNING;
@@ -40,6 +48,10 @@ import static org.jreleaser.model.api.signing.Signing.KEY_SKIP_SIGNING;
  * @since 1.22.0
  */
 public abstract class AbstractSigner {
+    public static final String VERIFY_PARALLELISM = "VERIFY_PARALLELISM";
+
+    private static final int DEFAULT_PARALLELISM = 4;
+
     protected final JReleaserContext context;
     protected final SigningTool tool;
 
@@ -64,7 +76,6 @@ public abstract class AbstractSigner {
                 Path input = artifact.getEffectivePath(context);
                 Path output = signaturesDirectory.resolve(input.getFileName().toString().concat(tool.getSignatureExtension()));
                 SigningUtils.FilePair pair = new SigningUtils.FilePair(input, output);
-                if (!forceSign) pair.setValid(validator.test(pair));
                 files.add(pair);
             }
         }
@@ -78,7 +89,6 @@ public abstract class AbstractSigner {
                     if (artifact.isOptional(context) && !artifact.resolvedPathExists()) continue;
                     Path output = signaturesDirectory.resolve(input.getFileName().toString().concat(tool.getSignatureExtension()));
                     SigningUtils.FilePair pair = new SigningUtils.FilePair(input, output);
-                    if (!forceSign) pair.setValid(validator.test(pair));
                     files.add(pair);
                 }
             }
@@ -92,7 +102,6 @@ public abstract class AbstractSigner {
                     Path input = artifact.getEffectivePath(context);
                     Path output = signaturesDirectory.resolve(input.getFileName().toString().concat(tool.getSignatureExtension()));
                     SigningUtils.FilePair pair = new SigningUtils.FilePair(input, output);
-                    if (!forceSign) pair.setValid(validator.test(pair));
                     files.add(pair);
                 }
             }
@@ -105,12 +114,62 @@ public abstract class AbstractSigner {
                 if (Files.exists(checksums)) {
                     Path output = signaturesDirectory.resolve(checksums.getFileName().toString().concat(tool.getSignatureExtension()));
                     SigningUtils.FilePair pair = new SigningUtils.FilePair(checksums, output);
-                    if (!forceSign) pair.setValid(validator.test(pair));
                     files.add(pair);
                 }
             }
         }
 
+        if (!forceSign) validate(files, validator);
+
         return files;
     }
+
+    private void validate(List<SigningUtils.FilePair> files, Predicate<SigningUtils.FilePair> validator) {
+        int workers = Math.min(resolveParallelism(), files.size());
+        if (workers <= 1) {
+            for (SigningUtils.FilePair pair : files) {
+                pair.setValid(validator.test(pair));
+            }
+            return;
+        }
+
+        // existing signatures are verified concurrently, each pair records its own outcome
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "jreleaser-verify-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (SigningUtils.FilePair pair : files) {
+                tasks.add(executor.submit(() -> pair.setValid(validator.test(pair))));
+            }
+
+            for (Future<?> task : tasks) {
+                try {
+                    task.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new JReleaserException(RB.$("ERROR_unexpected_error"), e);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new JReleaserException(RB.$("ERROR_unexpected_error"), e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static int resolveParallelism() {
+        try {
+            return Math.max(1, Integer.parseInt(Env.resolve(VERIFY_PARALLELISM, String.valueOf(DEFAULT_PARALLELISM)).trim()));
+        } catch (NumberFormatException e) {
+            return DEFAULT_PARALLELISM;
+        }
+    }
 }
@@ -23,11 +23,7 @@ import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.upload.Uploader;
 import org.jreleaser.model.spi.upload.ArtifactUploader;
 import org.jreleaser.model.spi.upload.ArtifactUploaderFactory;
-
-import java.util.Map;
-import java.util.ServiceLoader;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import org.jreleaser.util.ServiceRegistry;
 
 /**
  * @author Andres Almiray
@@ -39,14 +35,12 @@ public final class ArtifactUploaders {
     }
 
     public static <A extends org.jreleaser.model.api.upload.Uploader, U extends Uploader<A>> ArtifactUploader<A, U> findUploader(JReleaserContext context, U uploader) {
-        Map<String, ArtifactUploader<?, ?>> uploaders = StreamSupport.stream(ServiceLoader.load(ArtifactUploaderFactory.class,
-                ArtifactUploaders.class.getClassLoader()).spliterator(), false)
-            .collect(Collectors.toMap(ArtifactUploaderFactory::getName, factory -> factory.getArtifactUploader(context)));
-
-        if (uploaders.containsKey(uploader.getType())) {
-            ArtifactUploader artifactUploader = uploaders.get(uploader.getType());
-            artifactUploader.setUploader(uploader);
-            return artifactUploader;
+        for (ArtifactUploaderFactory factory : ServiceRegistry.load(ArtifactUploaderFactory.class)) {
+            if (factory.getName().equals(uploader.getType())) {
+                ArtifactUploader artifactUploader = factory.getArtifactUploader(context);
+                artifactUploader.setUploader(uploader);
+                return artifactUploader;
+            }
         }
 
         throw new JReleaserException(RB.$("ERROR_unsupported_uploader", uploader.getType()));
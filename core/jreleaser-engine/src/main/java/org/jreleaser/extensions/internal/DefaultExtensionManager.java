@@ -34,6 +34,7 @@ import org.jreleaser.templates.TemplateResource;
 import org.jreleaser.templates.TemplateUtils;
 import org.jreleaser.util.DefaultVersions;
 import org.jreleaser.util.FileUtils;
+import org.jreleaser.util.ServiceRegistry;
 import org.kordamp.jipsy.annotations.ServiceProviderFor;
 
 import java.io.File;
@@ -53,6 +54,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -71,15 +73,16 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
 public final class DefaultExtensionManager implements ExtensionManager {
     private final Map<String, ExtensionDef> extensionDefs = new LinkedHashMap<>();
     private final Set<ExtensionPoint> allExtensionPoints = new LinkedHashSet<>();
-    private final Map<String, Set<ExtensionPoint>> extensionPoints = new LinkedHashMap<>();
+    // looked up from worker threads as well, see ExtensionManagerHolder.propagate()
+    private final Map<String, Set<ExtensionPoint>> extensionPoints = new ConcurrentHashMap<>();
+    private final List<ClassLoader> classLoaders = new ArrayList<>();
 
     public ExtensionBuilder configureExtension(String name) {
         return new ExtensionBuilder(name, this);
     }
 
     public void load(JReleaserContext context) {
-        extensionPoints.clear();
-        allExtensionPoints.clear();
+        unload();
 
         Set<String> visitedExtensionNames = new LinkedHashSet<>();
         Set<String> visitedExtensionTypes = new LinkedHashSet<>();
@@ -102,6 +105,8 @@ public final class DefaultExtensionManager implements ExtensionManager {
             }
 
             createClassLoader(context, extensionDef).ifPresent(classLoader -> {
+                classLoaders.add(classLoader);
+                ServiceRegistry.registerClassLoader(classLoader);
                 for (Extension extension : ServiceLoader.load(Extension.class, classLoader)) {
                     processExtension(context, extension, visitedExtensionNames, visitedExtensionTypes);
                 }
@@ -111,6 +116,23 @@ public final class DefaultExtensionManager implements ExtensionManager {
         context.setWorkflowListeners(findExtensionPoints(WorkflowListener.class));
     }
 
+    public void unload() {
+        extensionPoints.clear();
+        allExtensionPoints.clear();
+
+        for (ClassLoader classLoader : classLoaders) {
+            ServiceRegistry.unregisterClassLoader(classLoader);
+            if (classLoader instanceof URLClassLoader) {
+                try {
+                    ((URLClassLoader) classLoader).close();
+                } catch (IOException ignored) {
+                    // noop
+                }
+            }
+        }
+        classLoaders.clear();
+    }
+
     @Override
     public <T extends ExtensionPoint> Set<T> findExtensionPoints(Class<T> extensionPointType) {
         return (Set<T>) extensionPoints.computeIfAbsent(extensionPointType.getName(), k -> {
@@ -19,8 +19,9 @@ package org.jreleaser.packagers;
 
 import org.eclipse.jgit.api.CommitCommand;
 import org.eclipse.jgit.api.Git;
-import org.eclipse.jgit.api.errors.NoHeadException;
-import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.transport.CredentialsProvider;
 import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.internal.JReleaserContext;
@@ -39,6 +40,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.function.Predicate;
 
+import static java.util.Collections.singletonList;
 import static org.jreleaser.model.Constants.KEY_DISTRIBUTION_PACKAGE_DIRECTORY;
 import static org.jreleaser.mustache.Templates.resolveTemplate;
 import static org.jreleaser.util.StringUtils.isNotBlank;
@@ -94,22 +96,8 @@ public abstract class AbstractRepositoryPackagerProcessor<T extends RepositoryPa
             String pullBranch = tap.getBranch();
             String pushBranch = resolveTemplate(context.getLogger(), tap.getBranchPush(), props);
 
-            Git git = Git.cloneRepository()
-                .setCredentialsProvider(credentialsProvider)
-                .setBranch(pullBranch)
-                .setDirectory(publishDirectory.toFile())
-                .setURI(repository.getHttpUrl())
-                .call();
-
-            boolean emptyRepository = true;
-            try {
-                for (RevCommit commit : git.log().call()) {
-                    emptyRepository = false;
-                    break;
-                }
-            } catch (NoHeadException ignored) {
-                // ok
-            }
+            Git git = cloneRepository(repository.getHttpUrl(), pullBranch, credentialsProvider, publishDirectory);
+            boolean emptyRepository = null == git.getRepository().resolve(Constants.HEAD);
 
             boolean mustBranch = !pushBranch.equals(pullBranch);
             if (mustBranch && !emptyRepository) {
@@ -184,6 +172,40 @@ public abstract class AbstractRepositoryPackagerProcessor<T extends RepositoryPa
         }
     }
 
+    private Git cloneRepository(String url, String branch, CredentialsProvider credentialsProvider, Path directory) throws IOException, GitAPIException {
+        boolean hasBranch = Git.lsRemoteRepository()
+            .setRemote(url)
+            .setHeads(true)
+            .setCredentialsProvider(credentialsProvider)
+            .callAsMap()
+            .containsKey(Constants.R_HEADS + branch);
+
+        // unknown branches and empty repositories take the default clone path
+        if (!hasBranch) {
+            return Git.cloneRepository()
+                .setCredentialsProvider(credentialsProvider)
+                .setBranch(branch)
+                .setDirectory(directory.toFile())
+                .setURI(url)
+                .call();
+        }
+
+        if (RepositoryMirror.isEnabled()) {
+            return RepositoryMirror.checkout(context, url, branch, credentialsProvider, directory);
+        }
+
+        // only the branch being updated is needed, skip every other branch and all tags
+        return Git.cloneRepository()
+            .setCredentialsProvider(credentialsProvider)
+            .setBranch(branch)
+            .setCloneAllBranches(false)
+            .setBranchesToClone(singletonList(Constants.R_HEADS + branch))
+            .setNoTags()
+            .setDirectory(directory.toFile())
+            .setURI(url)
+            .call();
+    }
+
     protected void prepareWorkingCopy(TemplateContext props, Path directory, Distribution distribution) throws IOException {
         Path packageDirectory = props.get(KEY_DISTRIBUTION_PACKAGE_DIRECTORY);
         prepareWorkingCopy(packageDirectory, directory);
@@ -28,6 +28,7 @@ import org.jreleaser.model.internal.packagers.DockerSpec;
 import org.jreleaser.model.spi.packagers.PackagerProcessingException;
 import org.jreleaser.mustache.TemplateContext;
 import org.jreleaser.sdk.command.Command;
+import org.jreleaser.util.Env;
 import org.jreleaser.util.FileUtils;
 import org.jreleaser.util.PlatformUtils;
 
@@ -43,12 +44,16 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
 import static org.jreleaser.model.Constants.KEY_DISTRIBUTION_JAVA_MAIN_CLASS;
 import static org.jreleaser.model.Constants.KEY_DISTRIBUTION_JAVA_MAIN_MODULE;
 import static org.jreleaser.model.Constants.KEY_DISTRIBUTION_PACKAGE_DIRECTORY;
@@ -70,7 +75,10 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
  * @since 0.1.0
  */
 public class DockerPackagerProcessor extends AbstractRepositoryPackagerProcessor<DockerPackager> {
+    public static final String DOCKER_PUSH_PARALLELISM = "DOCKER_PUSH_PARALLELISM";
+
     private static final String ROOT = "ROOT";
+    private static final int DEFAULT_PUSH_PARALLELISM = 4;
 
     public DockerPackagerProcessor(JReleaserContext context) {
         super(context);
@@ -373,9 +381,16 @@ public class DockerPackagerProcessor extends AbstractRepositoryPackagerProcessor
             return;
         }
 
+        // several registries may share the same server and credentials,
+        // external logins are left untouched and never stand in for another registry
+        Set<String> logins = new LinkedHashSet<>();
+        List<DockerConfiguration.Registry> loggedIn = new ArrayList<>();
         for (DockerConfiguration.Registry registry : docker.getRegistries()) {
             if (registry.isEnabled()) {
-                login(docker, registry);
+                if (!registry.isExternalLogin() && logins.add(loginKey(registry))) {
+                    login(docker, registry);
+                    loggedIn.add(registry);
+                }
             } else {
                 context.getLogger().info(RB.$("docker.publish.disabled"), registry.getServerName(), registry.getRepositoryName());
             }
@@ -408,19 +423,74 @@ public class DockerPackagerProcessor extends AbstractRepositoryPackagerProcessor
                 // execute
                 executeCommand(cmd);
             } else {
+                // one push per repository, --all-tags sends shared layers once
+                Map<String, String> pushes = new LinkedHashMap<>();
                 for (Map.Entry<String, List<String>> e : tagNames.entrySet()) {
-                    Set<String> uniqueImageNames = e.getValue().stream()
-                        .map(tag -> tag.split(":")[0])
-                        .collect(toSet());
-                    for (String imageName : uniqueImageNames) {
-                        push(docker, e.getKey(), imageName);
+                    for (String tag : e.getValue()) {
+                        pushes.putIfAbsent(tag.split(":")[0], e.getKey());
                     }
                 }
+                push(docker, pushes);
             }
         }
 
-        for (DockerConfiguration.Registry registry : docker.getRegistries()) {
-            if (registry.isEnabled()) logout(docker, registry);
+        for (DockerConfiguration.Registry registry : loggedIn) {
+            logout(docker, registry);
+        }
+    }
+
+    private String loginKey(DockerConfiguration.Registry registry) {
+        return registry.getServer() + "|" + registry.getUsername();
+    }
+
+    private void push(DockerConfiguration docker, Map<String, String> pushes) throws PackagerProcessingException {
+        int workers = Math.min(pushes.size(), resolvePushParallelism());
+        if (workers <= 1) {
+            for (Map.Entry<String, String> e : pushes.entrySet()) {
+                push(docker, e.getValue(), e.getKey());
+            }
+            return;
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "jreleaser-docker-push-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (Map.Entry<String, String> e : pushes.entrySet()) {
+                tasks.add(executor.submit(() -> {
+                    push(docker, e.getValue(), e.getKey());
+                    return null;
+                }));
+            }
+
+            for (Future<?> task : tasks) {
+                try {
+                    task.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new PackagerProcessingException(RB.$("ERROR_unexpected_error"), e);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof PackagerProcessingException) {
+                        throw (PackagerProcessingException) e.getCause();
+                    }
+                    throw new PackagerProcessingException(RB.$("ERROR_unexpected_error"), e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int resolvePushParallelism() {
+        try {
+            return Math.max(1, Integer.parseInt(Env.resolve(DOCKER_PUSH_PARALLELISM, String.valueOf(DEFAULT_PUSH_PARALLELISM)).trim()));
+        } catch (NumberFormatException e) {
+            return DEFAULT_PUSH_PARALLELISM;
         }
     }
 
@@ -0,0 +1,193 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.packagers;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.ResetCommand;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.RefUpdate;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.StoredConfig;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.eclipse.jgit.transport.CredentialsProvider;
+import org.eclipse.jgit.transport.RefSpec;
+import org.eclipse.jgit.transport.TagOpt;
+import org.jreleaser.bundle.RB;
+import org.jreleaser.model.Constants;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.Env;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.eclipse.jgit.lib.Constants.HEAD;
+import static org.eclipse.jgit.lib.Constants.R_HEADS;
+import static org.eclipse.jgit.lib.Constants.R_REMOTES;
+import static org.jreleaser.util.StringUtils.isBlank;
+import static org.jreleaser.util.StringUtils.isNotBlank;
+
+/**
+ * Persistent bare mirrors of packager repositories, keyed by repository URL.
+ * <p>
+ * Mirrors are updated with an incremental fetch of a single branch. Working copies
+ * borrow the mirror's objects through {@code objects/info/alternates}, thus creating
+ * one only writes the files of the checked out branch.
+ * <p>
+ * Updates hold a lock on a {@code .lock} file next to the mirror, thus concurrent
+ * JReleaser processes sharing the cache never fetch into the same mirror at once.
+ *
+ * @author Andres Almiray
+ * @since 1.26.0
+ */
+final class RepositoryMirror {
+    static final String GIT_MIRROR_CACHE = "GIT_MIRROR_CACHE";
+
+    private static final String ORIGIN = "origin";
+    private static final String LOCK_EXTENSION = ".lock";
+    // file locks are held per process, threads of this process queue here first
+    private static final Map<Path, Object> LOCKS = new ConcurrentHashMap<>();
+
+    private RepositoryMirror() {
+        // noop
+    }
+
+    static boolean isEnabled() {
+        return Boolean.parseBoolean(Env.resolve(GIT_MIRROR_CACHE, "false"));
+    }
+
+    /**
+     * Brings the mirror of {@code url} up to date with {@code branch}, then creates a working
+     * copy of that branch at {@code directory}.
+     */
+    static Git checkout(JReleaserContext context, String url, String branch, CredentialsProvider credentialsProvider, Path directory) throws IOException, GitAPIException {
+        return checkout(context, url, branch, credentialsProvider, directory, resolveCacheDirectory());
+    }
+
+    static Git checkout(JReleaserContext context, String url, String branch, CredentialsProvider credentialsProvider, Path directory, Path cacheDirectory) throws IOException, GitAPIException {
+        String name = ChecksumUtils.checksum(Algorithm.SHA_256, url.getBytes(UTF_8));
+        Path mirror = cacheDirectory.resolve(name + ".git");
+
+        ObjectId head;
+        Files.createDirectories(cacheDirectory);
+        synchronized (LOCKS.computeIfAbsent(mirror, k -> new Object())) {
+            try (FileChannel channel = FileChannel.open(cacheDirectory.resolve(name + LOCK_EXTENSION), CREATE, WRITE);
+                 FileLock ignored = channel.lock()) {
+                context.getLogger().debug(RB.$("repository.mirror.update"), url, mirror);
+                head = update(mirror, url, branch, credentialsProvider);
+            }
+        }
+
+        context.getLogger().debug(RB.$("repository.mirror.checkout"), branch);
+        return createWorkingCopy(mirror, url, branch, head, directory);
+    }
+
+    private static ObjectId update(Path mirror, String url, String branch, CredentialsProvider credentialsProvider) throws IOException, GitAPIException {
+        Repository repository = new FileRepositoryBuilder()
+            .setGitDir(mirror.toFile())
+            .setBare()
+            .build();
+        if (!Files.exists(mirror.resolve("objects"))) {
+            repository.create(true);
+        }
+
+        try (Git git = new Git(repository)) {
+            String ref = R_HEADS + branch;
+            git.fetch()
+                .setRemote(url)
+                .setCredentialsProvider(credentialsProvider)
+                .setRefSpecs(new RefSpec("+" + ref + ":" + ref))
+                .setTagOpt(TagOpt.NO_TAGS)
+                .call();
+            return repository.resolve(ref);
+        }
+    }
+
+    private static Git createWorkingCopy(Path mirror, String url, String branch, ObjectId head, Path directory) throws IOException, GitAPIException {
+        Path gitDir;
+        try (Git git = Git.init().setDirectory(directory.toFile()).call()) {
+            gitDir = git.getRepository().getDirectory().toPath();
+        }
+
+        Path alternates = gitDir.resolve("objects").resolve("info").resolve("alternates");
+        Files.createDirectories(alternates.getParent());
+        Files.write(alternates, (mirror.resolve("objects").toAbsolutePath() + "\n").getBytes(UTF_8));
+
+        Git git = Git.open(directory.toFile());
+        try {
+            Repository repository = git.getRepository();
+            StoredConfig config = repository.getConfig();
+            config.setString("remote", ORIGIN, "url", url);
+            config.setString("remote", ORIGIN, "fetch", "+" + R_HEADS + "*:" + R_REMOTES + ORIGIN + "/*");
+            config.setString("branch", branch, "remote", ORIGIN);
+            config.setString("branch", branch, "merge", R_HEADS + branch);
+            config.save();
+
+            updateRef(repository, R_REMOTES + ORIGIN + "/" + branch, head);
+            updateRef(repository, R_HEADS + branch, head);
+            RefUpdate.Result result = repository.updateRef(HEAD).link(R_HEADS + branch);
+            if (result != RefUpdate.Result.NEW && result != RefUpdate.Result.FORCED && result != RefUpdate.Result.NO_CHANGE) {
+                throw new IOException(HEAD + " " + result);
+            }
+
+            git.reset()
+                .setMode(ResetCommand.ResetType.HARD)
+                .setRef(head.name())
+                .call();
+            return git;
+        } catch (IOException | GitAPIException | RuntimeException e) {
+            git.close();
+            throw e;
+        }
+    }
+
+    private static void updateRef(Repository repository, String name, ObjectId id) throws IOException {
+        RefUpdate update = repository.updateRef(name);
+        update.setNewObjectId(id);
+        update.setForceUpdate(true);
+        RefUpdate.Result result = update.update();
+        if (result != RefUpdate.Result.NEW && result != RefUpdate.Result.FORCED && result != RefUpdate.Result.NO_CHANGE) {
+            throw new IOException(name + " " + result);
+        }
+    }
+
+    private static Path resolveCacheDirectory() {
+        String home = System.getenv(Constants.XDG_CACHE_HOME);
+        if (isNotBlank(home)) {
+            return Paths.get(home).resolve("jreleaser").resolve("git");
+        }
+
+        home = System.getenv(Constants.JRELEASER_USER_HOME);
+        if (isBlank(home)) {
+            home = System.getProperty("user.home") + File.separator + ".jreleaser";
+        }
+        return Paths.get(home).resolve("caches").resolve("git");
+    }
+}
@@ -20,11 +20,15 @@ package org.jreleaser.workflow;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.engine.context.ModelValidator;
 import org.jreleaser.engine.hooks.HookExecutor;
+import org.jreleaser.extensions.api.ExtensionManager;
 import org.jreleaser.extensions.api.ExtensionManagerHolder;
 import org.jreleaser.extensions.api.workflow.WorkflowListenerException;
+import org.jreleaser.extensions.internal.DefaultExtensionManager;
 import org.jreleaser.model.JReleaserException;
 import org.jreleaser.model.api.hooks.ExecutionEvent;
 import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.sdk.commons.StagingRepositoryIndex;
+import org.jreleaser.util.ChecksumCache;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -53,7 +57,13 @@ class WorkflowImpl implements Workflow {
         try {
             doExecute();
         } finally {
+            ExtensionManager extensionManager = ExtensionManagerHolder.get();
+            if (extensionManager instanceof DefaultExtensionManager) {
+                ((DefaultExtensionManager) extensionManager).unload();
+            }
             ExtensionManagerHolder.cleanup();
+            ChecksumCache.clear();
+            StagingRepositoryIndex.clear();
             context.getLogger().close();
         }
     }
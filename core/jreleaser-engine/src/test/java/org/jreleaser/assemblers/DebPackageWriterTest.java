@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.assemblers;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.compress.archivers.ar.ArArchiveEntry;
+import org.apache.commons.compress.archivers.ar.ArArchiveInputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.compressors.zstandard.ZstdCompressorInputStream;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DebPackageWriterTest {
+    private static final ZonedDateTime TIMESTAMP = ZonedDateTime.of(2000, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @Test
+    void writesDebianPackageLayout(@TempDir Path directory) throws IOException {
+        // given:
+        Path dataDirectory = directory.resolve("data");
+        Path controlDirectory = directory.resolve("control");
+        Files.createDirectories(dataDirectory.resolve("bin"));
+        Files.createDirectories(controlDirectory);
+        Files.write(dataDirectory.resolve("bin/app"), "#!/bin/sh\necho app\n".getBytes(UTF_8));
+        Files.write(controlDirectory.resolve("control"), "Package: app\n".getBytes(UTF_8));
+        Path debianPackage = directory.resolve("app_1.0.0-1_all.deb");
+
+        // when:
+        DebPackageWriter writer = new DebPackageWriter(dataDirectory, "/opt/app", TIMESTAMP);
+        long installedSize = writer.installedSize();
+        // templates are rendered after the installed size is computed
+        Files.write(dataDirectory.resolve("app.desktop"), "[Desktop Entry]\n".getBytes(UTF_8));
+        writer.write(controlDirectory, debianPackage);
+
+        // then:
+        Map<String, byte[]> members = readAr(debianPackage);
+        assertThat(members.keySet()).containsExactly("debian-binary", "control.tar.zst", "data.tar.zst");
+        assertThat(new String(members.get("debian-binary"), UTF_8)).isEqualTo("2.0\n");
+        assertThat(installedSize).isEqualTo(0L);
+
+        Map<String, byte[]> control = readTar(members.get("control.tar.zst"));
+        assertThat(control).containsKeys("control", "md5sums");
+
+        Map<String, byte[]> data = readTar(members.get("data.tar.zst"));
+        assertThat(data).containsKeys("opt/app/bin/app", "opt/app/app.desktop");
+
+        List<String> md5sums = new ArrayList<>();
+        data.forEach((name, content) -> {
+            if (!name.endsWith("/")) md5sums.add(DigestUtils.md5Hex(content) + "  " + name);
+        });
+        assertThat(new String(control.get("md5sums"), UTF_8).split("\n")).containsExactlyInAnyOrderElementsOf(md5sums);
+    }
+
+    private static Map<String, byte[]> readAr(Path file) throws IOException {
+        Map<String, byte[]> members = new LinkedHashMap<>();
+        try (InputStream in = Files.newInputStream(file);
+             ArArchiveInputStream ar = new ArArchiveInputStream(in)) {
+            ArArchiveEntry entry;
+            while (null != (entry = ar.getNextEntry())) {
+                members.put(entry.getName(), IOUtils.toByteArray(ar));
+            }
+        }
+        return members;
+    }
+
+    private static Map<String, byte[]> readTar(byte[] member) throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        try (TarArchiveInputStream tar = new TarArchiveInputStream(
+            new ZstdCompressorInputStream(new ByteArrayInputStream(member)))) {
+            TarArchiveEntry entry;
+            while (null != (entry = tar.getNextEntry())) {
+                entries.put(entry.getName(), IOUtils.toByteArray(tar));
+            }
+        }
+        return entries;
+    }
+}
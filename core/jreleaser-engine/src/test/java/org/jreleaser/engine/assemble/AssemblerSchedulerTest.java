@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.assemble;
+
+import org.jreleaser.model.JReleaserException;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.model.internal.JReleaserModel;
+import org.jreleaser.model.internal.assemble.ArchiveAssembler;
+import org.jreleaser.model.internal.assemble.Assembler;
+import org.jreleaser.model.internal.assemble.DebAssembler;
+import org.jreleaser.model.internal.assemble.JlinkAssembler;
+import org.jreleaser.model.internal.assemble.JpackageAssembler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link AssemblerScheduler}
+ */
+class AssemblerSchedulerTest {
+    private JReleaserModel model;
+    private JReleaserContext context;
+
+    @BeforeEach
+    void setup() {
+        model = new JReleaserModel();
+        context = mock(JReleaserContext.class);
+        when(context.getModel()).thenReturn(model);
+    }
+
+    @Test
+    void jpackageRunsAfterItsJlink() {
+        // given:
+        JpackageAssembler jpackage = jpackage("app-installer", "app");
+        JlinkAssembler jlink = jlink("app");
+        ArchiveAssembler archive = archive("docs");
+
+        // when:
+        List<Assembler<?>> order = new AssemblerScheduler(context, Arrays.asList(jpackage, archive, jlink)).sort();
+
+        // then:
+        assertThat(order).containsExactlyInAnyOrder(jpackage, archive, jlink);
+        assertThat(order.indexOf(jlink)).isLessThan(order.indexOf(jpackage));
+    }
+
+    @Test
+    void debRunsAfterItsAssemblerRef() {
+        // given:
+        DebAssembler deb = deb("app-deb", "app");
+        ArchiveAssembler archive = archive("app");
+
+        // when:
+        List<Assembler<?>> order = new AssemblerScheduler(context, Arrays.asList(deb, archive)).sort();
+
+        // then:
+        assertThat(order).containsExactly(archive, deb);
+    }
+
+    @Test
+    void referencesOutsideOfTheRunAreIgnored() {
+        // given:
+        jlink("app");
+        JpackageAssembler jpackage = jpackage("app-installer", "app");
+        List<Assembler<?>> assembled = new ArrayList<>();
+
+        // when:
+        boolean result = new AssemblerScheduler(context, Arrays.asList(jpackage)).run(assembler -> {
+            assembled.add(assembler);
+            return true;
+        });
+
+        // then:
+        assertThat(result).isTrue();
+        assertThat(assembled).containsExactly(jpackage);
+    }
+
+    @Test
+    void cyclesAreRejected() {
+        // given:
+        DebAssembler first = deb("first", "second");
+        DebAssembler second = deb("second", "first");
+        ArchiveAssembler archive = archive("docs");
+
+        // when:
+        Throwable throwable = catchThrowable(() -> new AssemblerScheduler(context, Arrays.asList(first, second, archive)).sort());
+
+        // then:
+        assertThat(throwable)
+            .isInstanceOf(JReleaserException.class)
+            .hasMessageContaining("deb:first")
+            .hasMessageContaining("deb:second")
+            .hasMessageNotContaining("archive:docs");
+    }
+
+    private ArchiveAssembler archive(String name) {
+        ArchiveAssembler archive = new ArchiveAssembler();
+        archive.setName(name);
+        model.getAssemble().addArchive(archive);
+        return archive;
+    }
+
+    private DebAssembler deb(String name, String assemblerRef) {
+        DebAssembler deb = new DebAssembler();
+        deb.setName(name);
+        deb.setAssemblerRef(assemblerRef);
+        model.getAssemble().addDeb(deb);
+        return deb;
+    }
+
+    private JlinkAssembler jlink(String name) {
+        JlinkAssembler jlink = new JlinkAssembler();
+        jlink.setName(name);
+        model.getAssemble().addJlink(jlink);
+        return jlink;
+    }
+
+    private JpackageAssembler jpackage(String name, String jlink) {
+        JpackageAssembler jpackage = new JpackageAssembler();
+        jpackage.setName(name);
+        jpackage.setJlink(jlink);
+        model.getAssemble().addJpackage(jpackage);
+        return jpackage;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.context;
+
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.jreleaser.model.Active;
+import org.jreleaser.model.JReleaserException;
+import org.jreleaser.model.api.JReleaserCommand;
+import org.jreleaser.model.api.JReleaserContext.Mode;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.model.internal.JReleaserModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * Tests for {@link ModelValidator}
+ */
+class ModelValidatorTest {
+    private static final String DISCORD_WEBHOOK = "announce.discord.webhook";
+    private static final String SLACK_TOKEN = "slack.token or slack.webhook must be provided";
+
+    @TempDir
+    Path basedir;
+
+    private JReleaserContext context;
+
+    @BeforeEach
+    void setup() {
+        // given: slack and discord are enabled but neither one is configured
+        JReleaserModel model = new JReleaserModel();
+        model.getProject().setName("app");
+        model.getProject().setVersion("1.0.0");
+        model.getAnnounce().getSlack().setActive(Active.ALWAYS);
+        model.getAnnounce().getDiscord().setActive(Active.ALWAYS);
+
+        // settings point to the temp dir, so no credentials leak in from ~/.jreleaser
+        context = new JReleaserContext(
+            new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR),
+            JReleaserContext.Configurer.CLI_YAML,
+            Mode.ANNOUNCE,
+            JReleaserCommand.ANNOUNCE,
+            model,
+            basedir,
+            basedir.resolve("settings.properties"),
+            basedir.resolve("out/jreleaser"),
+            false,
+            false,
+            false,
+            false,
+            false,
+            Collections.emptyList(),
+            Collections.emptyList());
+        // announce -sa slack
+        context.setIncludedAnnouncers(Collections.singletonList("slack"));
+    }
+
+    @Test
+    void announceValidatesSelectedAnnouncersOnly() {
+        // when:
+        Throwable failure = catchThrowable(() -> ModelValidator.validate(context));
+
+        // then:
+        assertThat(context.isAnnouncerInScope("slack")).isTrue();
+        assertThat(context.isAnnouncerInScope("discord")).isFalse();
+        assertThat(failure)
+            .isInstanceOf(JReleaserException.class)
+            .hasMessageContaining(SLACK_TOKEN)
+            .hasMessageNotContaining(DISCORD_WEBHOOK);
+    }
+
+    @Test
+    void fullValidationIgnoresAnnouncerSelection() {
+        // when: config --announce --full
+        Throwable failure = catchThrowable(() -> ModelValidator.validate(context, true));
+
+        // then:
+        assertThat(context.isAnnouncerInScope("slack")).isTrue();
+        assertThat(context.isAnnouncerInScope("discord")).isTrue();
+        assertThat(failure)
+            .isInstanceOf(JReleaserException.class)
+            .hasMessageContaining(SLACK_TOKEN)
+            .hasMessageContaining(DISCORD_WEBHOOK);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.extensions.internal;
+
+import org.jreleaser.extensions.api.ExtensionManagerHolder;
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.mustache.MustacheUtils;
+import org.jreleaser.mustache.TemplateContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Answers.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+
+class DefaultExtensionManagerTest {
+    private static final String TEMPLATE = "{{#f_upper}}jreleaser{{/f_upper}}";
+
+    @AfterEach
+    void cleanup() {
+        ((DefaultExtensionManager) ExtensionManagerHolder.get()).unload();
+        ExtensionManagerHolder.cleanup();
+    }
+
+    @Test
+    void workerRendersFunctionsOfPropagatedManager() throws Exception {
+        // given:
+        JReleaserContext context = mock(JReleaserContext.class, RETURNS_DEEP_STUBS);
+        ((DefaultExtensionManager) ExtensionManagerHolder.get()).load(context);
+        SimpleJReleaserLoggerAdapter logger = new SimpleJReleaserLoggerAdapter();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // when:
+            String propagated = executor.submit(ExtensionManagerHolder.propagate(() ->
+                MustacheUtils.applyTemplate(logger, TEMPLATE, new TemplateContext()))).get();
+            String unpropagated = executor.submit(() ->
+                MustacheUtils.applyTemplate(logger, TEMPLATE, new TemplateContext())).get();
+
+            // then:
+            assertThat(propagated).isEqualTo("JRELEASER");
+            assertThat(unpropagated).isNotEqualTo("JRELEASER");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
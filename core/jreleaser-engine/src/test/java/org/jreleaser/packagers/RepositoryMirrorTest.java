@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.packagers;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link RepositoryMirror}
+ */
+class RepositoryMirrorTest {
+    private static final String BRANCH = "main";
+    private static final String FORMULA = "formula.rb";
+
+    @TempDir
+    Path tmp;
+
+    private JReleaserContext context;
+    private Path source;
+    private Path cache;
+
+    @BeforeEach
+    void setup() {
+        context = mock(JReleaserContext.class);
+        when(context.getLogger()).thenReturn(mock(JReleaserLogger.class));
+        source = tmp.resolve("source");
+        cache = tmp.resolve("cache");
+    }
+
+    @Test
+    void checkoutCreatesWorkingCopyBackedByMirror() throws Exception {
+        RevCommit commit;
+        try (Git git = Git.init().setDirectory(source.toFile()).setInitialBranch(BRANCH).call()) {
+            commit = commit(git, "v1");
+        }
+
+        Path directory = tmp.resolve("checkout");
+        try (Git git = RepositoryMirror.checkout(context, url(), BRANCH, null, directory, cache)) {
+            assertThat(git.getRepository().getBranch()).isEqualTo(BRANCH);
+            assertThat(git.getRepository().resolve(BRANCH)).isEqualTo(commit.getId());
+            assertThat(git.status().call().isClean()).isTrue();
+        }
+
+        assertThat(directory.resolve(FORMULA)).hasContent("v1");
+        assertThat(directory.resolve(".git/objects/info/alternates")).exists();
+        assertThat(cache.toFile().list())
+            .anyMatch(name -> name.endsWith(".git"))
+            .anyMatch(name -> name.endsWith(".lock"));
+    }
+
+    @Test
+    void checkoutFetchesNewCommitsIntoExistingMirror() throws Exception {
+        try (Git git = Git.init().setDirectory(source.toFile()).setInitialBranch(BRANCH).call()) {
+            commit(git, "v1");
+        }
+
+        Path first = tmp.resolve("first");
+        try (Git ignored = RepositoryMirror.checkout(context, url(), BRANCH, null, first, cache)) {
+            // primes the mirror
+        }
+
+        RevCommit commit;
+        try (Git git = Git.open(source.toFile())) {
+            commit = commit(git, "v2");
+        }
+
+        Path second = tmp.resolve("second");
+        try (Git git = RepositoryMirror.checkout(context, url(), BRANCH, null, second, cache)) {
+            assertThat(git.getRepository().resolve(BRANCH)).isEqualTo(commit.getId());
+            assertThat(git.getRepository().resolve("refs/remotes/origin/" + BRANCH)).isEqualTo(commit.getId());
+        }
+
+        assertThat(second.resolve(FORMULA)).hasContent("v2");
+        assertThat(first.resolve(FORMULA)).hasContent("v1");
+    }
+
+    private String url() {
+        return source.toUri().toString();
+    }
+
+    private static RevCommit commit(Git git, String content) throws Exception {
+        Files.write(git.getRepository().getWorkTree().toPath().resolve(FORMULA), content.getBytes(UTF_8));
+        git.add().addFilepattern(FORMULA).call();
+        return git.commit()
+            .setMessage(content)
+            .setAuthor("jreleaser", "jreleaser@example.com")
+            .setCommitter("jreleaser", "jreleaser@example.com")
+            .setSign(false)
+            .call();
+    }
+}
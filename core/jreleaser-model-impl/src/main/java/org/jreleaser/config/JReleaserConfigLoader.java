@@ -20,12 +20,13 @@ package org.jreleaser.config;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.JReleaserException;
 import org.jreleaser.model.internal.JReleaserModel;
+import org.jreleaser.util.ServiceRegistry;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
-import java.util.ServiceLoader;
 
 /**
  * @author Andres Almiray
@@ -37,7 +38,7 @@ public final class JReleaserConfigLoader {
     }
 
     public static JReleaserModel loadConfig(Path configFile) {
-        ServiceLoader<JReleaserConfigParser> parsers = ServiceLoader.load(JReleaserConfigParser.class, JReleaserConfigParser.class.getClassLoader());
+        List<JReleaserConfigParser> parsers = ServiceRegistry.load(JReleaserConfigParser.class);
 
         for (JReleaserConfigParser parser : parsers) {
             if (parser.supports(configFile)) {
@@ -57,7 +58,7 @@ public final class JReleaserConfigLoader {
     }
 
     public static Map<String, String> loadProperties(Path file) throws IOException {
-        ServiceLoader<JReleaserConfigParser> parsers = ServiceLoader.load(JReleaserConfigParser.class, JReleaserConfigParser.class.getClassLoader());
+        List<JReleaserConfigParser> parsers = ServiceRegistry.load(JReleaserConfigParser.class);
 
         for (JReleaserConfigParser parser : parsers) {
             if (parser.supports(file)) {
@@ -70,7 +71,7 @@ public final class JReleaserConfigLoader {
     }
 
     public static <T> T load(Class<T> type, String resource, InputStream inputStream) throws IOException {
-        ServiceLoader<JReleaserConfigParser> parsers = ServiceLoader.load(JReleaserConfigParser.class, JReleaserConfigParser.class.getClassLoader());
+        List<JReleaserConfigParser> parsers = ServiceRegistry.load(JReleaserConfigParser.class);
 
         for (JReleaserConfigParser parser : parsers) {
             if (parser.supports(resource)) {
@@ -164,6 +164,7 @@ public class JReleaserContext {
     private final List<WorkflowListener> workflowListeners = new ArrayList<>();
 
     private org.jreleaser.model.spi.release.Releaser<?> releaser;
+    private boolean fullValidation = true;
     private final JReleaserScriptEvaluator scriptEvaluator = new JReleaserScriptEvaluator();
 
     @JsonIgnore
@@ -539,7 +540,12 @@ public class JReleaserContext {
     }
 
     public Errors validateModel() {
+        return validateModel(true);
+    }
+
+    public Errors validateModel(boolean full) {
         if (errors.hasErrors()) return errors;
+        this.fullValidation = full;
 
         this.model.getEnvironment().initProps(this);
 
@@ -849,6 +855,16 @@ public class JReleaserContext {
         return strict;
     }
 
+    public boolean isFullValidation() {
+        return fullValidation;
+    }
+
+    public boolean isAnnouncerInScope(String name) {
+        if (fullValidation || !mode.validateAnnounce()) return true;
+        if (!includedAnnouncers.isEmpty()) return includedAnnouncers.contains(name);
+        return !excludedAnnouncers.contains(name);
+    }
+
     public boolean isReproducible() {
         return reproducible;
     }
@@ -1277,7 +1293,8 @@ public class JReleaserContext {
         }
     }
 
-    public void fireAnnounceStepEvent(ExecutionEvent event, Announcer announcer) throws WorkflowListenerException {
+    public synchronized void fireAnnounceStepEvent(ExecutionEvent event, Announcer announcer) throws WorkflowListenerException {
+        // announcers may run concurrently, listeners are notified one event at a time
         for (WorkflowListener workflowListener : workflowListeners) {
             try {
                 workflowListener.onAnnounceStep(event, this.asImmutable(), announcer);
@@ -1287,7 +1304,8 @@ public class JReleaserContext {
         }
     }
 
-    public void fireAssembleStepEvent(ExecutionEvent event, Assembler assembler) throws WorkflowListenerException {
+    public synchronized void fireAssembleStepEvent(ExecutionEvent event, Assembler assembler) throws WorkflowListenerException {
+        // assemblers may run concurrently, listeners are notified one event at a time
         for (WorkflowListener workflowListener : workflowListeners) {
             try {
                 workflowListener.onAssembleStep(event, this.asImmutable(), assembler);
@@ -23,6 +23,7 @@ import org.jreleaser.bundle.RB;
 import org.jreleaser.model.Constants;
 import org.jreleaser.model.JReleaserException;
 import org.jreleaser.model.JReleaserVersion;
+import org.jreleaser.model.api.JReleaserContext.Mode;
 import org.jreleaser.model.internal.announce.Announce;
 import org.jreleaser.model.internal.assemble.Assemble;
 import org.jreleaser.model.internal.catalog.Catalog;
@@ -431,7 +432,12 @@ public class JReleaserModel {
     }
 
     public Map<String, Object> asMap(boolean full) {
+        return asMap(full, Mode.CONFIG);
+    }
+
+    public Map<String, Object> asMap(boolean full, Mode mode) {
         Map<String, Object> map = new LinkedHashMap<>();
+        boolean all = mode.validateConfig();
 
         List<Map<String, Object>> extensions = this.extensions.values()
             .stream()
@@ -441,28 +447,30 @@ public class JReleaserModel {
         if (!extensions.isEmpty()) map.put("extensions", extensions);
 
         if (full || environment.isSet()) map.put("environment", environment.asMap(full));
-        matrix.asMap(map);
+        if (all || mode.validateAssembly()) matrix.asMap(map);
         if (full || hooks.isSet()) map.put("hooks", hooks.asMap(full));
         map.put("project", project.asMap(full));
-        if (full || platform.isSet()) map.put("platform", platform.asMap(full));
-        map.put("release", release.asMap(full));
-        map.put("checksum", checksum.asMap(full));
-        if (full || signing.isEnabled()) map.put("signing", signing.asMap(full));
-        if (full || announce.isEnabled()) map.put("announce", announce.asMap(full));
-        if (!files.isEmpty()) map.put("files", files.asMap(full));
-        if (full || packagers.hasEnabledPackagers()) map.put("packagers", packagers.asMap(full));
-        if (full || download.isEnabled()) map.put("download", download.asMap(full));
-        if (full || assemble.isEnabled()) map.put("assemble", assemble.asMap(full));
-        if (full || deploy.isEnabled()) map.put("deploy", deploy.asMap(full));
-        if (full || upload.isEnabled()) map.put("upload", upload.asMap(full));
-        map.put("catalog", catalog.asMap(full));
-
-        List<Map<String, Object>> distributions = this.distributions.values()
-            .stream()
-            .filter(d -> full || d.isEnabled())
-            .map(d -> d.asMap(full))
-            .collect(toList());
-        if (!distributions.isEmpty()) map.put("distributions", distributions);
+        if ((all || mode.validateStandalone()) && (full || platform.isSet())) map.put("platform", platform.asMap(full));
+        if (all || mode.validateChangelog() || mode.validateAnnounce()) map.put("release", release.asMap(full));
+        if (all) map.put("checksum", checksum.asMap(full));
+        if ((all || mode.validateDeploy()) && (full || signing.isEnabled())) map.put("signing", signing.asMap(full));
+        if ((all || mode.validateAnnounce()) && (full || announce.isEnabled())) map.put("announce", announce.asMap(full));
+        if (all && !files.isEmpty()) map.put("files", files.asMap(full));
+        if (all && (full || packagers.hasEnabledPackagers())) map.put("packagers", packagers.asMap(full));
+        if ((all || mode.validateDownload()) && (full || download.isEnabled())) map.put("download", download.asMap(full));
+        if ((all || mode.validateAssembly()) && (full || assemble.isEnabled())) map.put("assemble", assemble.asMap(full));
+        if ((all || mode.validateDeploy()) && (full || deploy.isEnabled())) map.put("deploy", deploy.asMap(full));
+        if (all && (full || upload.isEnabled())) map.put("upload", upload.asMap(full));
+        if (all) map.put("catalog", catalog.asMap(full));
+
+        if (all) {
+            List<Map<String, Object>> distributions = this.distributions.values()
+                .stream()
+                .filter(d -> full || d.isEnabled())
+                .map(d -> d.asMap(full))
+                .collect(toList());
+            if (!distributions.isEmpty()) map.put("distributions", distributions);
+        }
 
         return map;
     }
@@ -60,6 +60,8 @@ public final class ArchiveAssembler extends AbstractAssembler<ArchiveAssembler,
     private String archiveName;
     private Boolean applyDefaultMatrix;
     private Boolean attachPlatform;
+    private Boolean parallel;
+    private Integer parallelism;
     private Distribution.DistributionType distributionType;
 
     @JsonIgnore
@@ -86,6 +88,16 @@ public final class ArchiveAssembler extends AbstractAssembler<ArchiveAssembler,
             return ArchiveAssembler.this.isAttachPlatform();
         }
 
+        @Override
+        public boolean isParallel() {
+            return ArchiveAssembler.this.isParallel();
+        }
+
+        @Override
+        public int getParallelism() {
+            return ArchiveAssembler.this.getParallelism();
+        }
+
         @Override
         public Set<Archive.Format> getFormats() {
             return unmodifiableSet(formats);
@@ -241,6 +253,8 @@ public final class ArchiveAssembler extends AbstractAssembler<ArchiveAssembler,
         this.distributionType = merge(this.distributionType, source.distributionType);
         this.applyDefaultMatrix = merge(this.applyDefaultMatrix, source.applyDefaultMatrix);
         this.attachPlatform = merge(this.attachPlatform, source.attachPlatform);
+        this.parallel = merge(this.parallel, source.parallel);
+        this.parallelism = merge(this.parallelism, source.parallelism);
         setFormats(merge(this.formats, source.formats));
         setOptions(source.options);
         setMatrix(source.matrix);
@@ -294,6 +308,26 @@ public final class ArchiveAssembler extends AbstractAssembler<ArchiveAssembler,
         this.attachPlatform = attachPlatform;
     }
 
+    public boolean isParallelSet() {
+        return null != parallel;
+    }
+
+    public boolean isParallel() {
+        return null != parallel && parallel;
+    }
+
+    public void setParallel(Boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    public int getParallelism() {
+        return null != parallelism && parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
     public Set<Archive.Format> getFormats() {
         return formats;
     }
@@ -335,6 +369,8 @@ public final class ArchiveAssembler extends AbstractAssembler<ArchiveAssembler,
         props.put("distributionType", distributionType);
         props.put("applyDefaultMatrix", isApplyDefaultMatrix());
         props.put("attachPlatform", isAttachPlatform());
+        props.put("parallel", isParallel());
+        props.put("parallelism", getParallelism());
         props.put("formats", formats);
         props.put("options", options.asMap(full));
         matrix.asMap(props);
@@ -75,6 +75,7 @@ public final class JlinkAssembler extends AbstractJavaAssembler<JlinkAssembler,
     private String imageName;
     private String imageNameTransform;
     private Boolean copyJars;
+    private Boolean parallel;
     private Boolean applyDefaultMatrix;
 
     @JsonIgnore
@@ -163,6 +164,11 @@ public final class JlinkAssembler extends AbstractJavaAssembler<JlinkAssembler,
             return JlinkAssembler.this.isCopyJars();
         }
 
+        @Override
+        public boolean isParallel() {
+            return JlinkAssembler.this.isParallel();
+        }
+
         @Override
         public JavaArchive getJavaArchive() {
             return JlinkAssembler.this.getJavaArchive().asImmutable();
@@ -325,6 +331,7 @@ public final class JlinkAssembler extends AbstractJavaAssembler<JlinkAssembler,
         this.imageNameTransform = merge(this.imageNameTransform, source.imageNameTransform);
         setFormats(merge(this.formats, source.formats));
         this.copyJars = merge(this.copyJars, source.copyJars);
+        this.parallel = merge(this.parallel, source.parallel);
         this.applyDefaultMatrix = merge(this.applyDefaultMatrix, source.applyDefaultMatrix);
         setJavaArchive(source.javaArchive);
         setOptions(source.options);
@@ -512,6 +519,18 @@ public final class JlinkAssembler extends AbstractJavaAssembler<JlinkAssembler,
         return null != copyJars;
     }
 
+    public boolean isParallel() {
+        return null != parallel && parallel;
+    }
+
+    public void setParallel(Boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    public boolean isParallelSet() {
+        return null != parallel;
+    }
+
     public JavaArchive getJavaArchive() {
         return javaArchive;
     }
@@ -543,6 +562,7 @@ public final class JlinkAssembler extends AbstractJavaAssembler<JlinkAssembler,
         props.put("jdk", jdk.asMap(full));
         props.put("targetJdks", mappedJdks);
         props.put("copyJars", isCopyJars());
+        props.put("parallel", isParallel());
     }
 
     public static final class Jdeps extends AbstractModelObject<Jdeps> implements Domain, EnabledAware {
@@ -138,6 +138,7 @@ public interface Downloader<A extends org.jreleaser.model.api.download.Downloade
         private final Unpack unpack = new Unpack();
         private String input;
         private String output;
+        private String checksum;
 
         @JsonIgnore
         private final org.jreleaser.model.api.download.Downloader.Asset immutable = new org.jreleaser.model.api.download.Downloader.Asset() {
@@ -153,6 +154,11 @@ public interface Downloader<A extends org.jreleaser.model.api.download.Downloade
                 return output;
             }
 
+            @Override
+            public String getChecksum() {
+                return checksum;
+            }
+
             @Override
             public org.jreleaser.model.api.download.Downloader.Unpack getUnpack() {
                 return unpack.asImmutable();
@@ -172,6 +178,7 @@ public interface Downloader<A extends org.jreleaser.model.api.download.Downloade
         public void merge(Asset source) {
             this.input = merge(this.input, source.input);
             this.output = merge(this.output, source.output);
+            this.checksum = merge(this.checksum, source.checksum);
             setUnpack(source.unpack);
         }
 
@@ -182,6 +189,14 @@ public interface Downloader<A extends org.jreleaser.model.api.download.Downloade
             return resolveTemplate(context.getLogger(), input, p);
         }
 
+        public String getResolvedChecksum(JReleaserContext context, Downloader<?> downloader) {
+            if (isBlank(checksum)) return checksum;
+            TemplateContext p = context.getModel().props(context);
+            p.setAll(downloader.resolvedExtraProperties());
+            p.set(KEY_DOWNLOADER_NAME, downloader.getName());
+            return resolveTemplate(context.getLogger(), checksum, p);
+        }
+
         public String getResolvedOutput(JReleaserContext context, Downloader<?> downloader, String artifactFile) {
             if (isBlank(output)) return output;
             TemplateContext p = context.getModel().props(context);
@@ -207,6 +222,14 @@ public interface Downloader<A extends org.jreleaser.model.api.download.Downloade
             this.output = output;
         }
 
+        public String getChecksum() {
+            return checksum;
+        }
+
+        public void setChecksum(String checksum) {
+            this.checksum = checksum;
+        }
+
         public Unpack getUnpack() {
             return unpack;
         }
@@ -220,6 +243,7 @@ public interface Downloader<A extends org.jreleaser.model.api.download.Downloade
             Map<String, Object> props = new LinkedHashMap<>();
             props.put("input", input);
             props.put("output", output);
+            props.put("checksum", checksum);
             props.put("unpack", unpack.asMap(full));
             return props;
         }
@@ -25,6 +25,7 @@ import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.common.AbstractModelObject;
 import org.jreleaser.model.internal.common.Domain;
 import org.jreleaser.util.Env;
+import org.jreleaser.util.ServiceRegistry;
 
 import java.io.File;
 import java.io.IOException;
@@ -34,10 +35,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
-import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -304,8 +305,7 @@ public final class Environment extends AbstractModelObject<Environment> implemen
     }
 
     private Optional<Path> resolveConfigFileAt(Path directory) {
-        ServiceLoader<JReleaserConfigParser> parsers = ServiceLoader.load(JReleaserConfigParser.class,
-            JReleaserConfigParser.class.getClassLoader());
+        List<JReleaserConfigParser> parsers = ServiceRegistry.load(JReleaserConfigParser.class);
 
         for (JReleaserConfigParser parser : parsers) {
             Path file = directory.resolve("config." + parser.getPreferredFileExtension());
@@ -67,50 +67,94 @@ public final class AnnouncersValidator {
         }
 
         Errors incoming = new Errors();
-        validateArticle(context, announce.getArticle(), incoming);
-        mergeErrors(context, errors, incoming, announce.getArticle());
-        validateBluesky(context, announce.getBluesky(), incoming);
-        mergeErrors(context, errors, incoming, announce.getBluesky());
-        validateDiscussions(context, announce.getDiscussions(), incoming);
-        mergeErrors(context, errors, incoming, announce.getDiscussions());
-        validateDiscord(context, announce.getDiscord(), incoming);
-        mergeErrors(context, errors, incoming, announce.getDiscord());
-        validateDiscourse(context, announce.getDiscourse(), incoming);
-        mergeErrors(context, errors, incoming, announce.getDiscourse());
-        validateGitter(context, announce.getGitter(), incoming);
-        mergeErrors(context, errors, incoming, announce.getGitter());
-        validateGoogleChat(context, announce.getGoogleChat(), incoming);
-        mergeErrors(context, errors, incoming, announce.getGoogleChat());
-        validateLinkedin(context, announce.getLinkedin(), incoming);
-        mergeErrors(context, errors, incoming, announce.getLinkedin());
-        validateHttpAnnouncers(context, mode, announce.getConfiguredHttp(), incoming);
-        mergeErrors(context, errors, incoming, announce.getConfiguredHttp());
-        validateSmtp(context, announce.getSmtp(), incoming);
-        mergeErrors(context, errors, incoming, announce.getSmtp());
-        validateMastodon(context, announce.getMastodon(), incoming);
-        mergeErrors(context, errors, incoming, announce.getMastodon());
-        validateMattermost(context, announce.getMattermost(), incoming);
-        mergeErrors(context, errors, incoming, announce.getMattermost());
-        validateReddit(context, announce.getReddit(), incoming);
-        mergeErrors(context, errors, incoming, announce.getReddit());
-        validateOpenCollective(context, announce.getOpenCollective(), incoming);
-        mergeErrors(context, errors, incoming, announce.getOpenCollective());
-        validateSdkmanAnnouncer(context, announce.getSdkman(), incoming);
-        mergeErrors(context, errors, incoming, announce.getSdkman());
-        validateSlack(context, announce.getSlack(), incoming);
-        mergeErrors(context, errors, incoming, announce.getSlack());
-        validateTeams(context, announce.getTeams(), incoming);
-        mergeErrors(context, errors, incoming, announce.getTeams());
-        validateTelegram(context, announce.getTelegram(), incoming);
-        mergeErrors(context, errors, incoming, announce.getTelegram());
-        validateTwitter(context, announce.getTwitter(), incoming);
-        mergeErrors(context, errors, incoming, announce.getTwitter());
-        validateWebhooks(context, mode, announce.getConfiguredWebhooks(), incoming);
-        mergeErrors(context, errors, incoming, announce.getConfiguredWebhooks());
-        validateZernio(context, announce.getZernio(), incoming);
-        mergeErrors(context, errors, incoming, announce.getZernio());
-        validateZulip(context, announce.getZulip(), incoming);
-        mergeErrors(context, errors, incoming, announce.getZulip());
+        if (context.isAnnouncerInScope(announce.getArticle().getName())) {
+            validateArticle(context, announce.getArticle(), incoming);
+            mergeErrors(context, errors, incoming, announce.getArticle());
+        }
+        if (context.isAnnouncerInScope(announce.getBluesky().getName())) {
+            validateBluesky(context, announce.getBluesky(), incoming);
+            mergeErrors(context, errors, incoming, announce.getBluesky());
+        }
+        if (context.isAnnouncerInScope(announce.getDiscussions().getName())) {
+            validateDiscussions(context, announce.getDiscussions(), incoming);
+            mergeErrors(context, errors, incoming, announce.getDiscussions());
+        }
+        if (context.isAnnouncerInScope(announce.getDiscord().getName())) {
+            validateDiscord(context, announce.getDiscord(), incoming);
+            mergeErrors(context, errors, incoming, announce.getDiscord());
+        }
+        if (context.isAnnouncerInScope(announce.getDiscourse().getName())) {
+            validateDiscourse(context, announce.getDiscourse(), incoming);
+            mergeErrors(context, errors, incoming, announce.getDiscourse());
+        }
+        if (context.isAnnouncerInScope(announce.getGitter().getName())) {
+            validateGitter(context, announce.getGitter(), incoming);
+            mergeErrors(context, errors, incoming, announce.getGitter());
+        }
+        if (context.isAnnouncerInScope(announce.getGoogleChat().getName())) {
+            validateGoogleChat(context, announce.getGoogleChat(), incoming);
+            mergeErrors(context, errors, incoming, announce.getGoogleChat());
+        }
+        if (context.isAnnouncerInScope(announce.getLinkedin().getName())) {
+            validateLinkedin(context, announce.getLinkedin(), incoming);
+            mergeErrors(context, errors, incoming, announce.getLinkedin());
+        }
+        if (context.isAnnouncerInScope(announce.getConfiguredHttp().getName())) {
+            validateHttpAnnouncers(context, mode, announce.getConfiguredHttp(), incoming);
+            mergeErrors(context, errors, incoming, announce.getConfiguredHttp());
+        }
+        if (context.isAnnouncerInScope(announce.getSmtp().getName())) {
+            validateSmtp(context, announce.getSmtp(), incoming);
+            mergeErrors(context, errors, incoming, announce.getSmtp());
+        }
+        if (context.isAnnouncerInScope(announce.getMastodon().getName())) {
+            validateMastodon(context, announce.getMastodon(), incoming);
+            mergeErrors(context, errors, incoming, announce.getMastodon());
+        }
+        if (context.isAnnouncerInScope(announce.getMattermost().getName())) {
+            validateMattermost(context, announce.getMattermost(), incoming);
+            mergeErrors(context, errors, incoming, announce.getMattermost());
+        }
+        if (context.isAnnouncerInScope(announce.getReddit().getName())) {
+            validateReddit(context, announce.getReddit(), incoming);
+            mergeErrors(context, errors, incoming, announce.getReddit());
+        }
+        if (context.isAnnouncerInScope(announce.getOpenCollective().getName())) {
+            validateOpenCollective(context, announce.getOpenCollective(), incoming);
+            mergeErrors(context, errors, incoming, announce.getOpenCollective());
+        }
+        if (context.isAnnouncerInScope(announce.getSdkman().getName())) {
+            validateSdkmanAnnouncer(context, announce.getSdkman(), incoming);
+            mergeErrors(context, errors, incoming, announce.getSdkman());
+        }
+        if (context.isAnnouncerInScope(announce.getSlack().getName())) {
+            validateSlack(context, announce.getSlack(), incoming);
+            mergeErrors(context, errors, incoming, announce.getSlack());
+        }
+        if (context.isAnnouncerInScope(announce.getTeams().getName())) {
+            validateTeams(context, announce.getTeams(), incoming);
+            mergeErrors(context, errors, incoming, announce.getTeams());
+        }
+        if (context.isAnnouncerInScope(announce.getTelegram().getName())) {
+            validateTelegram(context, announce.getTelegram(), incoming);
+            mergeErrors(context, errors, incoming, announce.getTelegram());
+        }
+        if (context.isAnnouncerInScope(announce.getTwitter().getName())) {
+            validateTwitter(context, announce.getTwitter(), incoming);
+            mergeErrors(context, errors, incoming, announce.getTwitter());
+        }
+        if (context.isAnnouncerInScope(announce.getConfiguredWebhooks().getName())) {
+            validateWebhooks(context, mode, announce.getConfiguredWebhooks(), incoming);
+            mergeErrors(context, errors, incoming, announce.getConfiguredWebhooks());
+        }
+        if (context.isAnnouncerInScope(announce.getZernio().getName())) {
+            validateZernio(context, announce.getZernio(), incoming);
+            mergeErrors(context, errors, incoming, announce.getZernio());
+        }
+        if (context.isAnnouncerInScope(announce.getZulip().getName())) {
+            validateZulip(context, announce.getZulip(), incoming);
+            mergeErrors(context, errors, incoming, announce.getZulip());
+        }
 
         boolean activeSet = announce.isActiveSet();
         resolveActivatable(context, announce, "announce", "ALWAYS");
@@ -17,11 +17,30 @@
  */
 package org.jreleaser.model.spi.catalog.sbom;
 
+import org.jreleaser.bundle.RB;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.common.Artifact;
+import org.jreleaser.model.spi.catalog.CatalogProcessingException;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.Env;
+import org.jreleaser.util.FileUtils;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singleton;
 import static org.jreleaser.model.spi.catalog.sbom.SbomCatalogerProcessorHelper.collectArtifacts;
 
 /**
@@ -30,6 +49,10 @@ import static org.jreleaser.model.spi.catalog.sbom.SbomCatalogerProcessorHelper.
  */
 public abstract class AbstractSbomCatalogerProcessor<A extends org.jreleaser.model.api.catalog.sbom.SbomCataloger,
     C extends org.jreleaser.model.internal.catalog.sbom.SbomCataloger<A>> implements SbomCatalogerProcessor<A, C> {
+    public static final String CATALOG_PARALLELISM = "CATALOG_PARALLELISM";
+
+    private static final int DEFAULT_PARALLELISM = Math.min(4, Runtime.getRuntime().availableProcessors());
+
     protected final JReleaserContext context;
 
     protected AbstractSbomCatalogerProcessor(JReleaserContext context) {
@@ -39,4 +62,171 @@ public abstract class AbstractSbomCatalogerProcessor<A extends org.jreleaser.mod
     protected Set<Artifact> collectArtifactsSelf(JReleaserContext context) {
         return collectArtifacts(context, getCataloger());
     }
+
+    /**
+     * Generates the sboms of all artifacts, running up to {@code JRELEASER_CATALOG_PARALLELISM}
+     * cataloger processes at the same time.
+     *
+     * @return {@code true} if any sbom was (re)generated
+     * @since 1.26.0
+     */
+    protected boolean generateSboms(Set<Artifact> artifacts, SbomGenerator generator) throws CatalogProcessingException {
+        int workers = Math.min(artifacts.size(), resolveParallelism());
+        if (workers <= 1) {
+            boolean executed = false;
+            for (Artifact artifact : artifacts) {
+                if (generator.generate(artifact)) executed = true;
+            }
+            return executed;
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "jreleaser-" + getType() + "-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            List<Future<Boolean>> tasks = new ArrayList<>();
+            for (Artifact artifact : artifacts) {
+                tasks.add(executor.submit(() -> generator.generate(artifact)));
+            }
+
+            boolean executed = false;
+            for (Future<Boolean> task : tasks) {
+                try {
+                    if (task.get()) executed = true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CatalogProcessingException(RB.$("ERROR_unexpected_error"), e);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof CatalogProcessingException) {
+                        throw (CatalogProcessingException) e.getCause();
+                    }
+                    throw new CatalogProcessingException(RB.$("ERROR_unexpected_error"), e.getCause());
+                }
+            }
+            return executed;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Computes the checksum of an artifact, the base of {@link #cacheKey(String, String, List)}.
+     *
+     * @since 1.26.0
+     */
+    protected String checksum(Path artifactPath) throws CatalogProcessingException {
+        try {
+            return ChecksumUtils.checksums(artifactPath, singleton(Algorithm.SHA_256)).get(Algorithm.SHA_256);
+        } catch (IOException e) {
+            throw new CatalogProcessingException(RB.$("ERROR_unexpected_error"), e);
+        }
+    }
+
+    /**
+     * Computes the key an sbom is recorded with. Besides the checksum of the artifact it covers
+     * the version of the tool and the arguments it runs with, the output format included, thus
+     * upgrading the tool or changing its settings regenerates the sbom.
+     *
+     * @since 1.26.0
+     */
+    protected String cacheKey(String checksum, String toolVersion, List<String> args) throws CatalogProcessingException {
+        String key = checksum + "\n" + toolVersion + "\n" + String.join("\n", args);
+        try {
+            return ChecksumUtils.checksum(Algorithm.SHA_256, key.getBytes(UTF_8));
+        } catch (IOException e) {
+            throw new CatalogProcessingException(RB.$("ERROR_unexpected_error"), e);
+        }
+    }
+
+    /**
+     * Whether {@code targetPath} was generated with the given key. Sboms generated before
+     * keys were recorded are compared by modification time instead.
+     *
+     * @since 1.26.0
+     */
+    protected boolean isUpToDate(Path artifactPath, Path targetPath, String key) {
+        if (!Files.exists(targetPath)) {
+            context.getLogger().debug(RB.$("catalog.sbom.not.exist"), context.relativizeToBasedir(targetPath));
+            return false;
+        }
+
+        Path checksumPath = checksumPath(targetPath);
+        if (Files.exists(checksumPath)) {
+            try {
+                if (key.equals(new String(Files.readAllBytes(checksumPath), UTF_8).trim())) {
+                    context.getLogger().debug(RB.$("catalog.sbom.cached"),
+                        context.relativizeToBasedir(targetPath),
+                        context.relativizeToBasedir(artifactPath));
+                    return true;
+                }
+            } catch (IOException e) {
+                context.getLogger().trace(e);
+            }
+            return false;
+        }
+
+        if (artifactPath.toFile().lastModified() > targetPath.toFile().lastModified()) {
+            context.getLogger().debug(RB.$("checksum.file.newer"),
+                context.relativizeToBasedir(artifactPath),
+                context.relativizeToBasedir(targetPath));
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Records the key {@code targetPath} was generated with.
+     *
+     * @since 1.26.0
+     */
+    protected void recordChecksum(Path targetPath, String key) throws CatalogProcessingException {
+        try {
+            Files.write(checksumPath(targetPath), key.getBytes(UTF_8));
+        } catch (IOException e) {
+            throw new CatalogProcessingException(RB.$("ERROR_unexpected_error"), e);
+        }
+    }
+
+    /**
+     * Zips the given sboms straight from the catalog directory.
+     *
+     * @since 1.26.0
+     */
+    protected void pack(Path catalogDirectory, Collection<Path> sboms, Path archivePath) throws CatalogProcessingException {
+        context.getLogger().info(RB.$("catalog.sbom.pack", archivePath.getFileName()));
+
+        FileUtils.ArchiveOptions options = new FileUtils.ArchiveOptions();
+        sboms.forEach(options::withIncludedPath);
+
+        try {
+            FileUtils.zip(catalogDirectory, archivePath, options);
+        } catch (IOException e) {
+            throw new CatalogProcessingException(RB.$("ERROR_catalog_unexpected_error_packing", archivePath.getFileName()), e);
+        }
+    }
+
+    private Path checksumPath(Path targetPath) {
+        return targetPath.resolveSibling("." + targetPath.getFileName() + ".sha256");
+    }
+
+    private static int resolveParallelism() {
+        try {
+            return Math.max(1, Integer.parseInt(Env.resolve(CATALOG_PARALLELISM, String.valueOf(DEFAULT_PARALLELISM)).trim()));
+        } catch (NumberFormatException e) {
+            return DEFAULT_PARALLELISM;
+        }
+    }
+
+    /**
+     * @since 1.26.0
+     */
+    @FunctionalInterface
+    protected interface SbomGenerator {
+        boolean generate(Artifact artifact) throws CatalogProcessingException;
+    }
 }
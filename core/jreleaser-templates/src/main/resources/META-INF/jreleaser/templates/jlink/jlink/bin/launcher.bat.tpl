@@ -76,6 +76,9 @@ set {{key}}="{{value}}"
 set {{key}}="{{value}}"
 {{/distributionJavaEnvironmentVariablesWindows}}
 
+@rem class data sharing archive created when the image was assembled
+if exist "%BASEDIR%\lib\{{distributionExecutable}}.jsa" set JAVA_OPTS=%JAVA_OPTS% "-XX:SharedArchiveFile=%BASEDIR%\lib\{{distributionExecutable}}.jsa"
+
 @REM Reaching here means variables are defined and arguments have been captured
 :endInit
 
@@ -180,6 +180,12 @@ set -- \
 {{/distributionJavaMainClass}}
 {{/distributionJavaMainModule}}
 
+# Use the class data sharing archive created when the image was assembled
+CDS_ARCHIVE="$APP_HOME/lib/{{distributionExecutable}}.jsa"
+if [ -f "$CDS_ARCHIVE" ]; then
+    set -- "-XX:SharedArchiveFile=$CDS_ARCHIVE" "$@"
+fi
+
 if ! command -v xargs >/dev/null 2>&1
 then
     die "xargs is not available"
@@ -29,6 +29,7 @@ import org.jreleaser.model.api.JReleaserContext.Mode;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.util.Env;
 import org.jreleaser.util.PlatformUtils;
+import org.jreleaser.util.ServiceRegistry;
 import org.jreleaser.util.StringUtils;
 
 import java.io.File;
@@ -45,7 +46,6 @@ import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
-import java.util.ServiceLoader;
 import java.util.Set;
 
 import static java.util.stream.Collectors.toList;
@@ -139,8 +139,7 @@ abstract class AbstractJReleaserTask extends Task {
         if (null != configFile) {
             actualConfigFile = configFile.toPath();
         } else {
-            ServiceLoader<JReleaserConfigParser> parsers = ServiceLoader.load(JReleaserConfigParser.class,
-                JReleaserConfigParser.class.getClassLoader());
+            List<JReleaserConfigParser> parsers = ServiceRegistry.load(JReleaserConfigParser.class);
 
             for (JReleaserConfigParser parser : parsers) {
                 Path file = Paths.get(".").normalize()
@@ -248,8 +247,7 @@ abstract class AbstractJReleaserTask extends Task {
     private Set<String> getSupportedConfigFormats() {
         Set<String> extensions = new LinkedHashSet<>();
 
-        ServiceLoader<JReleaserConfigParser> parsers = ServiceLoader.load(JReleaserConfigParser.class,
-            JReleaserConfigParser.class.getClassLoader());
+        List<JReleaserConfigParser> parsers = ServiceRegistry.load(JReleaserConfigParser.class);
 
         for (JReleaserConfigParser parser : parsers) {
             extensions.add("." + parser.getPreferredFileExtension());
@@ -63,7 +63,7 @@ public class JReleaserConfigTask extends AbstractPlatformAwareJReleaserTask {
 
     @Override
     protected void doExecute(JReleaserContext context) {
-        ModelValidator.validate(context);
+        ModelValidator.validate(context, full);
         new AntJReleaserModelPrinter(newPrintWriter(System.out))
             .print(context.getModel().asMap(full));
         context.report();
@@ -44,6 +44,10 @@ interface ArchiveAssembler extends Assembler, SwidTagAware {
 
     Property<Boolean> getAttachPlatform()
 
+    Property<Boolean> getParallel()
+
+    Property<Integer> getParallelism()
+
     SetProperty<Format> getFormats()
 
     void format(String format)
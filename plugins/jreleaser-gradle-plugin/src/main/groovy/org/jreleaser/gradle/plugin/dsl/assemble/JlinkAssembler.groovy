@@ -51,6 +51,8 @@ interface JlinkAssembler extends JavaAssembler, SwidTagAware {
 
     Property<Boolean> getCopyJars()
 
+    Property<Boolean> getParallel()
+
     SetProperty<String> getModuleNames()
 
     SetProperty<String> getAdditionalModuleNames()
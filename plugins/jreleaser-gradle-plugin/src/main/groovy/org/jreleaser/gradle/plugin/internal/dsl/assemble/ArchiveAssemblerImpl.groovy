@@ -52,6 +52,8 @@ class ArchiveAssemblerImpl extends AbstractAssembler implements ArchiveAssembler
     final Property<DistributionType> distributionType
     final Property<Boolean> applyDefaultMatrix
     final Property<Boolean> attachPlatform
+    final Property<Boolean> parallel
+    final Property<Integer> parallelism
     final SetProperty<Archive.Format> formats
     final PlatformImpl platform
     final ArchiveOptionsImpl options
@@ -65,6 +67,8 @@ class ArchiveAssemblerImpl extends AbstractAssembler implements ArchiveAssembler
         distributionType = objects.property(DistributionType).convention(DistributionType.JAVA_BINARY)
         applyDefaultMatrix = objects.property(Boolean).convention(Providers.<Boolean> notDefined())
         attachPlatform = objects.property(Boolean).convention(Providers.<Boolean> notDefined())
+        parallel = objects.property(Boolean).convention(Providers.<Boolean> notDefined())
+        parallelism = objects.property(Integer).convention(Providers.<Integer> notDefined())
         formats = objects.setProperty(Archive.Format).convention(Providers.<Set<Archive.Format>> notDefined())
         platform = objects.newInstance(PlatformImpl, objects)
         options = objects.newInstance(ArchiveOptionsImpl, objects)
@@ -79,6 +83,8 @@ class ArchiveAssemblerImpl extends AbstractAssembler implements ArchiveAssembler
             distributionType.present ||
             applyDefaultMatrix.present ||
             attachPlatform.present ||
+            parallel.present ||
+            parallelism.present ||
             formats.present ||
             matrix.isSet() ||
             options.isSet()
@@ -118,6 +124,8 @@ class ArchiveAssemblerImpl extends AbstractAssembler implements ArchiveAssembler
         if (archiveName.present) assembler.archiveName = archiveName.get()
         if (applyDefaultMatrix.present) assembler.applyDefaultMatrix = applyDefaultMatrix.get()
         if (attachPlatform.present) assembler.attachPlatform = attachPlatform.get()
+        if (parallel.present) assembler.parallel = parallel.get()
+        if (parallelism.present) assembler.parallelism = parallelism.get()
         assembler.platform = platform.toModel()
         assembler.swid = swid.toModel()
         assembler.distributionType = distributionType.get()
@@ -59,6 +59,7 @@ class JlinkAssemblerImpl extends AbstractJavaAssembler implements JlinkAssembler
     final Property<Archive.Format> archiveFormat
     final SetProperty<Archive.Format> formats
     final Property<Boolean> copyJars
+    final Property<Boolean> parallel
     final ListProperty<String> args
     final SetProperty<String> moduleNames
     final SetProperty<String> additionalModuleNames
@@ -84,6 +85,7 @@ class JlinkAssemblerImpl extends AbstractJavaAssembler implements JlinkAssembler
         archiveFormat = objects.property(Archive.Format).convention(Archive.Format.ZIP)
         formats = objects.setProperty(Archive.Format).convention(Providers.<Set<Archive.Format>> notDefined())
         copyJars = objects.property(Boolean).convention(Providers.<Boolean> notDefined())
+        parallel = objects.property(Boolean).convention(Providers.<Boolean> notDefined())
         args = objects.listProperty(String).convention(Providers.<List<String>> notDefined())
         moduleNames = objects.setProperty(String).convention(Providers.<Set<String>> notDefined())
         additionalModuleNames = objects.setProperty(String).convention(Providers.<Set<String>> notDefined())
@@ -125,6 +127,7 @@ class JlinkAssemblerImpl extends AbstractJavaAssembler implements JlinkAssembler
             archiveFormat.present ||
             formats.present ||
             copyJars.present ||
+            parallel.present ||
             args.present ||
             java.isSet() ||
             jdeps.isSet() ||
@@ -216,6 +219,7 @@ class JlinkAssemblerImpl extends AbstractJavaAssembler implements JlinkAssembler
         if(archiveFormat.present) formats.add(archiveFormat.get())
         assembler.formats = (Set<Archive.Format>) formats.getOrElse([] as Set<Archive.Format>)
         if (copyJars.present) assembler.copyJars = copyJars.get()
+        if (parallel.present) assembler.parallel = parallel.get()
         assembler.moduleNames = (Set<String>) moduleNames.getOrElse([] as Set)
         assembler.additionalModuleNames = (Set<String>) additionalModuleNames.getOrElse([] as Set)
         for (ArtifactImpl artifact : targetJdks) {
@@ -124,12 +124,14 @@ abstract class AbstractDownloader implements Downloader {
         String name
         final Property<String> input
         final Property<String> output
+        final Property<String> checksum
         final UnpackImpl unpack
 
         @Inject
         AssetImpl(ObjectFactory objects) {
             input = objects.property(String).convention(Providers.<String> notDefined())
             output = objects.property(String).convention(Providers.<String> notDefined())
+            checksum = objects.property(String).convention(Providers.<String> notDefined())
             unpack = objects.newInstance(UnpackImpl, objects)
         }
 
@@ -137,6 +139,7 @@ abstract class AbstractDownloader implements Downloader {
         boolean isSet() {
             input.present ||
                 output.present ||
+                checksum.present ||
                 unpack.isSet()
         }
 
@@ -149,6 +152,7 @@ abstract class AbstractDownloader implements Downloader {
             org.jreleaser.model.internal.download.Downloader.Asset asset = new org.jreleaser.model.internal.download.Downloader.Asset()
             if (input.present) asset.input = input.get()
             if (output.present) asset.output = output.get()
+            if (checksum.present) asset.checksum = checksum.get()
             if (unpack.isSet()) asset.unpack = unpack.toModel()
             asset
         }
@@ -127,7 +127,7 @@ abstract class JReleaserConfigTask extends AbstractPlatformAwareJReleaserTask {
         }
 
         JReleaserContext context = createContext()
-        ModelValidator.validate(context)
+        ModelValidator.validate(context, full.get())
         new GradleJReleaserModelPrinter(project)
             .print(context.model.asMap(full.get()))
         context.report()
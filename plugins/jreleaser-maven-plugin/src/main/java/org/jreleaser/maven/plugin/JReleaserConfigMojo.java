@@ -76,7 +76,7 @@ public class JReleaserConfigMojo extends AbstractPlatformAwareMojo {
     @Override
     protected void doExecute() throws MojoExecutionException, MojoFailureException {
         JReleaserContext context = createContext();
-        ModelValidator.validate(context);
+        ModelValidator.validate(context, full);
         new MavenJReleaserModelPrinter(newPrintWriter(System.out))
             .print(context.getModel().asMap(full));
         context.report();
@@ -27,6 +27,7 @@ import org.jreleaser.model.internal.JReleaserModel;
 import org.jreleaser.model.internal.environment.Environment;
 import org.jreleaser.util.Env;
 import org.jreleaser.util.PlatformUtils;
+import org.jreleaser.util.ServiceRegistry;
 import org.jreleaser.util.StringUtils;
 import picocli.CommandLine;
 
@@ -39,7 +40,6 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
-import java.util.ServiceLoader;
 import java.util.Set;
 
 import static java.util.stream.Collectors.toList;
@@ -128,8 +128,7 @@ public abstract class AbstractModelCommand<C extends IO> extends AbstractLogging
     }
 
     private Optional<Path> resolveConfigFileAt(Path directory) {
-        ServiceLoader<JReleaserConfigParser> parsers = ServiceLoader.load(JReleaserConfigParser.class,
-            JReleaserConfigParser.class.getClassLoader());
+        List<JReleaserConfigParser> parsers = ServiceRegistry.load(JReleaserConfigParser.class);
 
         for (JReleaserConfigParser parser : parsers) {
             Path file = directory.resolve("jreleaser." + parser.getPreferredFileExtension()).normalize();
@@ -245,8 +244,7 @@ public abstract class AbstractModelCommand<C extends IO> extends AbstractLogging
     private Set<String> getSupportedConfigFormats() {
         Set<String> extensions = new LinkedHashSet<>();
 
-        ServiceLoader<JReleaserConfigParser> parsers = ServiceLoader.load(JReleaserConfigParser.class,
-            JReleaserConfigParser.class.getClassLoader());
+        List<JReleaserConfigParser> parsers = ServiceRegistry.load(JReleaserConfigParser.class);
 
         for (JReleaserConfigParser parser : parsers) {
             extensions.add("." + parser.getPreferredFileExtension());
@@ -64,7 +64,7 @@ public class Config extends AbstractPlatformAwareModelCommand<Main> {
 
     @Override
     protected void doExecute(JReleaserContext context) {
-        ModelValidator.validate(context);
+        ModelValidator.validate(context, full);
         new CliJReleaserModelPrinter(parent().getOut()).print(context.getModel().asMap(full));
         context.report();
     }
@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.cli;
+
+import org.jreleaser.cli.internal.DaemonClient;
+import org.jreleaser.cli.internal.DaemonRegistry;
+import org.jreleaser.cli.internal.DaemonServer;
+import org.jreleaser.model.JReleaserException;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * @author Andres Almiray
+ * @since 1.26.0
+ */
+@CommandLine.Command(name = "daemon")
+public class Daemon extends AbstractCommand<Main> {
+    @CommandLine.Option(names = {"--stop"})
+    boolean stop;
+
+    @CommandLine.Option(names = {"--status"})
+    boolean status;
+
+    @CommandLine.Option(names = {"--idle-timeout"}, paramLabel = "<minutes>", defaultValue = "180")
+    long idleTimeout;
+
+    @Override
+    protected void execute() {
+        try {
+            if (stop) {
+                Optional<DaemonRegistry.Entry> entry = DaemonClient.stop();
+                parent().getOut().println(entry.isPresent() ?
+                    $("jreleaser.daemon.TEXT_stopped", entry.get().getPid()) :
+                    $("jreleaser.daemon.TEXT_not_running"));
+            } else if (status) {
+                Optional<DaemonRegistry.Entry> entry = DaemonClient.status();
+                parent().getOut().println(entry.isPresent() ?
+                    $("jreleaser.daemon.TEXT_running", entry.get().getPid(), entry.get().getPort()) :
+                    $("jreleaser.daemon.TEXT_not_running"));
+            } else {
+                new DaemonServer(DaemonRegistry.resolveRegistryFile(), idleTimeout, parent().getOut()).run();
+            }
+        } catch (IOException e) {
+            throw new JReleaserException($("jreleaser.daemon.ERROR_unexpected", e.getMessage()), e);
+        }
+    }
+}
@@ -17,10 +17,13 @@
  */
 package org.jreleaser.cli;
 
+import org.jreleaser.cli.internal.DaemonClient;
+import org.jreleaser.cli.internal.DaemonRegistry;
 import picocli.AutoComplete;
 import picocli.CommandLine;
 
 import java.io.PrintWriter;
+import java.util.Optional;
 
 /**
  * @author Andres Almiray
@@ -34,7 +37,7 @@ import java.io.PrintWriter;
         Release.class, Prepare.class, Package.class,
         Publish.class, Announce.class, FullRelease.class,
         AutoComplete.GenerateCompletion.class,
-        JsonSchema.class})
+        JsonSchema.class, Daemon.class})
 public class Main extends BaseCommand implements Runnable, IO {
     private PrintWriter out;
     private PrintWriter err;
@@ -67,6 +70,11 @@ public class Main extends BaseCommand implements Runnable, IO {
     }
 
     public static void main(String[] args) {
+        if (DaemonRegistry.isEnabled() && (args.length == 0 || !"daemon".equals(args[0]))) {
+            Optional<Integer> exitCode = DaemonClient.run(args);
+            if (exitCode.isPresent()) System.exit(exitCode.get());
+        }
+
         System.exit(run(args));
     }
 
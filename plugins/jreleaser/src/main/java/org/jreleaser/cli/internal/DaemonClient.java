@@ -0,0 +1,215 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.cli.internal;
+
+import org.jreleaser.cli.Main;
+import org.jreleaser.util.PlatformUtils;
+import picocli.CommandLine;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.jreleaser.cli.internal.DaemonRegistry.EXIT_REFUSED;
+import static org.jreleaser.cli.internal.DaemonRegistry.FRAME_ERR;
+import static org.jreleaser.cli.internal.DaemonRegistry.FRAME_EXIT;
+import static org.jreleaser.cli.internal.DaemonRegistry.FRAME_OUT;
+import static org.jreleaser.cli.internal.DaemonRegistry.OP_RUN;
+import static org.jreleaser.cli.internal.DaemonRegistry.OP_STATUS;
+import static org.jreleaser.cli.internal.DaemonRegistry.OP_STOP;
+import static org.jreleaser.util.StringUtils.isBlank;
+
+/**
+ * Forwards command invocations to a running daemon, streaming its output back.
+ *
+ * @author Andres Almiray
+ * @since 1.26.0
+ */
+public final class DaemonClient {
+    private static final int CONNECT_TIMEOUT = 1000;
+
+    private DaemonClient() {
+        // noop
+    }
+
+    /**
+     * Runs the given arguments in a compatible daemon, starting one in the background
+     * for subsequent invocations when none is available.
+     *
+     * @param args the command line arguments.
+     * @return the exit code, or empty if the command must run in the current process.
+     */
+    public static Optional<Integer> run(String... args) {
+        Path registryFile;
+        try {
+            registryFile = DaemonRegistry.resolveRegistryFile();
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+
+        Optional<DaemonRegistry.Entry> entry = DaemonRegistry.read(registryFile);
+        if (!entry.isPresent()) {
+            spawn(registryFile);
+            return Optional.empty();
+        }
+
+        Socket socket = connect(entry.get());
+        if (null == socket) {
+            DaemonRegistry.delete(registryFile);
+            spawn(registryFile);
+            return Optional.empty();
+        }
+
+        try (Socket s = socket) {
+            DataOutputStream out = newOutput(s, entry.get(), OP_RUN);
+            out.writeBoolean(CommandLine.Help.Ansi.AUTO.enabled());
+            out.writeInt(args.length);
+            for (String arg : args) {
+                out.writeUTF(arg);
+            }
+            out.writeUTF(DaemonRegistry.resolveEnvironmentDigest(System.getenv()));
+            out.flush();
+
+            int exitCode = readResponse(s, System.out, System.err);
+            // the daemon runs with a different environment, run the command in process
+            return exitCode == EXIT_REFUSED ? Optional.empty() : Optional.of(exitCode);
+        } catch (IOException e) {
+            // the request may have been partially executed, do not run it again
+            System.err.println("Lost connection to JReleaser daemon: " + e.getMessage());
+            return Optional.of(1);
+        }
+    }
+
+    public static Optional<DaemonRegistry.Entry> status() throws IOException {
+        return send(OP_STATUS);
+    }
+
+    public static Optional<DaemonRegistry.Entry> stop() throws IOException {
+        return send(OP_STOP);
+    }
+
+    private static Optional<DaemonRegistry.Entry> send(byte op) throws IOException {
+        Path registryFile = DaemonRegistry.resolveRegistryFile();
+        Optional<DaemonRegistry.Entry> entry = DaemonRegistry.read(registryFile);
+        if (!entry.isPresent()) return Optional.empty();
+
+        Socket socket = connect(entry.get());
+        if (null == socket) {
+            DaemonRegistry.delete(registryFile);
+            return Optional.empty();
+        }
+
+        try (Socket s = socket) {
+            newOutput(s, entry.get(), op).flush();
+            readResponse(s, System.out, System.err);
+        }
+
+        return entry;
+    }
+
+    private static Socket connect(DaemonRegistry.Entry entry) {
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), entry.getPort()), CONNECT_TIMEOUT);
+            return socket;
+        } catch (IOException e) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // noop
+            }
+            return null;
+        }
+    }
+
+    private static DataOutputStream newOutput(Socket socket, DaemonRegistry.Entry entry, byte op) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        out.writeUTF(entry.getToken());
+        out.writeByte(op);
+        return out;
+    }
+
+    private static int readResponse(Socket socket, PrintStream stdout, PrintStream stderr) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        byte[] buffer = new byte[8192];
+
+        while (true) {
+            byte type = in.readByte();
+            if (type == FRAME_EXIT) {
+                stdout.flush();
+                stderr.flush();
+                return in.readInt();
+            }
+
+            PrintStream target = type == FRAME_ERR ? stderr : stdout;
+            int remaining = in.readInt();
+            while (remaining > 0) {
+                int read = in.read(buffer, 0, Math.min(buffer.length, remaining));
+                if (read < 0) throw new IOException("Unexpected end of stream");
+                target.write(buffer, 0, read);
+                remaining -= read;
+            }
+            if (type == FRAME_OUT) target.flush();
+        }
+    }
+
+    private static void spawn(Path registryFile) {
+        String javaHome = System.getProperty("java.home");
+        String classpath = System.getProperty("java.class.path");
+        if (isBlank(javaHome) || isBlank(classpath)) return;
+
+        Path java = Paths.get(javaHome, "bin", PlatformUtils.isWindows() ? "java.exe" : "java");
+        if (!Files.isExecutable(java)) return;
+
+        // another client is already starting a daemon for this key
+        if (!DaemonRegistry.claimSpawn(registryFile)) return;
+
+        // agents and debug flags of this invocation are not carried over
+        List<String> cmd = new ArrayList<>();
+        cmd.add(java.toString());
+        cmd.add("-cp");
+        cmd.add(classpath);
+        cmd.add(Main.class.getName());
+        cmd.add("daemon");
+
+        try {
+            Path logFile = DaemonRegistry.resolveLogFile();
+            Files.createDirectories(logFile.getParent());
+            Process process = new ProcessBuilder(cmd)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(logFile.toFile()))
+                .start();
+            process.getOutputStream().close();
+        } catch (IOException ignored) {
+            // the daemon is an optimization, commands still run in process
+            DaemonRegistry.releaseSpawn(registryFile);
+        }
+    }
+}
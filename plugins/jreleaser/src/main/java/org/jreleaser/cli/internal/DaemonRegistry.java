@@ -0,0 +1,277 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.cli.internal;
+
+import org.jreleaser.model.JReleaserVersion;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.jreleaser.util.StringUtils.isBlank;
+
+/**
+ * Keeps track of running daemons. A daemon is bound to the working directory, the
+ * {@code JRELEASER_*} variables, {@code JAVA_HOME} and the JReleaser version it was
+ * started with, so a client may only reuse a daemon whose key matches its own. Other
+ * variables are left out of the key, as CI runners change some of them on every step.
+ * Instead, clients send a digest of their whole environment with every request and the
+ * daemon refuses to run a request whose environment differs from its own, in which case
+ * the client runs the command in its own process.
+ * <p>
+ * At most one daemon runs per key. The daemon holds a lock file for its lifetime, and
+ * a spawn marker keeps concurrent clients from starting more than one in the meantime.
+ *
+ * @author Andres Almiray
+ * @since 1.26.0
+ */
+public final class DaemonRegistry {
+    public static final String JRELEASER_DAEMON = "JRELEASER_DAEMON";
+
+    static final byte OP_RUN = 0;
+    static final byte OP_STOP = 1;
+    static final byte OP_STATUS = 2;
+    static final byte FRAME_EXIT = 0;
+    static final byte FRAME_OUT = 1;
+    static final byte FRAME_ERR = 2;
+    static final int EXIT_REFUSED = -1;
+
+    private static final String KEY_PORT = "port";
+    private static final String KEY_TOKEN = "token";
+    private static final String KEY_PID = "pid";
+    private static final String JAVA_HOME = "JAVA_HOME";
+    private static final String JRELEASER_PREFIX = "JRELEASER_";
+    private static final long SPAWN_TIMEOUT = TimeUnit.MINUTES.toMillis(1);
+
+    private DaemonRegistry() {
+        // noop
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getenv(JRELEASER_DAEMON));
+    }
+
+    public static Path resolveRegistryFile() throws IOException {
+        return resolveDaemonDirectory().resolve(resolveKey() + ".properties");
+    }
+
+    public static Optional<Entry> read(Path file) {
+        if (!Files.exists(file)) return Optional.empty();
+
+        Properties props = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            props.load(in);
+            return Optional.of(new Entry(Integer.parseInt(props.getProperty(KEY_PORT)),
+                props.getProperty(KEY_TOKEN),
+                props.getProperty(KEY_PID)));
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    public static Entry write(Path file, int port) throws IOException {
+        byte[] bytes = new byte[32];
+        new SecureRandom().nextBytes(bytes);
+        Entry entry = new Entry(port, ChecksumUtils.checksum(Algorithm.SHA_256, bytes), currentPid());
+
+        Properties props = new Properties();
+        props.setProperty(KEY_PORT, String.valueOf(entry.getPort()));
+        props.setProperty(KEY_TOKEN, entry.getToken());
+        props.setProperty(KEY_PID, entry.getPid());
+
+        Files.createDirectories(file.getParent());
+        Path tmp = Files.createTempFile(file.getParent(), "daemon", ".tmp");
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.setPosixFilePermissions(tmp, PosixFilePermissions.fromString("rw-------"));
+        }
+        try (OutputStream out = Files.newOutputStream(tmp)) {
+            props.store(out, null);
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+
+        return entry;
+    }
+
+    public static void delete(Path file, Entry entry) {
+        if (!read(file).filter(e -> e.getToken().equals(entry.getToken())).isPresent()) return;
+        delete(file);
+    }
+
+    public static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // stale entries are detected by clients
+        }
+    }
+
+    /**
+     * Claims the right to start a daemon for the given registry file. Only one client
+     * succeeds until the daemon registers itself or the claim expires.
+     *
+     * @param registryFile the registry file of the daemon.
+     * @return {@code true} if the caller should start the daemon.
+     */
+    public static boolean claimSpawn(Path registryFile) {
+        Path marker = resolveSibling(registryFile, ".spawn");
+        try {
+            Files.createDirectories(marker.getParent());
+            try {
+                Files.createFile(marker);
+                return true;
+            } catch (FileAlreadyExistsException e) {
+                if (System.currentTimeMillis() - Files.getLastModifiedTime(marker).toMillis() < SPAWN_TIMEOUT) {
+                    return false;
+                }
+                // the previous daemon did not start, claim again
+                Files.deleteIfExists(marker);
+                Files.createFile(marker);
+                return true;
+            }
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public static void releaseSpawn(Path registryFile) {
+        delete(resolveSibling(registryFile, ".spawn"));
+    }
+
+    /**
+     * Locks the given registry file for the lifetime of a daemon.
+     *
+     * @param registryFile the registry file of the daemon.
+     * @return the lock, or {@code null} if another daemon holds it.
+     */
+    public static FileLock lock(Path registryFile) throws IOException {
+        Path lockFile = resolveSibling(registryFile, ".lock");
+        Files.createDirectories(lockFile.getParent());
+        FileChannel channel = FileChannel.open(lockFile, CREATE, WRITE);
+        try {
+            FileLock lock = channel.tryLock();
+            if (null != lock) return lock;
+        } catch (OverlappingFileLockException e) {
+            // held by this process
+        }
+        channel.close();
+        return null;
+    }
+
+    public static Path resolveLogFile() throws IOException {
+        return resolveDaemonDirectory().resolve(resolveKey() + ".log");
+    }
+
+    private static Path resolveDaemonDirectory() {
+        String home = System.getenv("JRELEASER_USER_HOME");
+        if (isBlank(home)) {
+            home = System.getProperty("user.home") + File.separator + ".jreleaser";
+        }
+        return Paths.get(home).resolve("daemon");
+    }
+
+    private static Path resolveSibling(Path registryFile, String extension) {
+        String filename = registryFile.getFileName().toString();
+        int dot = filename.lastIndexOf('.');
+        return registryFile.resolveSibling((dot > 0 ? filename.substring(0, dot) : filename) + extension);
+    }
+
+    private static String resolveKey() throws IOException {
+        return resolveKey(JReleaserVersion.getPlainVersion(), Paths.get(".").toAbsolutePath().normalize(), System.getenv());
+    }
+
+    static String resolveKey(String version, Path workingDirectory, Map<String, String> environment) throws IOException {
+        StringBuilder b = new StringBuilder()
+            .append(version)
+            .append('\n')
+            .append(workingDirectory);
+
+        Map<String, String> env = new TreeMap<>();
+        environment.forEach((k, v) -> {
+            if (isKeyVariable(k)) env.put(k, v);
+        });
+        env.forEach((k, v) -> b.append('\n').append(k).append('=').append(v));
+
+        return ChecksumUtils.checksum(Algorithm.SHA_256, b.toString().getBytes(UTF_8));
+    }
+
+    static String resolveEnvironmentDigest(Map<String, String> environment) {
+        StringBuilder b = new StringBuilder();
+        new TreeMap<>(environment).forEach((k, v) -> {
+            if (!JRELEASER_DAEMON.equals(k)) b.append(k).append('=').append(v).append('\n');
+        });
+
+        return ChecksumUtils.checksum(Algorithm.SHA_256, b.toString().getBytes(UTF_8));
+    }
+
+    private static boolean isKeyVariable(String name) {
+        return JAVA_HOME.equals(name) || name.startsWith(JRELEASER_PREFIX) && !JRELEASER_DAEMON.equals(name);
+    }
+
+    private static String currentPid() {
+        String name = ManagementFactory.getRuntimeMXBean().getName();
+        int at = name.indexOf('@');
+        return at > 0 ? name.substring(0, at) : name;
+    }
+
+    public static final class Entry {
+        private final int port;
+        private final String token;
+        private final String pid;
+
+        private Entry(int port, String token, String pid) {
+            this.port = port;
+            this.token = token;
+            this.pid = pid;
+        }
+
+        public int getPort() {
+            return port;
+        }
+
+        public String getToken() {
+            return token;
+        }
+
+        public String getPid() {
+            return pid;
+        }
+    }
+}
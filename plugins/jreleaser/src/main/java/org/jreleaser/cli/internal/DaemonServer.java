@@ -0,0 +1,202 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.cli.internal;
+
+import org.jreleaser.cli.Main;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.jreleaser.cli.internal.DaemonRegistry.EXIT_REFUSED;
+import static org.jreleaser.cli.internal.DaemonRegistry.FRAME_ERR;
+import static org.jreleaser.cli.internal.DaemonRegistry.FRAME_EXIT;
+import static org.jreleaser.cli.internal.DaemonRegistry.FRAME_OUT;
+import static org.jreleaser.cli.internal.DaemonRegistry.OP_RUN;
+import static org.jreleaser.cli.internal.DaemonRegistry.OP_STOP;
+
+/**
+ * Runs commands on behalf of {@code DaemonClient} inside a long-lived JVM, keeping
+ * loaded classes, JIT compiled code and static caches warm between invocations.
+ * Requests are served one at a time as commands share System properties. Commands read
+ * environment variables from this JVM, so requests sent from a different environment
+ * are refused.
+ *
+ * @author Andres Almiray
+ * @since 1.26.0
+ */
+public final class DaemonServer {
+    private static final int REQUEST_TIMEOUT = 10_000;
+
+    private final Path registryFile;
+    private final long idleTimeout;
+    private final PrintWriter log;
+    private final String environmentDigest;
+
+    public DaemonServer(Path registryFile, long idleTimeoutMinutes, PrintWriter log) {
+        this.registryFile = registryFile;
+        this.idleTimeout = TimeUnit.MINUTES.toMillis(idleTimeoutMinutes);
+        this.log = log;
+        this.environmentDigest = DaemonRegistry.resolveEnvironmentDigest(System.getenv());
+    }
+
+    public void run() throws IOException {
+        FileLock lock = DaemonRegistry.lock(registryFile);
+        if (null == lock) {
+            log.println("Daemon already running for " + registryFile);
+            log.flush();
+            return;
+        }
+
+        try (FileChannel ignored = lock.channel();
+             ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            server.setSoTimeout((int) Math.min(idleTimeout, Integer.MAX_VALUE));
+            DaemonRegistry.Entry entry = DaemonRegistry.write(registryFile, server.getLocalPort());
+            DaemonRegistry.releaseSpawn(registryFile);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> DaemonRegistry.delete(registryFile, entry)));
+            log.println("Daemon " + entry.getPid() + " listening on port " + server.getLocalPort());
+            log.flush();
+
+            try {
+                boolean running = true;
+                while (running) {
+                    try (Socket socket = server.accept()) {
+                        running = handle(socket, entry);
+                    } catch (SocketTimeoutException e) {
+                        log.println("Daemon idle timeout reached");
+                        running = false;
+                    } catch (IOException e) {
+                        log.println("Daemon request failed: " + e.getMessage());
+                    }
+                    log.flush();
+                }
+            } finally {
+                DaemonRegistry.delete(registryFile, entry);
+            }
+        } finally {
+            DaemonRegistry.releaseSpawn(registryFile);
+        }
+    }
+
+    private boolean handle(Socket socket, DaemonRegistry.Entry entry) throws IOException {
+        socket.setSoTimeout(REQUEST_TIMEOUT);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+        String token = in.readUTF();
+        if (!MessageDigest.isEqual(token.getBytes(UTF_8), entry.getToken().getBytes(UTF_8))) {
+            log.println("Daemon rejected request with invalid token");
+            return true;
+        }
+
+        byte op = in.readByte();
+        int exitCode = 0;
+        if (op == OP_RUN) {
+            boolean ansi = in.readBoolean();
+            String[] args = new String[in.readInt()];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = in.readUTF();
+            }
+            String digest = in.readUTF();
+            if (environmentDigest.equals(digest)) {
+                socket.setSoTimeout(0);
+                exitCode = execute(out, ansi, args);
+            } else {
+                log.println("Daemon refused request from a different environment");
+                exitCode = EXIT_REFUSED;
+            }
+        }
+
+        synchronized (out) {
+            out.writeByte(FRAME_EXIT);
+            out.writeInt(exitCode);
+            out.flush();
+        }
+
+        return op != OP_STOP;
+    }
+
+    private int execute(DataOutputStream out, boolean ansi, String[] args) {
+        log.println("Daemon running " + String.join(" ", args));
+        log.flush();
+
+        Properties snapshot = (Properties) System.getProperties().clone();
+        System.setProperty("picocli.ansi", String.valueOf(ansi));
+
+        PrintWriter stdout = new PrintWriter(new OutputStreamWriter(new FrameOutputStream(out, FRAME_OUT), UTF_8), true);
+        PrintWriter stderr = new PrintWriter(new OutputStreamWriter(new FrameOutputStream(out, FRAME_ERR), UTF_8), true);
+        try {
+            return Main.run(stdout, stderr, args);
+        } catch (RuntimeException e) {
+            e.printStackTrace(stderr);
+            return 1;
+        } finally {
+            stdout.flush();
+            stderr.flush();
+            System.setProperties(snapshot);
+        }
+    }
+
+    private static final class FrameOutputStream extends OutputStream {
+        private final DataOutputStream out;
+        private final byte type;
+
+        private FrameOutputStream(DataOutputStream out, byte type) {
+            this.out = out;
+            this.type = type;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len == 0) return;
+            synchronized (out) {
+                out.writeByte(type);
+                out.writeInt(len);
+                out.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            synchronized (out) {
+                out.flush();
+            }
+        }
+    }
+}
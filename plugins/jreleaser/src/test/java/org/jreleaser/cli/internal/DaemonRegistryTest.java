@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.cli.internal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DaemonRegistryTest {
+    private static final Path WORKING_DIRECTORY = Paths.get("/work/project");
+
+    @Test
+    void keyIgnoresStepScopedVariables() throws Exception {
+        // given:
+        Map<String, String> step1 = environment();
+        step1.put("GITHUB_ACTION", "__run");
+        step1.put("GITHUB_OUTPUT", "/tmp/output-1");
+        step1.put("RUNNER_TEMP", "/tmp/runner-1");
+        step1.put("JRELEASER_DAEMON", "true");
+        Map<String, String> step2 = environment();
+        step2.put("GITHUB_ACTION", "__run_2");
+        step2.put("GITHUB_OUTPUT", "/tmp/output-2");
+        step2.put("GITHUB_STEP_SUMMARY", "/tmp/summary-2");
+
+        // then:
+        assertEquals(DaemonRegistry.resolveKey("1.0.0", WORKING_DIRECTORY, step1),
+            DaemonRegistry.resolveKey("1.0.0", WORKING_DIRECTORY, step2));
+    }
+
+    @Test
+    void keyTracksVersionDirectoryAndJReleaserVariables() throws Exception {
+        // given:
+        String key = DaemonRegistry.resolveKey("1.0.0", WORKING_DIRECTORY, environment());
+        Map<String, String> otherToken = environment();
+        otherToken.put("JRELEASER_GITHUB_TOKEN", "other");
+        Map<String, String> otherJdk = environment();
+        otherJdk.put("JAVA_HOME", "/opt/jdk-21");
+
+        // then:
+        assertNotEquals(key, DaemonRegistry.resolveKey("1.1.0", WORKING_DIRECTORY, environment()));
+        assertNotEquals(key, DaemonRegistry.resolveKey("1.0.0", Paths.get("/work/other"), environment()));
+        assertNotEquals(key, DaemonRegistry.resolveKey("1.0.0", WORKING_DIRECTORY, otherToken));
+        assertNotEquals(key, DaemonRegistry.resolveKey("1.0.0", WORKING_DIRECTORY, otherJdk));
+    }
+
+    @Test
+    void environmentDigestTracksAllVariablesButDaemonFlag() {
+        // given:
+        String digest = DaemonRegistry.resolveEnvironmentDigest(environment());
+        Map<String, String> daemon = environment();
+        daemon.put("JRELEASER_DAEMON", "true");
+        Map<String, String> step = environment();
+        step.put("GITHUB_TOKEN", "secret");
+        Map<String, String> path = environment();
+        path.put("PATH", "/opt/tools/bin:/usr/bin");
+
+        // then:
+        assertEquals(digest, DaemonRegistry.resolveEnvironmentDigest(daemon));
+        assertNotEquals(digest, DaemonRegistry.resolveEnvironmentDigest(step));
+        assertNotEquals(digest, DaemonRegistry.resolveEnvironmentDigest(path));
+    }
+
+    @Test
+    void onlyOneConcurrentClientClaimsSpawn(@TempDir Path directory) throws Exception {
+        // given:
+        Path registryFile = directory.resolve("key.properties");
+        int clients = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+
+        // when:
+        int claimed = 0;
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                futures.add(executor.submit((Callable<Boolean>) () -> {
+                    start.await();
+                    return DaemonRegistry.claimSpawn(registryFile);
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> future : futures) {
+                if (future.get()) claimed++;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then:
+        assertEquals(1, claimed);
+        assertFalse(DaemonRegistry.claimSpawn(registryFile));
+
+        // when:
+        DaemonRegistry.releaseSpawn(registryFile);
+
+        // then:
+        assertTrue(DaemonRegistry.claimSpawn(registryFile));
+    }
+
+    @Test
+    void onlyOneDaemonHoldsTheLock(@TempDir Path directory) throws Exception {
+        // given:
+        Path registryFile = directory.resolve("key.properties");
+
+        // when:
+        FileLock lock = DaemonRegistry.lock(registryFile);
+
+        // then:
+        assertNotNull(lock);
+        assertNull(DaemonRegistry.lock(registryFile));
+
+        // when:
+        lock.channel().close();
+
+        // then:
+        FileLock other = DaemonRegistry.lock(registryFile);
+        assertNotNull(other);
+        other.channel().close();
+    }
+
+    private static Map<String, String> environment() {
+        Map<String, String> env = new HashMap<>();
+        env.put("PATH", "/usr/bin");
+        env.put("JAVA_HOME", "/opt/jdk-17");
+        env.put("JRELEASER_PROJECT_VERSION", "1.0.0");
+        return env;
+    }
+}
@@ -17,16 +17,12 @@
  */
 package org.jreleaser.sdk.artifactory;
 
-import feign.form.FormData;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.common.Artifact;
 import org.jreleaser.model.internal.upload.ArtifactoryUploader;
 import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.sdk.commons.AbstractArtifactUploader;
-import org.jreleaser.sdk.commons.ClientUtils;
-import org.jreleaser.util.Algorithm;
-import org.jreleaser.util.ChecksumUtils;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -80,8 +76,6 @@ public class ArtifactoryArtifactUploader extends AbstractArtifactUploader<org.jr
 
             if (!context.isDryrun()) {
                 try {
-                    FormData data = ClientUtils.toFormData(path);
-
                     Map<String, String> headers = new LinkedHashMap<>();
                     switch (uploader.resolveAuthorization()) {
                         case BASIC:
@@ -97,18 +91,14 @@ public class ArtifactoryArtifactUploader extends AbstractArtifactUploader<org.jr
                             // noop
                     }
 
-                    headers.put("X-Checksum-Deploy", "false");
-                    headers.put("X-Checksum-Sha1", ChecksumUtils.checksum(Algorithm.SHA_1, data.getData()));
-                    headers.put("X-Checksum-Sha256", ChecksumUtils.checksum(Algorithm.SHA_256, data.getData()));
-                    headers.put("X-Checksum", ChecksumUtils.checksum(Algorithm.MD5, data.getData()));
-
-                    ClientUtils.putFile(context.getLogger(),
+                    ArtifactoryUtils.deploy(context.getLogger(),
                         uploader.getResolvedUploadUrl(context, artifact),
                         uploader.getConnectTimeout(),
                         uploader.getReadTimeout(),
-                        data,
+                        path,
+                        artifact.getHashes(),
                         headers);
-                } catch (IOException e) {
+                } catch (IOException | UploadException e) {
                     context.getLogger().trace(e);
                     throw new UploadException(RB.$("ERROR_unexpected_upload",
                         context.getBasedir().relativize(path)), e);
@@ -17,18 +17,16 @@
  */
 package org.jreleaser.sdk.artifactory;
 
-import feign.form.FormData;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.spi.deploy.DeployException;
 import org.jreleaser.model.spi.deploy.maven.Deployable;
 import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.sdk.commons.AbstractMavenDeployer;
-import org.jreleaser.sdk.commons.ClientUtils;
 import org.jreleaser.util.Algorithm;
-import org.jreleaser.util.ChecksumUtils;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Base64;
@@ -37,6 +35,7 @@ import java.util.Map;
 import java.util.Set;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.jreleaser.util.StringUtils.isNotBlank;
 
 /**
  * @author Andres Almiray
@@ -86,8 +85,6 @@ public class ArtifactoryMavenDeployer extends AbstractMavenDeployer<org.jrelease
 
             if (!context.isDryrun()) {
                 try {
-                    FormData data = ClientUtils.toFormData(localPath);
-
                     Map<String, String> headers = new LinkedHashMap<>();
                     switch (deployer.resolveAuthorization()) {
                         case BASIC:
@@ -103,17 +100,13 @@ public class ArtifactoryMavenDeployer extends AbstractMavenDeployer<org.jrelease
                             // noop
                     }
 
-                    headers.put("X-Checksum-Deploy", "false");
-                    headers.put("X-Checksum-Sha1", ChecksumUtils.checksum(Algorithm.SHA_1, data.getData()));
-                    headers.put("X-Checksum-Sha256", ChecksumUtils.checksum(Algorithm.SHA_256, data.getData()));
-                    headers.put("X-Checksum", ChecksumUtils.checksum(Algorithm.MD5, data.getData()));
-
                     String url = baseUrl + deployable.getFullDeployPath();
-                    ClientUtils.putFile(context.getLogger(),
+                    ArtifactoryUtils.deploy(context.getLogger(),
                         url,
                         deployer.getConnectTimeout(),
                         deployer.getReadTimeout(),
-                        data,
+                        localPath,
+                        readChecksums(deployable),
                         headers);
                 } catch (IOException | UploadException e) {
                     context.getLogger().trace(e);
@@ -123,4 +116,19 @@ public class ArtifactoryMavenDeployer extends AbstractMavenDeployer<org.jrelease
             }
         }
     }
+
+    private Map<Algorithm, String> readChecksums(Deployable deployable) throws IOException {
+        Map<Algorithm, String> checksums = new LinkedHashMap<>();
+        for (Algorithm algorithm : new Algorithm[]{Algorithm.SHA_1, Algorithm.SHA_256, Algorithm.MD5}) {
+            Deployable checksumDeployable = deployable.deriveByFilename(deployable.getFilename() + "." + algorithm.formatted());
+            // sidecars older than their file are stale, let ArtifactoryUtils compute them instead
+            if (isNewer(checksumDeployable, deployable)) {
+                String content = new String(Files.readAllBytes(checksumDeployable.getLocalPath()), UTF_8).trim();
+                if (isNotBlank(content)) {
+                    checksums.put(algorithm, content.split("\\s+")[0]);
+                }
+            }
+        }
+        return checksums;
+    }
 }
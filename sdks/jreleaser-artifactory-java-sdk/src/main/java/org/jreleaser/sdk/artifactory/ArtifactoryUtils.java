@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.artifactory;
+
+import org.jreleaser.bundle.RB;
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.model.JReleaserVersion;
+import org.jreleaser.model.spi.upload.UploadException;
+import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.jreleaser.util.StringUtils.isBlank;
+
+/**
+ * Deploys files using Artifactory's checksum deploy. The file is only sent when
+ * the server does not hold content with the same checksums yet.
+ *
+ * @author Andres Almiray
+ * @since 1.26.0
+ */
+final class ArtifactoryUtils {
+    private static final List<Algorithm> ALGORITHMS = asList(Algorithm.SHA_1, Algorithm.SHA_256, Algorithm.MD5);
+
+    private ArtifactoryUtils() {
+        // noop
+    }
+
+    /**
+     * @param checksums known checksums for {@code file}, missing checksums are computed.
+     */
+    static void deploy(JReleaserLogger logger,
+                       String url,
+                       int connectTimeout,
+                       int readTimeout,
+                       Path file,
+                       Map<Algorithm, String> checksums,
+                       Map<String, String> headers) throws IOException, UploadException {
+        Map<Algorithm, String> resolved = resolveChecksums(file, checksums);
+        headers.put("X-Checksum-Sha1", resolved.get(Algorithm.SHA_1));
+        headers.put("X-Checksum-Sha256", resolved.get(Algorithm.SHA_256));
+        headers.put("X-Checksum", resolved.get(Algorithm.MD5));
+
+        if (deployByChecksum(logger, url, connectTimeout, readTimeout, headers)) {
+            logger.debug(RB.$("uploader.checksum.deploy"), file.getFileName());
+            return;
+        }
+
+        headers.put("X-Checksum-Deploy", "false");
+        ClientUtils.putFile(logger, url, connectTimeout, readTimeout, file, headers);
+    }
+
+    private static Map<Algorithm, String> resolveChecksums(Path file, Map<Algorithm, String> checksums) throws IOException {
+        Map<Algorithm, String> resolved = new LinkedHashMap<>();
+        List<Algorithm> missing = new ArrayList<>();
+        for (Algorithm algorithm : ALGORITHMS) {
+            String checksum = checksums.get(algorithm);
+            if (isBlank(checksum)) {
+                missing.add(algorithm);
+            } else {
+                resolved.put(algorithm, checksum);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            resolved.putAll(ChecksumUtils.checksums(file, missing));
+        }
+        return resolved;
+    }
+
+    private static boolean deployByChecksum(JReleaserLogger logger,
+                                            String url,
+                                            int connectTimeout,
+                                            int readTimeout,
+                                            Map<String, String> headers) throws IOException {
+        HttpURLConnection connection;
+        try {
+            connection = (HttpURLConnection) new URI(url).toURL().openConnection();
+        } catch (URISyntaxException e) {
+            throw new IOException(e);
+        }
+
+        try {
+            connection.setConnectTimeout(connectTimeout * 1000);
+            connection.setReadTimeout(readTimeout * 1000);
+            connection.setAllowUserInteraction(false);
+            connection.setInstanceFollowRedirects(true);
+            connection.setRequestMethod("PUT");
+            connection.addRequestProperty("Accept", "*/*");
+            connection.addRequestProperty("User-Agent", "JReleaser/" + JReleaserVersion.getPlainVersion());
+            headers.forEach(connection::setRequestProperty);
+            connection.setRequestProperty("X-Checksum-Deploy", "true");
+            connection.setDoOutput(true);
+            connection.setFixedLengthStreamingMode(0);
+            connection.getOutputStream().close();
+
+            int status = connection.getResponseCode();
+            logger.debug(RB.$("webhook.server.reply", status, connection.getResponseMessage()));
+            if (status >= 200 && status < 300) return true;
+            if (status == HttpURLConnection.HTTP_NOT_FOUND) return false;
+            throw new IOException(RB.$("webhook.server.reply", status, connection.getResponseMessage()));
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
@@ -72,7 +72,7 @@ public class BlueskySdk {
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
             .configure(SerializationFeature.INDENT_OUTPUT, true);
 
-        api = ClientUtils.builder(context, connectTimeout, readTimeout)
+        api = ClientUtils.announcerBuilder(context, connectTimeout, readTimeout)
             .encoder(new FormEncoder(new JacksonEncoder(objectMapper)))
             .decoder(new JacksonDecoder(objectMapper))
             .target(BlueskyAPI.class, host);
@@ -30,9 +30,13 @@ import java.io.PrintWriter;
 import java.nio.file.Path;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
@@ -116,10 +120,13 @@ public class CommandExecutor {
     }
 
     private static class ProcessExecutor {
+        // grandchildren may inherit the output pipes and keep them open after the process exits
+        private static final long STREAM_DRAIN_TIMEOUT_SECONDS = 10;
+
         private final ProcessBuilder builder;
         private InputStream input;
 
-        private static final ExecutorService EXECUTOR_SERVICE = Executors.newFixedThreadPool(2, new ThreadFactory() {
+        private static final ExecutorService EXECUTOR_SERVICE = Executors.newCachedThreadPool(new ThreadFactory() {
             private final AtomicInteger counter = new AtomicInteger(1);
 
             @Override
@@ -148,14 +155,22 @@ public class CommandExecutor {
 
         private int execute(JReleaserLogger logger, Output output, OutputStream out, OutputStream err) throws IOException, InterruptedException {
             Process process = builder.start();
+            try {
+                return execute(process, logger, output, out, err);
+            } finally {
+                // the calling thread was interrupted or failed, do not leave the process behind
+                if (process.isAlive()) process.destroyForcibly();
+            }
+        }
 
+        private int execute(Process process, JReleaserLogger logger, Output output, OutputStream out, OutputStream err) throws IOException, InterruptedException {
             if (null != input) {
                 PrintWriter writer = IoUtils.newPrintWriter(process.getOutputStream(), true);
                 IoUtils.withInputStream(input, writer::write);
                 writer.println();
             }
 
-            IOException[] outException = handleStream(process.getInputStream(), out, s -> {
+            Future<?> outHandler = handleStream(process.getInputStream(), out, s -> {
                 switch (output) {
                     case DEBUG:
                         logger.debug(s);
@@ -167,7 +182,7 @@ public class CommandExecutor {
                         // noop
                 }
             });
-            IOException[] errException = handleStream(process.getErrorStream(), err, s -> {
+            Future<?> errHandler = handleStream(process.getErrorStream(), err, s -> {
                 switch (output) {
                     case DEBUG:
                         // fall-through
@@ -181,28 +196,36 @@ public class CommandExecutor {
 
             int exitValue = process.waitFor();
 
-            if (null != outException[0]) throw outException[0];
-            if (null != errException[0]) throw errException[0];
+            // streams may still hold output after the process exits
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(STREAM_DRAIN_TIMEOUT_SECONDS);
+            await(logger, outHandler, deadline);
+            await(logger, errHandler, deadline);
 
             return exitValue;
         }
 
-        private IOException[] handleStream(InputStream input, OutputStream target, Consumer<? super String> log) {
-            IOException[] capture = new IOException[1];
-
-            EXECUTOR_SERVICE.submit(() -> {
-                try {
-                    PrintWriter writer = IoUtils.newPrintWriter(target, true);
-                    IoUtils.withLines(input, s -> {
-                        log.accept(s);
-                        writer.println(s);
-                    });
-                } catch (IOException e) {
-                    capture[0] = e;
-                }
+        private Future<?> handleStream(InputStream input, OutputStream target, Consumer<? super String> log) {
+            return EXECUTOR_SERVICE.submit(() -> {
+                PrintWriter writer = IoUtils.newPrintWriter(target, true);
+                IoUtils.withLines(input, s -> {
+                    log.accept(s);
+                    writer.println(s);
+                });
+                return null;
             });
+        }
 
-            return capture;
+        private void await(JReleaserLogger logger, Future<?> handler, long deadline) throws IOException, InterruptedException {
+            try {
+                handler.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) throw (IOException) e.getCause();
+                throw new IOException(e.getCause());
+            } catch (TimeoutException e) {
+                // keep whatever was captured so far rather than blocking on a pipe that never closes
+                handler.cancel(true);
+                logger.debug(RB.$("tool.output.truncated"), STREAM_DRAIN_TIMEOUT_SECONDS);
+            }
         }
     }
 }
@@ -69,7 +69,7 @@ public class DiscourseSdk {
         this.context = context;
         this.dryrun = dryrun;
 
-        this.api = ClientUtils.builder(context, connectTimeout, readTimeout)
+        this.api = ClientUtils.announcerBuilder(context, connectTimeout, readTimeout)
             .encoder(new JacksonEncoder(objectMapper))
             .decoder(new JacksonDecoder(objectMapper))
             .requestInterceptor(template -> {
@@ -18,23 +18,28 @@
 package org.jreleaser.sdk.ftp;
 
 import org.apache.commons.net.ftp.FTPClient;
+import org.apache.commons.net.ftp.FTPReply;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.download.Downloader;
 import org.jreleaser.model.internal.download.FtpDownloader;
 import org.jreleaser.model.spi.download.DownloadException;
 import org.jreleaser.sdk.commons.AbstractArtifactDownloader;
+import org.jreleaser.util.DownloadEngine;
 
+import java.io.Closeable;
+import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.OutputStream;
-import java.nio.file.Files;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
-import static java.nio.file.StandardOpenOption.CREATE;
-import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
-import static java.nio.file.StandardOpenOption.WRITE;
 import static org.jreleaser.util.StringUtils.isBlank;
+import static org.jreleaser.util.StringUtils.isNotBlank;
 
 /**
  * @author Andres Almiray
@@ -64,43 +69,115 @@ public class FtpArtifactDownloader extends AbstractArtifactDownloader<org.jrelea
 
     @Override
     public void download(String name) throws DownloadException {
-        FTPClient ftp = FtpUtils.open(context, downloader);
+        List<DownloadEngine.Request> requests = new ArrayList<>();
+        Map<Path, Downloader.Unpack> unpacks = new LinkedHashMap<>();
 
-        try {
-            for (Downloader.Asset asset : downloader.getAssets()) {
-                downloadAsset(name, ftp, asset);
+        for (Downloader.Asset asset : downloader.getAssets()) {
+            String input = asset.getResolvedInput(context, downloader);
+            String output = asset.getResolvedOutput(context, downloader, Paths.get(input).getFileName().toString());
+
+            if (isBlank(output)) {
+                output = Paths.get(input).getFileName().toString();
             }
-        } finally {
-            FtpUtils.close(downloader, ftp);
+
+            Path outputPath = context.getDownloadDirectory().resolve(name).resolve(output);
+            context.getLogger().info("{} -> {}", input, context.relativizeToBasedir(outputPath));
+            requests.add(new DownloadEngine.Request(input, outputPath, asset.getResolvedChecksum(context, downloader)));
+            unpacks.put(outputPath, asset.getUnpack());
+        }
+
+        if (!context.isDryrun()) {
+            String username = isBlank(downloader.getUsername()) ? "anonymous" : downloader.getUsername();
+            String origin = "ftp://" + username + "@" + downloader.getHost() + ":" + downloader.getPort();
+            try (FtpConnectionPool pool = new FtpConnectionPool(() -> FtpUtils.ftpClient(context, downloader))) {
+                createDownloadEngine().download(new FtpTransport(pool, origin, "anonymous".equals(username)), requests);
+            } catch (IOException | IllegalStateException e) {
+                throw new DownloadException(RB.$("ERROR_unexpected_download_from", downloader.getName()), e);
+            }
+        }
+
+        for (Map.Entry<Path, Downloader.Unpack> e : unpacks.entrySet()) {
+            unpack(e.getValue(), e.getKey());
         }
     }
 
-    private void downloadAsset(String name, FTPClient ftp, Downloader.Asset asset) throws DownloadException {
-        String input = asset.getResolvedInput(context, downloader);
-        String output = asset.getResolvedOutput(context, downloader, Paths.get(input).getFileName().toString());
+    /**
+     * Uses the modification time reported by MDTM as validator. Every transfer
+     * borrows its own control connection from the pool, thus assets may be fetched
+     * concurrently. Only anonymous downloads are cached.
+     */
+    private static final class FtpTransport implements DownloadEngine.Transport {
+        private final FtpConnectionPool pool;
+        private final String origin;
+        private final boolean anonymous;
+
+        private FtpTransport(FtpConnectionPool pool, String origin, boolean anonymous) {
+            this.pool = pool;
+            this.origin = origin;
+            this.anonymous = anonymous;
+        }
 
-        if (isBlank(output)) {
-            output = Paths.get(input).getFileName().toString();
+        @Override
+        public boolean isCacheable() {
+            return anonymous;
         }
 
-        Path outputPath = context.getDownloadDirectory().resolve(name).resolve(output);
-        context.getLogger().info("{} -> {}", input, context.relativizeToBasedir(outputPath));
+        @Override
+        public String getOrigin() {
+            return origin;
+        }
 
-        if (!context.isDryrun()) {
+        @Override
+        public DownloadEngine.Response open(String input, long offset, DownloadEngine.Validators validators) throws IOException {
+            FTPClient ftp = pool.acquire();
             try {
-                Files.createDirectories(outputPath.getParent());
-            } catch (IOException e) {
-                throw new DownloadException(RB.$("ERROR_unexpected_download", input), e);
+                return open(ftp, input, offset, validators);
+            } catch (IOException | RuntimeException e) {
+                pool.discard(ftp);
+                throw e;
+            }
+        }
+
+        private DownloadEngine.Response open(FTPClient ftp, String input, long offset, DownloadEngine.Validators validators) throws IOException {
+            String modificationTime = ftp.getModificationTime(input);
+            DownloadEngine.Validators received = new DownloadEngine.Validators(null, modificationTime);
+            boolean current = null != validators && isNotBlank(modificationTime) &&
+                modificationTime.equals(validators.getLastModified());
+
+            if (offset == 0 && current) {
+                return DownloadEngine.Response.notModified(() -> pool.release(ftp));
             }
 
-            try (OutputStream out = Files.newOutputStream(outputPath, CREATE, TRUNCATE_EXISTING, WRITE)) {
-                Files.createDirectories(outputPath.toAbsolutePath().getParent());
-                ftp.retrieveFile(input, out);
-            } catch (IOException e) {
-                throw new DownloadException(RB.$("ERROR_unexpected_download", input), e);
+            long restartOffset = offset > 0 && current ? offset : 0L;
+            ftp.setRestartOffset(restartOffset);
+            InputStream in = ftp.retrieveFileStream(input);
+            if (null == in) {
+                if (ftp.getReplyCode() == FTPReply.FILE_UNAVAILABLE) {
+                    throw new FileNotFoundException(input);
+                }
+                throw new IOException(RB.$("ERROR_unexpected_download", input) + " " + ftp.getReplyString());
             }
-        }
 
-        unpack(asset.getUnpack(), outputPath);
+            Closeable complete = () -> {
+                boolean completed;
+                try {
+                    completed = ftp.completePendingCommand();
+                } catch (IOException | RuntimeException e) {
+                    pool.discard(ftp);
+                    throw e;
+                }
+
+                if (!completed) {
+                    String reply = ftp.getReplyString();
+                    pool.discard(ftp);
+                    throw new IOException(RB.$("ERROR_unexpected_download", input) + " " + reply);
+                }
+                pool.release(ftp);
+            };
+
+            return restartOffset > 0 ?
+                DownloadEngine.Response.partial(in, received, complete) :
+                DownloadEngine.Response.full(in, received, complete);
+        }
     }
 }
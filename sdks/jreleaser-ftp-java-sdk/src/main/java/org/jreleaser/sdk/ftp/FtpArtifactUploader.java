@@ -17,7 +17,6 @@
  */
 package org.jreleaser.sdk.ftp;
 
-import org.apache.commons.net.ftp.FTPClient;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.common.Artifact;
@@ -26,9 +25,10 @@ import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.sdk.commons.AbstractArtifactUploader;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -65,27 +65,36 @@ public class FtpArtifactUploader extends AbstractArtifactUploader<org.jreleaser.
             context.getLogger().info(RB.$("artifacts.no.match"));
         }
 
-        FTPClient ftp = FtpUtils.open(context, uploader);
+        Map<Path, String> uploads = new LinkedHashMap<>();
+        for (Artifact artifact : artifacts) {
+            Path path = artifact.getEffectivePath(context);
+            context.getLogger().info(" - {}", path.getFileName());
+            uploads.put(path, uploader.getResolvedPath(context, artifact));
+        }
 
-        try {
-            for (Artifact artifact : artifacts) {
-                Path path = artifact.getEffectivePath(context);
-                context.getLogger().info(" - {}", path.getFileName());
+        if (context.isDryrun() || uploads.isEmpty()) return;
 
-                if (!context.isDryrun()) {
-                    try (InputStream in = Files.newInputStream(path)) {
-                        String uploadPath = uploader.getResolvedPath(context, artifact);
-                        context.getLogger().debug("   " + RB.$("uploader.uploading.to", uploadPath));
-                        ftp.storeFile(uploadPath, in);
-                    } catch (IOException e) {
-                        context.getLogger().trace(e);
-                        throw new UploadException(RB.$("ERROR_unexpected_upload",
-                            context.getBasedir().relativize(path)), e);
-                    }
-                }
+        try (FtpConnectionPool pool = new FtpConnectionPool(() -> FtpUtils.ftpClient(context, uploader))) {
+            Set<String> directories = new LinkedHashSet<>();
+            for (String uploadPath : uploads.values()) {
+                String parent = FtpConnectionPool.parentOf(uploadPath);
+                if (null != parent) directories.add(parent);
             }
-        } finally {
-            FtpUtils.close(uploader, ftp);
+            pool.createDirectories(directories);
+
+            pool.execute(uploads.entrySet(), upload -> {
+                Path path = upload.getKey();
+                try {
+                    context.getLogger().debug("   " + RB.$("uploader.uploading.to", upload.getValue()));
+                    pool.upload(path, upload.getValue());
+                } catch (IOException | IllegalStateException e) {
+                    context.getLogger().trace(e);
+                    throw new IOException(RB.$("ERROR_unexpected_upload",
+                        context.getBasedir().relativize(path)), e);
+                }
+            });
+        } catch (IOException | IllegalStateException e) {
+            throw new UploadException(RB.$("ERROR_unexpected_upload_to", uploader.getName()), e);
         }
     }
 }
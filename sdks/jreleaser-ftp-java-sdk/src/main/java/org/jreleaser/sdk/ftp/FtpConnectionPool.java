@@ -0,0 +1,274 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.ftp;
+
+import org.apache.commons.net.ftp.FTPClient;
+import org.jreleaser.util.Env;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.jreleaser.util.StringUtils.isBlank;
+
+/**
+ * Keeps a bounded set of logged in FTP connections so that several transfers may
+ * run at the same time, each one on its own control connection.
+ * <p>
+ * Connections are opened lazily, up to the configured size. A permit is held for every
+ * leased connection and given back when it is released or discarded, so a waiting caller
+ * may open a replacement for a discarded connection. Remote directories are remembered
+ * once created, so that every path is created at most once per pool.
+ *
+ * @author Andres Almiray
+ * @since 1.26.0
+ */
+final class FtpConnectionPool implements Closeable {
+    static final String FTP_PARALLELISM = "FTP_PARALLELISM";
+
+    private static final int DEFAULT_PARALLELISM = 4;
+
+    private final Connector connector;
+    private final int size;
+    private final Semaphore permits;
+    private final BlockingQueue<FTPClient> idle = new LinkedBlockingQueue<>();
+    private final List<FTPClient> clients = new ArrayList<>();
+    private final Set<FTPClient> leased = ConcurrentHashMap.newKeySet();
+    private final Set<String> directories = ConcurrentHashMap.newKeySet();
+
+    FtpConnectionPool(Connector connector) {
+        this.connector = connector;
+        this.size = resolveSize();
+        this.permits = new Semaphore(size, true);
+    }
+
+    private static int resolveSize() {
+        try {
+            return Math.max(1, Integer.parseInt(Env.resolve(FTP_PARALLELISM, String.valueOf(DEFAULT_PARALLELISM)).trim()));
+        } catch (NumberFormatException e) {
+            return DEFAULT_PARALLELISM;
+        }
+    }
+
+    FTPClient acquire() throws IOException {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+
+        // holding a permit, either an idle connection exists or there is room for a new one
+        FTPClient client = idle.poll();
+        if (null == client) {
+            try {
+                client = connector.open();
+            } catch (IOException | RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+            synchronized (clients) {
+                clients.add(client);
+            }
+        }
+
+        leased.add(client);
+        return client;
+    }
+
+    void release(FTPClient client) {
+        if (null == client || !leased.remove(client)) return;
+
+        idle.offer(client);
+        permits.release();
+    }
+
+    /**
+     * Drops a connection whose state can no longer be trusted, e.g. after a failed transfer.
+     */
+    void discard(FTPClient client) {
+        if (null == client || !leased.remove(client)) return;
+
+        synchronized (clients) {
+            clients.remove(client);
+        }
+        disconnect(client);
+        permits.release();
+    }
+
+    /**
+     * Creates all given remote directories, including their parents, skipping those already created.
+     */
+    void createDirectories(Collection<String> paths) throws IOException {
+        Set<String> pending = new TreeSet<>();
+        for (String path : paths) {
+            for (String d = normalize(path); !isBlank(d); d = parentOf(d)) {
+                if (directories.contains(d)) break;
+                pending.add(d);
+            }
+        }
+        if (pending.isEmpty()) return;
+
+        FTPClient ftp = acquire();
+        try {
+            // sorted, parents come before their children
+            for (String directory : pending) {
+                try {
+                    ftp.makeDirectory(directory);
+                } catch (IllegalStateException ignored) {
+                    // negative reply, the directory exists already
+                }
+                directories.add(directory);
+            }
+        } catch (IOException e) {
+            discard(ftp);
+            throw e;
+        }
+        release(ftp);
+    }
+
+    void upload(Path source, String destination) throws IOException {
+        FTPClient ftp = acquire();
+        try (InputStream in = Files.newInputStream(source)) {
+            if (!ftp.storeFile(destination, in)) {
+                throw new IOException(ftp.getReplyString());
+            }
+        } catch (IOException | RuntimeException e) {
+            discard(ftp);
+            throw e;
+        }
+        release(ftp);
+    }
+
+    /**
+     * Runs {@code task} for every item, using up to {@code size} threads.
+     * Items are awaited in iteration order, the first failure is rethrown.
+     */
+    <T> void execute(Collection<T> items, Task<T> task) throws IOException {
+        int workers = Math.min(size, items.size());
+        if (workers <= 1) {
+            for (T item : items) {
+                task.execute(item);
+            }
+            return;
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "jreleaser-ftp-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (T item : items) {
+                tasks.add(executor.submit(() -> {
+                    task.execute(item);
+                    return null;
+                }));
+            }
+
+            for (Future<?> f : tasks) {
+                try {
+                    f.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof IOException) {
+                        throw (IOException) e.getCause();
+                    }
+                    throw new IOException(e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        synchronized (clients) {
+            for (FTPClient client : clients) {
+                try {
+                    if (client.isConnected()) {
+                        client.logout();
+                        client.disconnect();
+                    }
+                } catch (IOException e) {
+                    failure = e;
+                } catch (IllegalStateException e) {
+                    disconnect(client);
+                }
+            }
+            clients.clear();
+        }
+        idle.clear();
+        if (null != failure) throw failure;
+    }
+
+    private static void disconnect(FTPClient client) {
+        try {
+            if (client.isConnected()) client.disconnect();
+        } catch (IOException ignored) {
+            // best effort
+        }
+    }
+
+    private static String normalize(String path) {
+        if (isBlank(path)) return path;
+        String p = path.replace('\\', '/');
+        while (p.length() > 1 && p.endsWith("/")) {
+            p = p.substring(0, p.length() - 1);
+        }
+        return p;
+    }
+
+    static String parentOf(String path) {
+        String p = normalize(path);
+        if (isBlank(p)) return null;
+        int i = p.lastIndexOf('/');
+        return i > 0 ? p.substring(0, i) : null;
+    }
+
+    interface Connector {
+        FTPClient open() throws IOException;
+    }
+
+    interface Task<T> {
+        void execute(T item) throws IOException;
+    }
+}
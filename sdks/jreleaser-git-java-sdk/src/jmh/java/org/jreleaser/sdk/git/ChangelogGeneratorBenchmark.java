@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.git;
+
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.jreleaser.model.internal.release.Changelog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Measures commit parsing, labeling and categorization over a synthetic history.
+ *
+ * @author Andres Almiray
+ * @since 1.26.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ChangelogGeneratorBenchmark {
+    private static final String[] TYPES = {"feat", "fix", "docs", "build", "chore", "refactor", "test"};
+    private static final String[] SCOPES = {"core", "cli", "git", "sdk", "docs"};
+    private static final String[] AUTHORS = {"Alice", "Bob", "Carol", "Dave", "Eve", "Frank", "Grace", "Heidi"};
+
+    @Param({"100000"})
+    private int commitCount;
+
+    private final ChangelogGenerator generator = new ChangelogGenerator();
+    private final Pattern issuesPattern = Pattern.compile("(?:jreleaser/jreleaser|(?<!/)jreleaser)#(?<repo>\\d+)|[^a-zA-Z0-9]#(?<hash>\\d+)");
+    private final Comparator<RevCommit> comparator = Comparator.comparing(RevCommit::getCommitTime).reversed();
+    private Changelog changelog;
+    private List<RevCommit> commits;
+
+    @Setup
+    public void setup() {
+        changelog = new Changelog();
+        changelog.setPreset("conventional-commits");
+        changelog.getContributors().setEnabled(true);
+        changelog.getHide().addContributor("[bot]");
+
+        Set<Changelog.Labeler> labelers = new LinkedHashSet<>();
+        Set<Changelog.Category> categories = new LinkedHashSet<>();
+        for (String type : TYPES) {
+            Changelog.Labeler labeler = new Changelog.Labeler();
+            labeler.setLabel(type);
+            labeler.setTitle("regex:^(?:" + type + "(?:\\(.*\\))?!?):\\s.*");
+            labelers.add(labeler);
+
+            Changelog.Category category = new Changelog.Category();
+            category.setKey(type);
+            category.setTitle(type);
+            category.setLabels(Collections.singleton(type));
+            categories.add(category);
+        }
+        Changelog.Labeler dependencies = new Changelog.Labeler();
+        dependencies.setLabel("dependencies");
+        dependencies.setTitle("Bump");
+        labelers.add(dependencies);
+        changelog.setLabelers(labelers);
+        changelog.setCategories(categories);
+
+        commits = new ArrayList<>(commitCount);
+        for (int i = 0; i < commitCount; i++) {
+            commits.add(commit(i));
+        }
+    }
+
+    @Benchmark
+    public Object processCommits() {
+        return generator.processCommits(changelog, commits, comparator, issuesPattern);
+    }
+
+    private static RevCommit commit(int index) {
+        String type = TYPES[index % TYPES.length];
+        String scope = SCOPES[index % SCOPES.length];
+        String author = AUTHORS[index % AUTHORS.length];
+        String coauthor = AUTHORS[(index + 3) % AUTHORS.length];
+        long time = 1_600_000_000L + index;
+
+        String raw = "tree 4b825dc642cb6eb9a060e54bf8d69288fbee4904\n" +
+            "author " + author + " <" + author.toLowerCase(Locale.ENGLISH) + "@example.com> " + time + " +0000\n" +
+            "committer " + author + " <" + author.toLowerCase(Locale.ENGLISH) + "@example.com> " + time + " +0000\n" +
+            "\n" +
+            type + "(" + scope + "): change number " + index + " fixes #" + (index % 5000) + "\n" +
+            "\n" +
+            "Longer description of change " + index + " touching the " + scope + " module.\n" +
+            "\n" +
+            "Co-authored-by: " + coauthor + " <" + coauthor.toLowerCase(Locale.ENGLISH) + "@example.com>\n";
+
+        return RevCommit.parse(raw.getBytes(UTF_8));
+    }
+}
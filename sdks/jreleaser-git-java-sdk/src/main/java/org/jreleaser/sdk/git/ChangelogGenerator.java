@@ -50,9 +50,11 @@ import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static java.lang.System.lineSeparator;
@@ -61,6 +63,7 @@ import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableSet;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
 import static org.jreleaser.model.Constants.KEY_CATEGORIZE_SCOPES;
 import static org.jreleaser.model.Constants.KEY_CHANGELOG_CHANGES;
@@ -77,7 +80,7 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
 import static org.jreleaser.util.StringUtils.isTrue;
 import static org.jreleaser.util.StringUtils.normalizeRegexPattern;
 import static org.jreleaser.util.StringUtils.stripMargin;
-import static org.jreleaser.util.StringUtils.toSafeRegexPattern;
+import static org.jreleaser.util.StringUtils.toSafePattern;
 
 /**
  * @author Andres Almiray
@@ -366,31 +369,10 @@ public class ChangelogGenerator {
                                      List<RevCommit> commits,
                                      Comparator<RevCommit> revCommitComparator,
                                      String lineSeparator) {
-        Set<Contributor> contributors = new TreeSet<>();
-        Map<String, List<Commit>> categories = new LinkedHashMap<>();
-
-        commits.stream()
-            .sorted(revCommitComparator)
-            .map(rc -> "conventional-commits".equals(changelog.getPreset()) ? ConventionalCommit.of(rc) : Commit.of(rc))
-            .map(c -> c.extractIssues(context))
-            .peek(c -> {
-                applyLabels(c, changelog.getLabelers());
-
-                if (!changelog.getContributors().isEnabled()) return;
-
-                if (!changelog.getHide().containsContributor(c.author.name) &&
-                    !changelog.getHide().containsContributor(c.author.email)) {
-                    contributors.add(new Contributor(c.author));
-                }
-                c.committers.stream()
-                    .filter(author -> !changelog.getHide().containsContributor(author.name))
-                    .filter(author -> !changelog.getHide().containsContributor(author.email))
-                    .forEach(author -> contributors.add(new Contributor(author)));
-            })
-            .filter(c -> checkLabels(c, changelog))
-            .forEach(commit -> categories
-                .computeIfAbsent(categorize(commit, changelog), k -> new ArrayList<>())
-                .add(commit));
+        ProcessedCommits processed = processCommits(changelog, commits, revCommitComparator,
+            ChangelogProvider.resolveIssuesPattern(context));
+        Set<Contributor> contributors = processed.getContributors();
+        Map<String, List<Commit>> categories = processed.getCategories();
 
         BaseReleaser<?, ?> releaser = context.getModel().getRelease().getReleaser();
         String commitsUrl = releaser.getResolvedCommitUrl(context);
@@ -483,6 +465,48 @@ public class ChangelogGenerator {
         return applyReplacers(context, changelog, stripMargin(applyTemplate(context.getLogger(), changelog.getResolvedContentTemplate(context), props)));
     }
 
+    ProcessedCommits processCommits(Changelog changelog,
+                                    List<RevCommit> commits,
+                                    Comparator<RevCommit> revCommitComparator,
+                                    Pattern issuesPattern) {
+        boolean conventionalCommits = "conventional-commits".equals(changelog.getPreset());
+        List<LabelMatcher> labelMatchers = changelog.getLabelers().stream()
+            .map(LabelMatcher::of)
+            .collect(toList());
+
+        // sort sequentially, then parse and label in parallel keeping encounter order
+        List<Commit> parsedCommits = commits.stream()
+            .sorted(revCommitComparator)
+            .collect(toList())
+            .parallelStream()
+            .map(rc -> conventionalCommits ? ConventionalCommit.of(rc) : Commit.of(rc))
+            .map(c -> c.extractIssues(issuesPattern))
+            .map(c -> applyLabels(c, labelMatchers))
+            .collect(toList());
+
+        // ordered collection into a TreeSet keeps the first contributor found for each name
+        Set<Contributor> contributors = new TreeSet<>();
+        if (changelog.getContributors().isEnabled()) {
+            contributors = parsedCommits.parallelStream()
+                .flatMap(c -> resolveContributors(c, changelog))
+                .collect(toCollection(TreeSet::new));
+        }
+
+        Map<String, List<Commit>> categories = parsedCommits.parallelStream()
+            .filter(c -> checkLabels(c, changelog))
+            .collect(groupingBy(c -> categorize(c, changelog), LinkedHashMap::new, toList()));
+
+        return new ProcessedCommits(categories, contributors);
+    }
+
+    private Stream<Contributor> resolveContributors(Commit commit, Changelog changelog) {
+        Stream<Author> authors = Stream.concat(Stream.of(commit.author), commit.committers.stream());
+        return authors
+            .filter(author -> !changelog.getHide().containsContributor(author.name))
+            .filter(author -> !changelog.getHide().containsContributor(author.email))
+            .map(Contributor::new);
+    }
+
     private boolean isConventionalCommits(Changelog changelog) {
         return isNotBlank(changelog.getPreset()) &&
             "conventional-commits".equals(changelog.getPreset().toLowerCase(Locale.ENGLISH).trim());
@@ -557,70 +581,13 @@ public class ChangelogGenerator {
         return UNCATEGORIZED;
     }
 
-    private void applyLabels(Commit commit, Set<Changelog.Labeler> labelers) {
-        for (Changelog.Labeler labeler : labelers) {
-            String label = labeler.getLabel();
-
-            String title = labeler.getTitle();
-            if (isNotBlank(title)) {
-                if (title.startsWith(REGEX_PREFIX)) {
-                    String regex = title.substring(REGEX_PREFIX.length());
-                    if (commit.title.matches(normalizeRegexPattern(regex))) {
-                        commit.labels.add(label);
-                    }
-                } else {
-                    if (matches(commit.title, title)) {
-                        commit.labels.add(label);
-                    }
-                }
-            }
-
-            String body = labeler.getBody();
-            if (isNotBlank(body)) {
-                if (body.startsWith(REGEX_PREFIX)) {
-                    String regex = body.substring(REGEX_PREFIX.length());
-                    if (commit.body.matches(normalizeRegexPattern(regex))) {
-                        commit.labels.add(label);
-                    }
-                } else {
-                    if (matches(commit.body, body)) {
-                        commit.labels.add(label);
-                    }
-                }
-            }
-
-            String contributor = labeler.getContributor();
-            if (isNotBlank(contributor)) {
-                if (contributor.startsWith(REGEX_PREFIX)) {
-                    String regex = contributor.substring(REGEX_PREFIX.length());
-                    if (commit.author.name.matches(normalizeRegexPattern(regex)) ||
-                        commit.author.email.matches(normalizeRegexPattern(regex))) {
-                        commit.labels.add(label);
-                    }
-                    for (Author committer : commit.committers) {
-                        if (committer.name.matches(normalizeRegexPattern(regex)) ||
-                            committer.email.matches(normalizeRegexPattern(regex))) {
-                            commit.labels.add(label);
-                        }
-                    }
-                } else {
-                    if (matches(commit.author.name, contributor) ||
-                        matches(commit.author.email, contributor)) {
-                        commit.labels.add(label);
-                    }
-                    for (Author committer : commit.committers) {
-                        if (matches(committer.name, contributor) ||
-                            matches(committer.email, contributor)) {
-                            commit.labels.add(label);
-                        }
-                    }
-                }
+    private Commit applyLabels(Commit commit, List<LabelMatcher> labelMatchers) {
+        for (LabelMatcher labelMatcher : labelMatchers) {
+            if (labelMatcher.matches(commit)) {
+                commit.labels.add(labelMatcher.label);
             }
         }
-    }
-
-    private boolean matches(String haystack, String needle) {
-        return haystack.contains(needle) || haystack.matches(toSafeRegexPattern(needle));
+        return commit;
     }
 
     protected boolean checkLabels(Commit commit, Changelog changelog) {
@@ -643,6 +610,69 @@ public class ChangelogGenerator {
         return new ChangelogGenerator().createChangelog(context);
     }
 
+    static final class ProcessedCommits {
+        private final Map<String, List<Commit>> categories;
+        private final Set<Contributor> contributors;
+
+        private ProcessedCommits(Map<String, List<Commit>> categories, Set<Contributor> contributors) {
+            this.categories = categories;
+            this.contributors = contributors;
+        }
+
+        Map<String, List<Commit>> getCategories() {
+            return categories;
+        }
+
+        Set<Contributor> getContributors() {
+            return contributors;
+        }
+    }
+
+    private static final class LabelMatcher {
+        private final String label;
+        private final Predicate<String> title;
+        private final Predicate<String> body;
+        private final Predicate<String> contributor;
+
+        private LabelMatcher(String label, Predicate<String> title, Predicate<String> body, Predicate<String> contributor) {
+            this.label = label;
+            this.title = title;
+            this.body = body;
+            this.contributor = contributor;
+        }
+
+        private boolean matches(Commit commit) {
+            if (null != title && title.test(commit.title)) return true;
+            if (null != body && body.test(commit.body)) return true;
+            if (null != contributor) {
+                if (contributor.test(commit.author.name) || contributor.test(commit.author.email)) return true;
+                for (Author committer : commit.committers) {
+                    if (contributor.test(committer.name) || contributor.test(committer.email)) return true;
+                }
+            }
+            return false;
+        }
+
+        private static LabelMatcher of(Changelog.Labeler labeler) {
+            return new LabelMatcher(labeler.getLabel(),
+                compile(labeler.getTitle()),
+                compile(labeler.getBody()),
+                compile(labeler.getContributor()));
+        }
+
+        private static Predicate<String> compile(String value) {
+            if (isBlank(value)) return null;
+
+            if (value.startsWith(REGEX_PREFIX)) {
+                Pattern pattern = Pattern.compile(normalizeRegexPattern(value.substring(REGEX_PREFIX.length())));
+                return s -> pattern.matcher(s).matches();
+            }
+
+            Pattern pattern = toSafePattern(value);
+            return s -> s.contains(value) || pattern.matcher(s).matches();
+        }
+    }
+
     public static class Tags {
         private final Ref current;
         private final Ref previous;
@@ -744,6 +774,11 @@ public class ChangelogGenerator {
             return this;
         }
 
+        Commit extractIssues(Pattern issuesPattern) {
+            issues.addAll(ChangelogProvider.extractIssues(issuesPattern, body));
+            return this;
+        }
+
         static Commit of(RevCommit rc) {
             return new Commit(rc);
         }
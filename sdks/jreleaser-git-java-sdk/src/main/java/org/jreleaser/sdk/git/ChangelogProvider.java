@@ -122,6 +122,10 @@ public final class ChangelogProvider {
     }
 
     public static Set<Integer> extractIssues(JReleaserContext context, String content) {
+        return extractIssues(resolveIssuesPattern(context), content);
+    }
+
+    public static Pattern resolveIssuesPattern(JReleaserContext context) {
         BaseReleaser<?, ?> releaser = context.getModel().getRelease().getReleaser();
         String issueTracker = releaser.getResolvedIssueTrackerUrl(context, true);
 
@@ -130,13 +134,17 @@ public final class ChangelogProvider {
         String p3 = StringUtils.escapeRegexChars(releaser.getName());
         String regex = "(?:" + p2 + "|(?<!/)" + p3 + ")#(?<repo>\\d+)|[^a-zA-Z0-9]#(?<hash>\\d+)";
         regex += isNotBlank(p1) ? "|" + p1 + "(?<tracker>\\d+)" : "";
-        Pattern pattern = Pattern.compile(regex);
+        return Pattern.compile(regex);
+    }
+
+    public static Set<Integer> extractIssues(Pattern pattern, String content) {
+        boolean hasTracker = pattern.pattern().contains("(?<tracker>");
         Matcher matcher = pattern.matcher(content);
         Set<Integer> issues = new TreeSet<>();
         while (matcher.find()) {
             if (isNotBlank(matcher.group("repo"))) issues.add(Integer.valueOf(matcher.group("repo")));
             if (isNotBlank(matcher.group("hash"))) issues.add(Integer.valueOf(matcher.group("hash")));
-            if (isNotBlank(p1) && isNotBlank(matcher.group("tracker")))
+            if (hasTracker && isNotBlank(matcher.group("tracker")))
                 issues.add(Integer.valueOf(matcher.group("tracker")));
         }
 
@@ -18,16 +18,20 @@
 package org.jreleaser.sdk.http;
 
 import org.jreleaser.bundle.RB;
+import org.jreleaser.model.JReleaserVersion;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.download.Downloader;
 import org.jreleaser.model.internal.download.HttpDownloader;
 import org.jreleaser.model.spi.download.DownloadException;
 import org.jreleaser.sdk.commons.AbstractArtifactDownloader;
+import org.jreleaser.util.DownloadEngine;
 
 import java.io.IOException;
-import java.net.URI;
-import java.net.URISyntaxException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.jreleaser.util.StringUtils.isBlank;
 
@@ -59,35 +63,40 @@ public class HttpArtifactDownloader extends AbstractArtifactDownloader<org.jrele
 
     @Override
     public void download(String name) throws DownloadException {
+        List<DownloadEngine.Request> requests = new ArrayList<>();
+        Map<Path, Downloader.Unpack> unpacks = new LinkedHashMap<>();
+
         for (Downloader.Asset asset : downloader.getAssets()) {
-            downloadAsset(name, asset);
-        }
-    }
+            String input = asset.getResolvedInput(context, downloader);
+            String output = asset.getResolvedOutput(context, downloader, getFilename(input));
 
-    private void downloadAsset(String name, Downloader.Asset asset) throws DownloadException {
-        String input = asset.getResolvedInput(context, downloader);
-        String output = asset.getResolvedOutput(context, downloader, getFilename(input));
+            if (isBlank(output)) {
+                output = getFilename(input);
+            }
 
-        if (isBlank(output)) {
-            output = getFilename(input);
+            Path outputPath = context.getDownloadDirectory().resolve(name).resolve(output);
+            context.getLogger().info("{} -> {}", input, context.relativizeToBasedir(outputPath));
+            requests.add(new DownloadEngine.Request(input, outputPath, asset.getResolvedChecksum(context, downloader)));
+            unpacks.put(outputPath, asset.getUnpack());
         }
 
-        Path outputPath = context.getDownloadDirectory().resolve(name).resolve(output);
-        context.getLogger().info("{} -> {}", input, context.relativizeToBasedir(outputPath));
-
         if (!context.isDryrun()) {
+            Map<String, String> headers = new LinkedHashMap<>();
+            headers.put("User-Agent", "JReleaser/" + JReleaserVersion.getPlainVersion());
+
             try {
-                org.apache.commons.io.FileUtils.copyURLToFile(
-                    new URI(input).toURL(),
-                    outputPath.toFile(),
+                createDownloadEngine().download(new DownloadEngine.HttpTransport(
                     downloader.getConnectTimeout() * 1000,
-                    downloader.getReadTimeout() * 1000);
-            } catch (URISyntaxException | IOException e) {
-                throw new DownloadException(RB.$("ERROR_unexpected_download", input), e);
+                    downloader.getReadTimeout() * 1000,
+                    headers), requests);
+            } catch (IOException e) {
+                throw new DownloadException(RB.$("ERROR_unexpected_download_from", downloader.getName()), e);
             }
         }
 
-        unpack(asset.getUnpack(), outputPath);
+        for (Map.Entry<Path, Downloader.Unpack> e : unpacks.entrySet()) {
+            unpack(e.getValue(), e.getKey());
+        }
     }
 
     private String getFilename(String name) {
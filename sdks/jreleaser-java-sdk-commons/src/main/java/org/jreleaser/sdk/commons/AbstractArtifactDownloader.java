@@ -18,28 +18,49 @@
 package org.jreleaser.sdk.commons;
 
 import org.jreleaser.bundle.RB;
+import org.jreleaser.model.Constants;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.download.Downloader;
 import org.jreleaser.model.spi.download.ArtifactDownloader;
 import org.jreleaser.model.spi.download.DownloadException;
+import org.jreleaser.util.DownloadEngine;
+import org.jreleaser.util.Env;
 import org.jreleaser.util.FileType;
 import org.jreleaser.util.FileUtils;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Optional;
 
+import static org.jreleaser.util.StringUtils.isBlank;
+import static org.jreleaser.util.StringUtils.isNotBlank;
+
 /**
  * @author Andres Almiray
  * @since 1.1.0
  */
 public abstract class AbstractArtifactDownloader<A extends org.jreleaser.model.api.download.Downloader, D extends Downloader<A>> implements ArtifactDownloader<A, D> {
+    private static final int DEFAULT_DOWNLOAD_PARALLELISM = 4;
+    private static final long DEFAULT_DOWNLOAD_CACHE_SIZE = 1024L;
+
     protected final JReleaserContext context;
 
     protected AbstractArtifactDownloader(JReleaserContext context) {
         this.context = context;
     }
 
+    protected DownloadEngine createDownloadEngine() throws DownloadException {
+        try {
+            int parallelism = Integer.parseInt(Env.resolve(DownloadEngine.DOWNLOAD_PARALLELISM, String.valueOf(DEFAULT_DOWNLOAD_PARALLELISM)));
+            long maxCacheSize = Long.parseLong(Env.resolve(DownloadEngine.DOWNLOAD_CACHE_SIZE, String.valueOf(DEFAULT_DOWNLOAD_CACHE_SIZE)));
+            return new DownloadEngine(context.getLogger(), resolveDownloadCacheDirectory(), maxCacheSize * 1024 * 1024, parallelism);
+        } catch (NumberFormatException e) {
+            throw new DownloadException(RB.$("ERROR_unexpected_error"), e);
+        }
+    }
+
     protected void unpack(Downloader.Unpack unpack, Path outputPath) throws DownloadException {
         Optional<FileType> fileType = FileType.getFileType(outputPath);
         if (unpack.isEnabled() && fileType.isPresent() && fileType.get().archive()) {
@@ -55,4 +76,17 @@ public abstract class AbstractArtifactDownloader<A extends org.jreleaser.model.a
             }
         }
     }
+
+    private Path resolveDownloadCacheDirectory() {
+        String home = System.getenv(Constants.XDG_CACHE_HOME);
+        if (isNotBlank(home)) {
+            return Paths.get(home).resolve("jreleaser").resolve("downloads");
+        }
+
+        home = System.getenv(Constants.JRELEASER_USER_HOME);
+        if (isBlank(home)) {
+            home = System.getProperty("user.home") + File.separator + ".jreleaser";
+        }
+        return Paths.get(home).resolve("caches").resolve("downloads");
+    }
 }
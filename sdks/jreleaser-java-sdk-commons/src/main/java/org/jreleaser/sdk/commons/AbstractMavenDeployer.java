@@ -19,6 +19,7 @@ package org.jreleaser.sdk.commons;
 
 import feign.form.FormData;
 import org.jreleaser.bundle.RB;
+import org.jreleaser.model.Constants;
 import org.jreleaser.model.JReleaserException;
 import org.jreleaser.model.Signing;
 import org.jreleaser.model.api.signing.SigningException;
@@ -34,29 +35,22 @@ import org.jreleaser.sdk.signing.SigningUtils;
 import org.jreleaser.sdk.tool.PomChecker;
 import org.jreleaser.sdk.tool.ToolException;
 import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumCache;
 import org.jreleaser.util.ChecksumUtils;
 import org.jreleaser.util.CollectionUtils;
+import org.jreleaser.util.Env;
 import org.jreleaser.util.Errors;
-import org.jreleaser.util.FileUtils;
-import org.w3c.dom.Document;
-import org.xml.sax.SAXException;
-
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
+
+import java.io.File;
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.SimpleFileVisitor;
-import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.Paths;
 import java.nio.file.attribute.FileTime;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -70,22 +64,28 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.stream.Collectors;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
-import static java.nio.file.FileVisitResult.CONTINUE;
 import static java.util.stream.Collectors.toSet;
 import static org.jreleaser.model.spi.deploy.maven.Deployable.EXT_ASC;
 import static org.jreleaser.model.spi.deploy.maven.Deployable.EXT_JAR;
 import static org.jreleaser.model.spi.deploy.maven.Deployable.EXT_POM;
 import static org.jreleaser.model.spi.deploy.maven.Deployable.EXT_WAR;
-import static org.jreleaser.model.spi.deploy.maven.Deployable.MAVEN_METADATA_XML;
 import static org.jreleaser.model.spi.deploy.maven.Deployable.PACKAGING_JAR;
 import static org.jreleaser.model.spi.deploy.maven.Deployable.PACKAGING_WAR;
+import static org.jreleaser.util.StringUtils.isBlank;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
 /**
@@ -101,13 +101,17 @@ public abstract class AbstractMavenDeployer<A extends org.jreleaser.model.api.de
         Algorithm.SHA_512
     };
 
+    public static final String MAVEN_PARALLELISM = "MAVEN_PARALLELISM";
+
     private static final String BUILD_TAG = "-build";
+    private static final int DEFAULT_PARALLELISM = 4;
     private static final Map<String, String> KEY_SERVERS = CollectionUtils.<String, String>map()
         .e("https://keys.openpgp.org", "https://keys.openpgp.org/search?q=%s")
         .e("https://keyserver.ubuntu.com", "https://keyserver.ubuntu.com/pks/lookup?search=%s&fingerprint=on&options=mr&op=index")
         .e("https://pgp.mit.edu", "https://pgp.mit.edu/pks/lookup?op=get&search=0x%s");
 
     protected final JReleaserContext context;
+    private final Map<Path, Boolean> javaClasses = new ConcurrentHashMap<>();
 
     protected AbstractMavenDeployer(JReleaserContext context) {
         this.context = context;
@@ -162,19 +166,13 @@ public abstract class AbstractMavenDeployer<A extends org.jreleaser.model.api.de
                 context.relativizeToBasedir(root).toString()));
         }
 
-        try {
-            DeployableCollector collector = new DeployableCollector(root, context.getModel().getProject().isSnapshot());
-
-            java.nio.file.Files.walkFileTree(root, collector);
-            if (collector.failed) {
-                throw new JReleaserException(RB.$("ERROR_deployer_stage_resolution"));
-            }
-
-            deployables.addAll(collector.deployables);
-        } catch (IOException e) {
-            throw new JReleaserException(RB.$("ERROR_deployer_unexpected_error_stage"), e);
+        StagingRepositoryIndex index = new StagingRepositoryIndex(context.getLogger(), root,
+            context.getModel().getProject().isSnapshot()).scan();
+        if (index.isFailed()) {
+            throw new JReleaserException(RB.$("ERROR_deployer_stage_resolution"));
         }
 
+        deployables.addAll(index.getDeployables());
         return deployables;
     }
 
@@ -185,6 +183,10 @@ public abstract class AbstractMavenDeployer<A extends org.jreleaser.model.api.de
 
         Map<String, Deployable> buildPoms = new LinkedHashMap<>();
 
+        if (!getDeployer().isSourceJarSet() || !getDeployer().isJavadocJarSet()) {
+            inspectJars(deployablesMap);
+        }
+
         // 1st check jar, sources, javadoc if applicable
         for (Deployable deployable : deployablesMap.values()) {
             if (!deployable.getFilename().endsWith(EXT_POM)) {
@@ -262,59 +264,215 @@ public abstract class AbstractMavenDeployer<A extends org.jreleaser.model.api.de
         }
 
         // 2nd check pom
+        List<Deployable> poms = new ArrayList<>();
         for (Deployable deployable : deployablesMap.values()) {
             if (!deployable.getFilename().endsWith(EXT_POM) || buildPoms.containsKey(deployable.getFullDeployPath()) ||
                 !requiresPomVerification(deployable)) {
                 continue;
             }
+            poms.add(deployable);
+        }
 
-            List<String> args = new ArrayList<>();
-            args.add("check-maven-central");
-            args.add("--quiet");
-            if (context.getModel().getProject().isSnapshot() &&
-                getDeployer().isSnapshotSupported()) {
-                args.add("--no-release");
+        List<String> args = new ArrayList<>();
+        args.add("check-maven-central");
+        args.add("--quiet");
+        if (context.getModel().getProject().isSnapshot() &&
+            getDeployer().isSnapshotSupported()) {
+            args.add("--no-release");
+        }
+        if (pomChecker.isVersionCompatibleWith("1.9.0")) {
+            if (!pomcheckerModel.isFailOnWarning()) {
+                args.add("--no-fail-on-warning");
             }
-            if (pomChecker.isVersionCompatibleWith("1.9.0")) {
-                if (!pomcheckerModel.isFailOnWarning()) {
-                    args.add("--no-fail-on-warning");
-                }
-                if (!pomcheckerModel.isFailOnError()) {
-                    args.add("--no-fail-on-error");
-                }
+            if (!pomcheckerModel.isFailOnError()) {
+                args.add("--no-fail-on-error");
             }
+        }
 
-            if (pomChecker.isVersionCompatibleWith("1.13.0")) {
-                for (String path : paths) {
-                    args.add("--repository");
-                    args.add(path);
-                }
+        if (pomChecker.isVersionCompatibleWith("1.13.0")) {
+            for (String path : paths) {
+                args.add("--repository");
+                args.add(path);
+            }
+        }
+
+        if (pomcheckerModel.isStrict()) {
+            args.add("--strict");
+        } else {
+            args.add("--no-strict");
+        }
+
+        // pomchecker verifies a single file per invocation, independent POMs are checked
+        // concurrently and successful verifications are remembered across runs.
+        // Parents and imported BOMs may be resolved from the staging repositories, thus
+        // every staged POM takes part in the key
+        String stagedPoms = resolveStagedPomsChecksum(deployablesMap);
+        String fingerprint = null == stagedPoms ? null : pomChecker.getVersion() + "|" + String.join(" ", args) + "|" + stagedPoms;
+        List<PomVerification> verifications = inParallel(poms, deployable -> verifyPom(pomChecker, args, fingerprint, deployable));
+
+        for (PomVerification verification : verifications) {
+            String filename = verification.deployable.getLocalPath().getFileName().toString();
+            if (null != verification.exception) {
+                handlePomcheckerResult(filename, verification.result, verification.exception, errors);
             }
 
-            if (pomcheckerModel.isStrict()) {
-                args.add("--strict");
-            } else {
-                args.add("--no-strict");
+            if (verification.result.getExitValue() != 0) {
+                handlePomcheckerResult(filename, verification.result, null, errors);
             }
+        }
 
-            args.add("--file");
-            args.add(deployable.getLocalPath().toAbsolutePath().toString());
+        return errors;
+    }
+
+    private PomVerification verifyPom(PomChecker pomChecker, List<String> commonArgs, String fingerprint, Deployable deployable) {
+        Path marker = resolvePomVerificationMarker(fingerprint, deployable);
+        if (null != marker && Files.exists(marker)) {
+            context.getLogger().debug(RB.$("deployers.maven.verify.pom.cached", deployable.getLocalPath()));
+            return new PomVerification(deployable, Command.Result.empty(), null);
+        }
 
-            context.getLogger().debug(RB.$("deployers.maven.verify.pom", deployable.getLocalPath()));
+        List<String> args = new ArrayList<>(commonArgs);
+        args.add("--file");
+        args.add(deployable.getLocalPath().toAbsolutePath().toString());
+
+        context.getLogger().debug(RB.$("deployers.maven.verify.pom", deployable.getLocalPath()));
+
+        Command.Result result = Command.Result.empty();
+        try {
+            result = pomChecker.check(context.getBasedir(), args);
+        } catch (CommandException e) {
+            return new PomVerification(deployable, result, e);
+        }
 
-            Command.Result result = Command.Result.empty();
+        if (result.getExitValue() == 0 && null != marker) {
             try {
-                result = pomChecker.check(context.getBasedir(), args);
-            } catch (CommandException e) {
-                handlePomcheckerResult(deployable.getLocalPath().getFileName().toString(), result, e, errors);
+                Files.createDirectories(marker.getParent());
+                Files.write(marker, fingerprint.getBytes(UTF_8));
+            } catch (IOException e) {
+                context.getLogger().trace(e);
             }
+        }
+
+        return new PomVerification(deployable, result, null);
+    }
 
-            if (result.getExitValue() != 0) {
-                handlePomcheckerResult(deployable.getLocalPath().getFileName().toString(), result, null, errors);
+    private String resolveStagedPomsChecksum(Map<String, Deployable> deployablesMap) {
+        // sorted by deploy path so that the checksum does not depend on discovery order
+        Map<String, Path> stagedPoms = new TreeMap<>();
+        for (Deployable deployable : deployablesMap.values()) {
+            if (deployable.getFilename().endsWith(EXT_POM)) {
+                stagedPoms.put(deployable.getFullDeployPath(), deployable.getLocalPath());
             }
         }
 
-        return errors;
+        StringBuilder b = new StringBuilder();
+        try {
+            for (Map.Entry<String, Path> e : stagedPoms.entrySet()) {
+                b.append(e.getKey())
+                    .append('=')
+                    .append(ChecksumCache.checksum(e.getValue(), Algorithm.SHA_256))
+                    .append('\n');
+            }
+            return ChecksumUtils.checksum(Algorithm.SHA_256, b.toString().getBytes(UTF_8));
+        } catch (IOException e) {
+            context.getLogger().trace(e);
+            return null;
+        }
+    }
+
+    private Path resolvePomVerificationMarker(String fingerprint, Deployable deployable) {
+        if (null == fingerprint) return null;
+
+        try {
+            String pomChecksum = ChecksumCache.checksum(deployable.getLocalPath(), Algorithm.SHA_256);
+            String key = ChecksumUtils.checksum(Algorithm.SHA_256, (pomChecksum + "|" + fingerprint).getBytes(UTF_8));
+            return resolvePomcheckerCacheDirectory().resolve(key);
+        } catch (IOException e) {
+            context.getLogger().trace(e);
+            return null;
+        }
+    }
+
+    private Path resolvePomcheckerCacheDirectory() {
+        String home = System.getenv(Constants.XDG_CACHE_HOME);
+        if (isNotBlank(home)) {
+            return Paths.get(home).resolve("jreleaser").resolve("pomchecker");
+        }
+
+        home = System.getenv(Constants.JRELEASER_USER_HOME);
+        if (isBlank(home)) {
+            home = System.getProperty("user.home") + File.separator + ".jreleaser";
+        }
+        return Paths.get(home).resolve("caches").resolve("pomchecker");
+    }
+
+    private void inspectJars(Map<String, Deployable> deployablesMap) {
+        List<Path> jars = new ArrayList<>();
+        for (Deployable deployable : deployablesMap.values()) {
+            if (!deployable.getFilename().endsWith(EXT_POM) ||
+                !deployable.requiresSourcesJar() && !deployable.requiresJavadocJar()) {
+                continue;
+            }
+
+            String base = deployable.getFilename();
+            base = base.substring(0, base.length() - 4);
+            Deployable jar = deployable.deriveByFilename(PACKAGING_JAR, base + EXT_JAR);
+            if (deployablesMap.containsKey(jar.getFullDeployPath())) {
+                jars.add(jar.getLocalPath());
+            }
+        }
+
+        inParallel(jars, this::hasJavaClass);
+    }
+
+    private <T, R> List<R> inParallel(List<T> items, Function<T, R> task) {
+        List<R> results = new ArrayList<>();
+        int workers = Math.min(resolveParallelism(), items.size());
+        if (workers <= 1) {
+            for (T item : items) {
+                results.add(task.apply(item));
+            }
+            return results;
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "jreleaser-maven-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            List<Future<R>> futures = new ArrayList<>();
+            for (T item : items) {
+                futures.add(executor.submit(() -> task.apply(item)));
+            }
+
+            for (Future<R> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new JReleaserException(RB.$("ERROR_unexpected_error"), e);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new JReleaserException(RB.$("ERROR_unexpected_error"), e.getCause());
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static int resolveParallelism() {
+        try {
+            return Math.max(1, Integer.parseInt(Env.resolve(MAVEN_PARALLELISM, String.valueOf(DEFAULT_PARALLELISM)).trim()));
+        } catch (NumberFormatException e) {
+            return DEFAULT_PARALLELISM;
+        }
     }
 
     private void handlePomcheckerResult(String filename, Command.Result result, CommandException e, Errors errors) {
@@ -379,20 +537,31 @@ public abstract class AbstractMavenDeployer<A extends org.jreleaser.model.api.de
 
     private boolean hasJavaClass(Deployable deployable, String baseFilename) {
         Deployable jar = deployable.deriveByFilename(PACKAGING_JAR, baseFilename + EXT_JAR);
+        return hasJavaClass(jar.getLocalPath());
+    }
 
-        try (JarFile jarFile = new JarFile(jar.getLocalPath().toFile())) {
+    private boolean hasJavaClass(Path jar) {
+        Path key = jar.toAbsolutePath().normalize();
+        Boolean cached = javaClasses.get(key);
+        if (null != cached) return cached;
+
+        boolean found = false;
+        // skip signature verification, only entry names are needed
+        try (JarFile jarFile = new JarFile(key.toFile(), false)) {
             Enumeration<JarEntry> entries = jarFile.entries();
             while (entries.hasMoreElements()) {
                 JarEntry entry = entries.nextElement();
                 if (entry.getName().endsWith(".class")) {
-                    return true;
+                    found = true;
+                    break;
                 }
             }
-            return false;
         } catch (IOException e) {
-            context.getLogger().warn(RB.$("ERROR_deployer_read_local_file", jar.getLocalPath()), e);
-            return false;
+            context.getLogger().warn(RB.$("ERROR_deployer_read_local_file", jar), e);
         }
+
+        javaClasses.putIfAbsent(key, found);
+        return found;
     }
 
     private boolean requiresPomVerification(Deployable deployable) {
@@ -433,7 +602,7 @@ public abstract class AbstractMavenDeployer<A extends org.jreleaser.model.api.de
         }
     }
 
-    private boolean isNewer(Deployable source, Deployable target) {
+    protected boolean isNewer(Deployable source, Deployable target) {
         Path sourcePath = source.getLocalPath();
         if (!Files.exists(sourcePath)) {
             return false;
@@ -592,6 +761,7 @@ public abstract class AbstractMavenDeployer<A extends org.jreleaser.model.api.de
             return;
         }
 
+        Map<Deployable, List<Algorithm>> pending = new LinkedHashMap<>();
         for (Deployable deployable : deployablesMap.values()) {
             if (deployable.isChecksum()) continue;
 
@@ -604,23 +774,43 @@ public abstract class AbstractMavenDeployer<A extends org.jreleaser.model.api.de
                 continue;
             }
 
-            try {
-                byte[] data = Files.readAllBytes(deployable.getLocalPath());
-                for (Algorithm algorithm : ALGORITHMS) {
-                    Deployable checksumDeployable = deployable.deriveByFilename(deployable.getFilename() + "." + algorithm.formatted());
+            List<Algorithm> algorithms = new ArrayList<>();
+            for (Algorithm algorithm : ALGORITHMS) {
+                Deployable checksumDeployable = deployable.deriveByFilename(deployable.getFilename() + "." + algorithm.formatted());
+                if (!isNewer(checksumDeployable, deployable)) {
+                    algorithms.add(algorithm);
+                }
+            }
 
-                    if (isNewer(checksumDeployable, deployable)) {
-                        continue;
-                    }
+            if (!algorithms.isEmpty()) {
+                pending.put(deployable, algorithms);
+            }
+        }
 
-                    context.getLogger().debug(RB.$("checksum.calculating", algorithm.formatted(), deployable.getFilename()));
-                    String checksum = ChecksumUtils.checksum(algorithm, data);
-                    Files.write(checksumDeployable.getLocalPath(), checksum.getBytes(UTF_8));
-                    deployables.add(checksumDeployable);
-                }
-            } catch (IOException e) {
-                throw new JReleaserException(RB.$("ERROR_unexpected_error_calculate_checksum", deployable.getFilename()), e);
+        // every file is read once for all of its missing digests, files are hashed concurrently
+        List<List<Deployable>> written = inParallel(new ArrayList<>(pending.entrySet()),
+            entry -> writeChecksums(entry.getKey(), entry.getValue()));
+        for (List<Deployable> checksumDeployables : written) {
+            deployables.addAll(checksumDeployables);
+        }
+    }
+
+    private List<Deployable> writeChecksums(Deployable deployable, List<Algorithm> algorithms) {
+        try {
+            for (Algorithm algorithm : algorithms) {
+                context.getLogger().debug(RB.$("checksum.calculating", algorithm.formatted(), deployable.getFilename()));
             }
+
+            List<Deployable> checksumDeployables = new ArrayList<>();
+            Map<Algorithm, String> checksums = ChecksumCache.checksums(deployable.getLocalPath(), algorithms);
+            for (Map.Entry<Algorithm, String> e : checksums.entrySet()) {
+                Deployable checksumDeployable = deployable.deriveByFilename(deployable.getFilename() + "." + e.getKey().formatted());
+                Files.write(checksumDeployable.getLocalPath(), e.getValue().getBytes(UTF_8));
+                checksumDeployables.add(checksumDeployable);
+            }
+            return checksumDeployables;
+        } catch (IOException e) {
+            throw new JReleaserException(RB.$("ERROR_unexpected_error_calculate_checksum", deployable.getFilename()), e);
         }
     }
 
@@ -672,102 +862,15 @@ public abstract class AbstractMavenDeployer<A extends org.jreleaser.model.api.de
         // noop
     }
 
-    private class DeployableCollector extends SimpleFileVisitor<Path> {
-        private final Path root;
-        private final Set<Deployable> deployables = new TreeSet<>();
-        private final boolean projectIsSnapshot;
-        private boolean failed;
-
-        public DeployableCollector(Path root, boolean projectIsSnapshot) {
-            this.root = root;
-            this.projectIsSnapshot = projectIsSnapshot;
-        }
-
-        private void match(Path path) {
-            if (FileUtils.isHidden(path)) return;
+    private static final class PomVerification {
+        private final Deployable deployable;
+        private final Command.Result result;
+        private final CommandException exception;
 
-            String filename = path.getFileName().toString();
-
-            if (filename.contains(MAVEN_METADATA_XML)) {
-                if (projectIsSnapshot) {
-                    addDeployable(path);
-                }
-            } else {
-                addDeployable(path);
-            }
-        }
-
-        private void addDeployable(Path path) {
-            String stagingRepository = root.toAbsolutePath().toString();
-            String stagingPath = path.getParent().toAbsolutePath().toString();
-            PomResult pomResult = parsePom(path);
-            deployables.add(new Deployable(
-                projectIsSnapshot,
-                stagingRepository,
-                stagingPath.substring(stagingRepository.length()),
-                pomResult.packaging,
-                path.getFileName().toString(),
-                pomResult.relocated
-            ));
-        }
-
-        private PomResult parsePom(Path artifactPath) {
-            // only inspect if artifactPath ends with .pom
-            if (artifactPath.getFileName().toString().endsWith(EXT_JAR)) return new PomResult(PACKAGING_JAR);
-            if (!artifactPath.getFileName().toString().endsWith(EXT_POM)) return new PomResult("");
-
-            try {
-                DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-                factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-                Document document = factory
-                    .newDocumentBuilder()
-                    .parse(artifactPath.toFile());
-                String query = "/project/packaging";
-                String packaging = (String) XPathFactory.newInstance()
-                    .newXPath()
-                    .compile(query)
-                    .evaluate(document, XPathConstants.STRING);
-
-                query = "/project/distributionManagement/relocation";
-                Object relocation = XPathFactory.newInstance()
-                    .newXPath()
-                    .compile(query)
-                    .evaluate(document, XPathConstants.NODE);
-
-                return new PomResult(isNotBlank(packaging) ? packaging.trim() : PACKAGING_JAR,
-                    relocation != null);
-            } catch (ParserConfigurationException | IOException | SAXException | XPathExpressionException e) {
-                throw new IllegalStateException(e);
-            }
-        }
-
-        @Override
-        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
-            match(file);
-            return CONTINUE;
-        }
-
-        @Override
-        public FileVisitResult visitFileFailed(Path file, IOException e) throws IOException {
-            failed = true;
-            context.getLogger().trace(e);
-            context.getLogger().error(RB.$("ERROR_artifacts_unexpected_error_path"),
-                root.toAbsolutePath().relativize(file.toAbsolutePath()), e);
-            return CONTINUE;
-        }
-
-        private final class PomResult {
-            private String packaging;
-            private boolean relocated;
-
-            private PomResult(String packaging) {
-                this.packaging = packaging;
-            }
-
-            private PomResult(String packaging, boolean relocated) {
-                this.packaging = packaging;
-                this.relocated = relocated;
-            }
+        private PomVerification(Deployable deployable, Command.Result result, CommandException exception) {
+            this.deployable = deployable;
+            this.result = result;
+            this.exception = exception;
         }
     }
 }
@@ -39,6 +39,7 @@ import org.jreleaser.model.internal.common.Secrets;
 import org.jreleaser.model.spi.announce.AnnounceException;
 import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.sdk.commons.feign.FeignLogger;
+import org.jreleaser.sdk.commons.feign.RateLimitRetryer;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
@@ -75,6 +76,7 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
 public final class ClientUtils {
     private static final Tika TIKA = new Tika();
     public static final String CRLF = "\r\n";
+    private static final int MAX_POST_ATTEMPTS = 3;
 
     private ClientUtils() {
         // noop
@@ -123,6 +125,21 @@ public final class ClientUtils {
             .options(new Request.Options(connectTimeout, TimeUnit.SECONDS, readTimeout, TimeUnit.SECONDS, true));
     }
 
+    /**
+     * Like {@link #builder(JReleaserContext, int, int)} but requests are paced per host and
+     * rate limited replies are retried once the delay given by the service has elapsed.
+     *
+     * @since 1.26.0
+     */
+    public static Feign.Builder announcerBuilder(JReleaserContext context,
+                                                 int connectTimeout,
+                                                 int readTimeout) {
+        return builder(context, connectTimeout, readTimeout)
+            .requestInterceptor(template -> RateLimiter.acquire(null != template.feignTarget() ? template.feignTarget().url() : template.url()))
+            .errorDecoder((methodKey, response) -> RateLimitRetryer.decode(new RestAPIException(response.request(), response.status(), response.reason(), toString(context.getLogger(), response.body()), response.headers())))
+            .retryer(new RateLimitRetryer());
+    }
+
     private static String toString(JReleaserLogger logger, Response.Body body) {
         if (null == body) return "";
 
@@ -166,6 +183,26 @@ public final class ClientUtils {
                             int readTimeout,
                             String message,
                             Map<String, String> headers) throws AnnounceException {
+        for (int attempt = 1; ; attempt++) {
+            RateLimiter.acquire(theUrl);
+            long retryAt = post0(logger, theUrl, connectTimeout, readTimeout, message, headers, attempt < MAX_POST_ATTEMPTS);
+            if (retryAt < 0) return;
+
+            logger.debug(RB.$("webhook.rate.limited"), Math.max(0L, retryAt - System.currentTimeMillis()));
+            RateLimiter.defer(theUrl, retryAt);
+        }
+    }
+
+    /**
+     * @return {@code -1} when the message was delivered, otherwise the time at which it may be resent
+     */
+    private static long post0(JReleaserLogger logger,
+                              String theUrl,
+                              int connectTimeout,
+                              int readTimeout,
+                              String message,
+                              Map<String, String> headers,
+                              boolean retry) throws AnnounceException {
         try {
             // create URL
             URL url = new URI(theUrl).toURL();
@@ -196,6 +233,16 @@ public final class ClientUtils {
             // handle response
             logger.debug(RB.$("webhook.response.handle"));
             int status = connection.getResponseCode();
+            if (retry && (status == 429 || status == 503)) {
+                long retryAt = RateLimiter.parseRetryAfter(connection.getHeaderField("Retry-After"));
+                if (status == 429 && retryAt < 0) {
+                    retryAt = System.currentTimeMillis() + RateLimiter.DEFAULT_RETRY_AFTER;
+                }
+                if (retryAt >= 0 && retryAt - System.currentTimeMillis() <= RateLimiter.MAX_RETRY_AFTER) {
+                    return retryAt;
+                }
+            }
+
             if (status >= 400) {
                 String reason = connection.getResponseMessage();
                 StringBuilder b = new StringBuilder("Webhook replied with: ")
@@ -213,6 +260,7 @@ public final class ClientUtils {
                 }
                 throw new AnnounceException(b.toString());
             }
+            return -1L;
         } catch (URISyntaxException | IOException e) {
             logger.trace(e);
             throw new AnnounceException(e);
@@ -260,12 +308,49 @@ public final class ClientUtils {
         }
     }
 
+    /**
+     * Streams the file from disk instead of buffering it in memory.
+     */
+    public static Reader putFile(JReleaserLogger logger,
+                                 String url,
+                                 int connectTimeout,
+                                 int readTimeout,
+                                 Path file,
+                                 Map<String, String> headers) throws UploadException {
+        headers.put("METHOD", "PUT");
+        headers.put("Expect", "100-continue");
+        try {
+            return uploadFile(logger, new URI(url), connectTimeout, readTimeout,
+                Files.size(file),
+                true,
+                MediaType.parse(TIKA.detect(file)).toString(),
+                os -> Files.copy(file, os),
+                headers);
+        } catch (URISyntaxException | IOException e) {
+            logger.trace(e);
+            throw new UploadException(e);
+        }
+    }
+
     private static Reader uploadFile(JReleaserLogger logger,
                                      URI uri,
                                      int connectTimeout,
                                      int readTimeout,
                                      feign.form.FormData data,
                                      Map<String, String> headers) throws UploadException {
+        return uploadFile(logger, uri, connectTimeout, readTimeout, data.getData().length, false, data.getContentType(),
+            os -> os.write(data.getData(), 0, data.getData().length), headers);
+    }
+
+    private static Reader uploadFile(JReleaserLogger logger,
+                                     URI uri,
+                                     int connectTimeout,
+                                     int readTimeout,
+                                     long length,
+                                     boolean streaming,
+                                     String contentType,
+                                     FormData data,
+                                     Map<String, String> headers) throws UploadException {
         try {
             // create URL
             URL theUrl = uri.toURL();
@@ -286,8 +371,12 @@ public final class ClientUtils {
                 connection.addRequestProperty("Accept", "*/*");
             }
             connection.addRequestProperty("User-Agent", "JReleaser/" + JReleaserVersion.getPlainVersion());
-            connection.addRequestProperty("Content-Length", data.getData().length + "");
-            connection.setRequestProperty("Content-Type", data.getContentType());
+            if (streaming) {
+                connection.setFixedLengthStreamingMode(length);
+            } else {
+                connection.addRequestProperty("Content-Length", length + "");
+            }
+            connection.setRequestProperty("Content-Type", contentType);
             headers.forEach(connection::setRequestProperty);
 
             connection.getRequestProperties().forEach((k, v) -> {
@@ -303,7 +392,7 @@ public final class ClientUtils {
             // write message
             logger.debug(RB.$("webhook.data.send"));
             try (OutputStream os = connection.getOutputStream()) {
-                os.write(data.getData(), 0, data.getData().length);
+                data.writeTo(os);
                 os.flush();
             }
 
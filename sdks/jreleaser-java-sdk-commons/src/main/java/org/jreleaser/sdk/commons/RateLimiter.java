@@ -0,0 +1,159 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import org.jreleaser.util.Env;
+
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.jreleaser.util.StringUtils.isBlank;
+
+/**
+ * Paces requests per remote host with a token bucket and honors {@code Retry-After}
+ * replies, so that concurrent clients of the same service back off together.
+ * <p>
+ * Buckets hold {@code JRELEASER_HTTP_RATE_LIMIT} tokens (10 by default) and refill
+ * at the same rate per second.
+ *
+ * @author Andres Almiray
+ * @since 1.26.0
+ */
+public final class RateLimiter {
+    public static final String HTTP_RATE_LIMIT = "HTTP_RATE_LIMIT";
+    public static final long MAX_RETRY_AFTER = TimeUnit.SECONDS.toMillis(60);
+    public static final long DEFAULT_RETRY_AFTER = TimeUnit.SECONDS.toMillis(1);
+
+    private static final int DEFAULT_RATE = 10;
+    private static final Map<String, Bucket> BUCKETS = new ConcurrentHashMap<>();
+
+    private RateLimiter() {
+        // noop
+    }
+
+    /**
+     * Blocks until a request to the host of the given url may be sent.
+     */
+    public static void acquire(String url) {
+        long wait;
+        Bucket bucket = bucket(url);
+        while ((wait = bucket.reserve()) > 0) {
+            try {
+                Thread.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Holds back all requests to the host of the given url until {@code epochMillis}.
+     */
+    public static void defer(String url, long epochMillis) {
+        bucket(url).defer(epochMillis);
+    }
+
+    /**
+     * Parses the value of a {@code Retry-After} header, given either as delay in
+     * seconds or as an HTTP date.
+     *
+     * @return the point in time, in epoch millis, or {@code -1} if the value can not be parsed
+     */
+    public static long parseRetryAfter(String value) {
+        if (isBlank(value)) return -1L;
+
+        String v = value.trim();
+        try {
+            return System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(Math.max(0L, Long.parseLong(v)));
+        } catch (NumberFormatException ignored) {
+            // not a delay
+        }
+
+        try {
+            return ZonedDateTime.parse(v, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return -1L;
+        }
+    }
+
+    private static Bucket bucket(String url) {
+        return BUCKETS.computeIfAbsent(host(url), k -> new Bucket(resolveRate()));
+    }
+
+    private static String host(String url) {
+        try {
+            String host = URI.create(url.trim()).getHost();
+            return isBlank(host) ? url : host.toLowerCase(Locale.ENGLISH);
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+
+    private static int resolveRate() {
+        try {
+            return Math.max(1, Integer.parseInt(Env.resolve(HTTP_RATE_LIMIT, String.valueOf(DEFAULT_RATE)).trim()));
+        } catch (NumberFormatException e) {
+            return DEFAULT_RATE;
+        }
+    }
+
+    private static final class Bucket {
+        private final int capacity;
+        private final double tokensPerMilli;
+        private double tokens;
+        private long refilledAt;
+        private long deferredUntil;
+
+        private Bucket(int rate) {
+            this.capacity = rate;
+            this.tokensPerMilli = rate / 1000d;
+            this.tokens = rate;
+            this.refilledAt = System.currentTimeMillis();
+        }
+
+        /**
+         * Takes a token if possible.
+         *
+         * @return {@code 0} if a token was taken, otherwise the time to wait in millis
+         */
+        private synchronized long reserve() {
+            long now = System.currentTimeMillis();
+            if (deferredUntil > now) return deferredUntil - now;
+
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerMilli);
+            refilledAt = now;
+            if (tokens >= 1d) {
+                tokens -= 1d;
+                return 0L;
+            }
+
+            return Math.max(1L, (long) Math.ceil((1d - tokens) / tokensPerMilli));
+        }
+
+        private synchronized void defer(long epochMillis) {
+            deferredUntil = Math.max(deferredUntil, epochMillis);
+        }
+    }
+}
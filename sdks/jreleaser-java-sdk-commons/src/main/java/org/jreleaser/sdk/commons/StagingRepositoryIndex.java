@@ -0,0 +1,227 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import org.jreleaser.bundle.RB;
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.model.spi.deploy.maven.Deployable;
+import org.jreleaser.util.FileUtils;
+import org.w3c.dom.Document;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.jreleaser.model.spi.deploy.maven.Deployable.EXT_JAR;
+import static org.jreleaser.model.spi.deploy.maven.Deployable.EXT_POM;
+import static org.jreleaser.model.spi.deploy.maven.Deployable.MAVEN_METADATA_XML;
+import static org.jreleaser.model.spi.deploy.maven.Deployable.PACKAGING_JAR;
+import static org.jreleaser.util.StringUtils.isNotBlank;
+
+/**
+ * Indexes the deployables found in a staging repository.
+ * <p>
+ * Directories are walked with a fork/join task each, and POMs are parsed inside those
+ * tasks. Packaging and relocation results are memoized for the duration of a run and
+ * reused as long as the POM keeps its size and modification time. Every deployer, and
+ * every catalog scanning the same staging repository, parses a POM only once per run.
+ * The memo is dropped by {@link #clear()} once the run finishes.
+ *
+ * @author Andres Almiray
+ * @since 1.26.0
+ */
+public final class StagingRepositoryIndex {
+    private static final Map<Path, PomResult> POMS = new ConcurrentHashMap<>();
+
+    private final JReleaserLogger logger;
+    private final Path root;
+    private final boolean projectIsSnapshot;
+    private final AtomicBoolean failed = new AtomicBoolean();
+    private final Set<Deployable> deployables = new TreeSet<>();
+
+    StagingRepositoryIndex(JReleaserLogger logger, Path root, boolean projectIsSnapshot) {
+        this.logger = logger;
+        this.root = root;
+        this.projectIsSnapshot = projectIsSnapshot;
+    }
+
+    StagingRepositoryIndex scan() {
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        try {
+            deployables.addAll(pool.invoke(new DirectoryScan(root)));
+        } finally {
+            pool.shutdown();
+        }
+        return this;
+    }
+
+    /**
+     * Drops every memoized POM. Called once a run completes.
+     */
+    public static void clear() {
+        POMS.clear();
+    }
+
+    boolean isFailed() {
+        return failed.get();
+    }
+
+    Set<Deployable> getDeployables() {
+        return deployables;
+    }
+
+    private Deployable toDeployable(Path path) {
+        if (FileUtils.isHidden(path)) return null;
+
+        String filename = path.getFileName().toString();
+        if (filename.contains(MAVEN_METADATA_XML) && !projectIsSnapshot) return null;
+
+        String stagingRepository = root.toAbsolutePath().toString();
+        String stagingPath = path.getParent().toAbsolutePath().toString();
+        PomResult pomResult = parsePom(path);
+        return new Deployable(
+            projectIsSnapshot,
+            stagingRepository,
+            stagingPath.substring(stagingRepository.length()),
+            pomResult.packaging,
+            filename,
+            pomResult.relocated
+        );
+    }
+
+    private PomResult parsePom(Path artifactPath) {
+        // only inspect if artifactPath ends with .pom
+        if (artifactPath.getFileName().toString().endsWith(EXT_JAR)) return new PomResult(PACKAGING_JAR);
+        if (!artifactPath.getFileName().toString().endsWith(EXT_POM)) return new PomResult("");
+
+        try {
+            Path key = artifactPath.toAbsolutePath().normalize();
+            BasicFileAttributes attrs = Files.readAttributes(key, BasicFileAttributes.class);
+            long lastModified = attrs.lastModifiedTime().toMillis();
+
+            PomResult cached = POMS.get(key);
+            if (null != cached && cached.size == attrs.size() && cached.lastModified == lastModified) {
+                return cached;
+            }
+
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            Document document = factory
+                .newDocumentBuilder()
+                .parse(artifactPath.toFile());
+            String query = "/project/packaging";
+            String packaging = (String) XPathFactory.newInstance()
+                .newXPath()
+                .compile(query)
+                .evaluate(document, XPathConstants.STRING);
+
+            query = "/project/distributionManagement/relocation";
+            Object relocation = XPathFactory.newInstance()
+                .newXPath()
+                .compile(query)
+                .evaluate(document, XPathConstants.NODE);
+
+            PomResult result = new PomResult(isNotBlank(packaging) ? packaging.trim() : PACKAGING_JAR,
+                relocation != null, attrs.size(), lastModified);
+            POMS.put(key, result);
+            return result;
+        } catch (ParserConfigurationException | IOException | SAXException | XPathExpressionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void fail(Path path, IOException e) {
+        failed.set(true);
+        logger.trace(e);
+        logger.error(RB.$("ERROR_artifacts_unexpected_error_path"),
+            root.toAbsolutePath().relativize(path.toAbsolutePath()), e);
+    }
+
+    private final class DirectoryScan extends RecursiveTask<List<Deployable>> {
+        private static final long serialVersionUID = -2861517385440232376L;
+
+        private final transient Path directory;
+
+        private DirectoryScan(Path directory) {
+            this.directory = directory;
+        }
+
+        @Override
+        protected List<Deployable> compute() {
+            List<Deployable> found = new ArrayList<>();
+            List<DirectoryScan> subtasks = new ArrayList<>();
+
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+                for (Path entry : entries) {
+                    if (Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS)) {
+                        DirectoryScan subtask = new DirectoryScan(entry);
+                        subtask.fork();
+                        subtasks.add(subtask);
+                    } else {
+                        Deployable deployable = toDeployable(entry);
+                        if (null != deployable) found.add(deployable);
+                    }
+                }
+            } catch (IOException e) {
+                fail(directory, e);
+            }
+
+            for (DirectoryScan subtask : subtasks) {
+                found.addAll(subtask.join());
+            }
+
+            return found;
+        }
+    }
+
+    private static final class PomResult {
+        private final String packaging;
+        private final boolean relocated;
+        private final long size;
+        private final long lastModified;
+
+        private PomResult(String packaging) {
+            this(packaging, false, -1, -1);
+        }
+
+        private PomResult(String packaging, boolean relocated, long size, long lastModified) {
+            this.packaging = packaging;
+            this.relocated = relocated;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+    }
+}
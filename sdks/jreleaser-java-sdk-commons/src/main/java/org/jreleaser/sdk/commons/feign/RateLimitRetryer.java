@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons.feign;
+
+import feign.Request;
+import feign.RetryableException;
+import feign.Retryer;
+import org.jreleaser.sdk.commons.RateLimiter;
+import org.jreleaser.sdk.commons.RestAPIException;
+
+/**
+ * Retries requests rejected with {@code 429} once the delay given by the service has
+ * elapsed. A {@code 503} with {@code Retry-After} is only retried for idempotent methods,
+ * as the service may have acted on the request before failing. Other retryable failures
+ * follow Feign's default policy.
+ *
+ * @author Andres Almiray
+ * @since 1.26.0
+ */
+public class RateLimitRetryer implements Retryer {
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final Retryer delegate = new Retryer.Default();
+    private int attempt = 1;
+
+    @Override
+    public void continueOrPropagate(RetryableException e) {
+        if (!(e.getCause() instanceof RestAPIException)) {
+            delegate.continueOrPropagate(e);
+            return;
+        }
+
+        RestAPIException cause = (RestAPIException) e.getCause();
+        Long retryAfter = e.retryAfter();
+        long wait = null != retryAfter ? retryAfter - System.currentTimeMillis() : RateLimiter.DEFAULT_RETRY_AFTER;
+        if (attempt++ >= MAX_ATTEMPTS || wait > RateLimiter.MAX_RETRY_AFTER) {
+            throw cause;
+        }
+
+        RateLimiter.defer(e.request().url(), System.currentTimeMillis() + Math.max(0L, wait));
+        RateLimiter.acquire(e.request().url());
+    }
+
+    @Override
+    public Retryer clone() {
+        return new RateLimitRetryer();
+    }
+
+    /**
+     * Turns a rate limited reply into an exception Feign will retry.
+     */
+    public static RuntimeException decode(RestAPIException exception) {
+        int status = exception.getStatus();
+        if (status != 429 && status != 503) return exception;
+
+        String header = exception.getHeaders().entrySet().stream()
+            .filter(h -> "Retry-After".equalsIgnoreCase(h.getKey()))
+            .flatMap(h -> h.getValue().stream())
+            .findFirst()
+            .orElse(null);
+        long retryAfter = RateLimiter.parseRetryAfter(header);
+        if (status == 503 && (retryAfter < 0 || !isIdempotent(exception.getRequest().httpMethod()))) {
+            return exception;
+        }
+
+        return new RetryableException(status,
+            exception.getMessage(),
+            exception.getRequest().httpMethod(),
+            exception,
+            retryAfter < 0 ? null : retryAfter,
+            exception.getRequest());
+    }
+
+    private static boolean isIdempotent(Request.HttpMethod method) {
+        switch (method) {
+            case GET:
+            case HEAD:
+            case PUT:
+            case DELETE:
+            case OPTIONS:
+            case TRACE:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
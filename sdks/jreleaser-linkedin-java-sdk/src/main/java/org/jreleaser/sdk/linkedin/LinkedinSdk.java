@@ -63,7 +63,7 @@ public class LinkedinSdk {
         this.readTimeout = readTimeout;
         this.dryrun = dryrun;
 
-        this.api = ClientUtils.builder(context, connectTimeout, readTimeout)
+        this.api = ClientUtils.announcerBuilder(context, connectTimeout, readTimeout)
             .requestInterceptor(template -> template.header("Authorization", String.format("Bearer %s", accessToken)))
             .target(LinkedinAPI.class, apiHost);
 
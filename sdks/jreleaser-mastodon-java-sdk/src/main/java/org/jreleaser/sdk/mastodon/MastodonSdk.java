@@ -72,7 +72,7 @@ public class MastodonSdk {
 
         this.context = context;
         this.dryrun = dryrun;
-        this.api = ClientUtils.builder(context, connectTimeout, readTimeout)
+        this.api = ClientUtils.announcerBuilder(context, connectTimeout, readTimeout)
             .encoder(new FormEncoder(new JacksonEncoder(objectMapper)))
             .decoder(new JacksonDecoder(objectMapper))
             .requestInterceptor(template -> template.header("Authorization", String.format("Bearer %s", accessToken)))
@@ -81,7 +81,7 @@ public class OpenCollectiveSdk {
         this.context = context;
         this.dryrun = dryrun;
 
-        this.api = ClientUtils.builder(context, connectTimeout, readTimeout)
+        this.api = ClientUtils.announcerBuilder(context, connectTimeout, readTimeout)
             .encoder(new JacksonEncoder(objectMapper))
             .decoder(new JacksonDecoder(objectMapper))
             .requestInterceptor(template -> {
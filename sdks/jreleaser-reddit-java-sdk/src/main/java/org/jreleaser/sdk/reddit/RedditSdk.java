@@ -91,7 +91,7 @@ public class RedditSdk {
             context.getModel().getProject().getVersion(), username);
 
         // API for authentication
-        this.authApi = ClientUtils.builder(context, connectTimeout, readTimeout)
+        this.authApi = ClientUtils.announcerBuilder(context, connectTimeout, readTimeout)
             .encoder(new FormEncoder(new JacksonEncoder(objectMapper)))
             .decoder(new JacksonDecoder(objectMapper))
             .requestInterceptor(new BasicAuthRequestInterceptor(clientId, clientSecret))
@@ -102,7 +102,7 @@ public class RedditSdk {
             .target(RedditAPI.class, baseUrl);
 
         // API for authenticated requests
-        this.oauthApi = ClientUtils.builder(context, connectTimeout, readTimeout)
+        this.oauthApi = ClientUtils.announcerBuilder(context, connectTimeout, readTimeout)
             .encoder(new FormEncoder())
             .decoder(new JacksonDecoder(objectMapper))
             .requestInterceptor(template -> template.header("User-Agent", userAgent))
@@ -58,7 +58,7 @@ public class Sdkman {
 
         this.context = context;
         this.dryrun = dryrun;
-        this.api = ClientUtils.builder(context, connectTimeout, readTimeout)
+        this.api = ClientUtils.announcerBuilder(context, connectTimeout, readTimeout)
             .encoder(new JacksonEncoder())
             .requestInterceptor(template -> {
                 template.header("User-Agent", "JReleaser/" + JReleaserVersion.getPlainVersion());
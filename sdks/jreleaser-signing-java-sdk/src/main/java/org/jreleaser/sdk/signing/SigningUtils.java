@@ -73,6 +73,8 @@ public final class SigningUtils {
         Security.addProvider(null != bcProvider ? bcProvider : new BouncyCastleProvider());
     }
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private SigningUtils() {
         // noop
     }
@@ -190,14 +192,15 @@ public final class SigningUtils {
             }
 
             PGPSignature sig = (PGPSignature) pgpSigList.iterator().next();
-            try (InputStream fileInputStream = new BufferedInputStream(newInputStream(filePair.inputFile))) {
+            try (InputStream fileInputStream = newInputStream(filePair.inputFile)) {
                 PGPPublicKey pubKey = keyring.readPublicKey();
                 sig.init(new JcaPGPContentVerifierBuilderProvider()
                     .setProvider(BouncyCastleProvider.PROVIDER_NAME), pubKey);
 
-                int ch;
-                while ((ch = fileInputStream.read()) >= 0) {
-                    sig.update((byte) ch);
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = fileInputStream.read(buffer)) >= 0) {
+                    sig.update(buffer, 0, read);
                 }
             }
 
@@ -25,7 +25,16 @@ import org.jreleaser.sdk.commons.ClientUtils;
 import org.jreleaser.sdk.slack.api.Message;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
@@ -35,6 +44,8 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
  */
 @org.jreleaser.infra.nativeimage.annotations.NativeImage
 public class SlackAnnouncer implements Announcer<org.jreleaser.model.api.announce.SlackAnnouncer> {
+    private static final int MAX_CONCURRENT_POSTS = 4;
+
     private final JReleaserContext context;
     private final org.jreleaser.model.internal.announce.SlackAnnouncer slack;
 
@@ -82,9 +93,7 @@ public class SlackAnnouncer implements Announcer<org.jreleaser.model.api.announc
                     .dryrun(context.isDryrun())
                     .build();
 
-                for (String channel : slack.getChannels()) {
-                    sdk.message(channel, message);
-                }
+                errors.addAll(message(sdk, new LinkedHashSet<>(slack.getChannels()), message));
             } catch (SlackException e) {
                 context.getLogger().trace(e);
                 errors.add(e.toString());
@@ -108,4 +117,43 @@ public class SlackAnnouncer implements Announcer<org.jreleaser.model.api.announc
             throw new AnnounceException(String.join(System.lineSeparator(), errors));
         }
     }
+
+    private List<String> message(SlackSdk sdk, Set<String> channels, String message) {
+        // posts are paced per host by the shared rate limiter, channels are
+        // messaged concurrently and failures are collected per channel
+        int workers = Math.min(MAX_CONCURRENT_POSTS, channels.size());
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, workers), r -> {
+            Thread t = new Thread(r, "jreleaser-slack-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        List<String> errors = new ArrayList<>();
+        try {
+            Map<String, Future<?>> posts = new LinkedHashMap<>();
+            for (String channel : channels) {
+                posts.put(channel, executor.submit(() -> {
+                    sdk.message(channel, message);
+                    return null;
+                }));
+            }
+
+            for (Map.Entry<String, Future<?>> post : posts.entrySet()) {
+                try {
+                    post.getValue().get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    errors.add(post.getKey() + ": " + e);
+                } catch (ExecutionException e) {
+                    context.getLogger().trace(e.getCause());
+                    errors.add(post.getKey() + ": " + e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return errors;
+    }
 }
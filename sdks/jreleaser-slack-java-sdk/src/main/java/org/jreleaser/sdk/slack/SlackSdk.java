@@ -51,7 +51,7 @@ public class SlackSdk {
 
         this.context = context;
         this.dryrun = dryrun;
-        this.api = ClientUtils.builder(context, connectTimeout, readTimeout)
+        this.api = ClientUtils.announcerBuilder(context, connectTimeout, readTimeout)
             .requestInterceptor(template -> template.header("Authorization", String.format("Bearer %s", token)))
             .target(SlackAPI.class, apiHost);
 
@@ -17,9 +17,10 @@
  */
 package org.jreleaser.sdk.smtp;
 
+import jakarta.mail.Address;
 import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
 import jakarta.mail.Session;
-import jakarta.mail.Transport;
 import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeBodyPart;
 import jakarta.mail.internet.MimeMessage;
@@ -28,6 +29,7 @@ import org.jreleaser.bundle.RB;
 import org.jreleaser.logging.JReleaserLogger;
 import org.jreleaser.model.JReleaserVersion;
 
+import java.util.Arrays;
 import java.util.Date;
 import java.util.LinkedHashMap;
 import java.util.Locale;
@@ -41,6 +43,9 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
  * @since 0.1.0
  */
 public class MessageSmtpCommand implements SmtpCommand {
+    // keeps each envelope below the recipient limit common to most servers
+    private static final int DEFAULT_RECIPIENT_BATCH_SIZE = 50;
+
     private final JReleaserLogger logger;
     private final boolean dryrun;
     private final org.jreleaser.model.Mail.Transport transport;
@@ -56,6 +61,7 @@ public class MessageSmtpCommand implements SmtpCommand {
     private final String subject;
     private final String message;
     private final org.jreleaser.model.Mail.MimeType mimeType;
+    private final int recipientBatchSize;
     private final Map<String, String> properties = new LinkedHashMap<>();
 
     private MessageSmtpCommand(JReleaserLogger logger,
@@ -73,6 +79,7 @@ public class MessageSmtpCommand implements SmtpCommand {
                                String subject,
                                String message,
                                org.jreleaser.model.Mail.MimeType mimeType,
+                               int recipientBatchSize,
                                Map<String, String> properties) {
         this.logger = logger;
         this.dryrun = dryrun;
@@ -89,6 +96,7 @@ public class MessageSmtpCommand implements SmtpCommand {
         this.subject = subject;
         this.message = message;
         this.mimeType = mimeType;
+        this.recipientBatchSize = recipientBatchSize;
         this.properties.putAll(properties);
     }
 
@@ -122,45 +130,67 @@ public class MessageSmtpCommand implements SmtpCommand {
             }
         }
 
+        // connections are kept open for further messages, closing them need not wait for the reply to QUIT
+        if (!props.containsKey("mail.smtp.quitwait")) {
+            props.put("mail.smtp.quitwait", "false");
+        }
+
+        SmtpTransportPool.Connection connection;
         try {
-            Session session = Session.getInstance(props);
-            Message message = new MimeMessage(session);
+            connection = SmtpTransportPool.acquire(transport.name().toLowerCase(Locale.ENGLISH),
+                host, port, auth ? username : null, password, props);
+        } catch (Exception e) {
+            throw new SmtpException(e);
+        }
 
-            if (isNotBlank(from)) {
-                message.setFrom(new InternetAddress(from));
-            }
+        try {
+            Message message = createMessage(connection.getSession());
 
-            if (isNotBlank(to)) {
-                message.addRecipients(Message.RecipientType.TO, InternetAddress.parse(to));
-            }
-            if (isNotBlank(cc)) {
-                message.addRecipients(Message.RecipientType.CC, InternetAddress.parse(cc));
-            }
-            if (isNotBlank(bcc)) {
-                message.addRecipients(Message.RecipientType.BCC, InternetAddress.parse(bcc));
+            // one envelope per batch of recipients, all of them sent over the same connection
+            Address[] recipients = null != message.getAllRecipients() ? message.getAllRecipients() : new Address[0];
+            for (int i = 0; i < recipients.length; i += recipientBatchSize) {
+                Address[] batch = Arrays.copyOfRange(recipients, i, Math.min(recipients.length, i + recipientBatchSize));
+                connection.getTransport().sendMessage(message, batch);
             }
+        } catch (Exception e) {
+            connection.close();
+            throw new SmtpException(e);
+        }
 
-            message.setSubject(subject);
+        SmtpTransportPool.release(connection);
+    }
 
-            MimeMultipart content = new MimeMultipart();
-            MimeBodyPart textPart = new MimeBodyPart();
-            textPart.setContent(this.message, mimeType.code());
-            content.addBodyPart(textPart);
-            message.setContent(content);
+    private Message createMessage(Session session) throws MessagingException {
+        Message message = new MimeMessage(session);
 
-            message.setHeader("X-Mailer", "JReleaser " + JReleaserVersion.getPlainVersion());
-            message.setSentDate(new Date());
+        if (isNotBlank(from)) {
+            message.setFrom(new InternetAddress(from));
+        }
 
-            Transport t = session.getTransport(transport.name().toLowerCase(Locale.ENGLISH));
-            if (auth) {
-                t.connect(host, username, password);
-            } else {
-                t.connect();
-            }
-            t.sendMessage(message, message.getAllRecipients());
-        } catch (Exception e) {
-            throw new SmtpException(e);
+        if (isNotBlank(to)) {
+            message.addRecipients(Message.RecipientType.TO, InternetAddress.parse(to));
+        }
+        if (isNotBlank(cc)) {
+            message.addRecipients(Message.RecipientType.CC, InternetAddress.parse(cc));
+        }
+        if (isNotBlank(bcc)) {
+            message.addRecipients(Message.RecipientType.BCC, InternetAddress.parse(bcc));
         }
+
+        message.setSubject(subject);
+
+        MimeMultipart content = new MimeMultipart();
+        MimeBodyPart textPart = new MimeBodyPart();
+        textPart.setContent(this.message, mimeType.code());
+        content.addBodyPart(textPart);
+        message.setContent(content);
+
+        message.setHeader("X-Mailer", "JReleaser " + JReleaserVersion.getPlainVersion());
+        message.setSentDate(new Date());
+        // serialize once, every batch sends the same content
+        message.saveChanges();
+
+        return message;
     }
 
     public static Builder builder(JReleaserLogger logger) {
@@ -183,6 +213,7 @@ public class MessageSmtpCommand implements SmtpCommand {
         private String subject;
         private String message;
         private org.jreleaser.model.Mail.MimeType mimeType = org.jreleaser.model.Mail.MimeType.TEXT;
+        private int recipientBatchSize = DEFAULT_RECIPIENT_BATCH_SIZE;
         private final Map<String, String> properties = new LinkedHashMap<>();
 
         protected Builder(JReleaserLogger logger) {
@@ -259,6 +290,11 @@ public class MessageSmtpCommand implements SmtpCommand {
             return this;
         }
 
+        public Builder recipientBatchSize(int recipientBatchSize) {
+            this.recipientBatchSize = Math.max(1, recipientBatchSize);
+            return this;
+        }
+
         public Builder properties(Map<String, String> properties) {
             this.properties.putAll(properties);
             return this;
@@ -281,6 +317,7 @@ public class MessageSmtpCommand implements SmtpCommand {
                 subject,
                 message,
                 mimeType,
+                recipientBatchSize,
                 properties);
         }
     }
@@ -0,0 +1,171 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.smtp;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps authenticated SMTP connections open between sends, so that several messages
+ * to the same server pay for the TLS handshake and AUTH exchange only once.
+ * <p>
+ * Connections are handed out exclusively and closed once they stay idle for
+ * {@value #IDLE_TIMEOUT_SECONDS} seconds, or when the JVM exits. Connections are
+ * only reused for the same credentials; the password is part of the key as a hash.
+ *
+ * @author Andres Almiray
+ * @since 1.26.0
+ */
+final class SmtpTransportPool {
+    static final int IDLE_TIMEOUT_SECONDS = 30;
+
+    private static final Map<String, Deque<Connection>> IDLE = new HashMap<>();
+    private static ScheduledExecutorService evictor;
+
+    private SmtpTransportPool() {
+        // noop
+    }
+
+    /**
+     * Returns an open connection matching the given settings, reusing an idle one when possible.
+     */
+    static Connection acquire(String protocol, String host, int port, String username, String password, Properties props) throws MessagingException {
+        String key = key(protocol, host, port, username, password, props);
+
+        while (true) {
+            Connection connection = poll(key);
+            if (null == connection) break;
+            // a NOOP round trip tells whether the server kept the connection
+            if (connection.transport.isConnected()) return connection;
+            connection.close();
+        }
+
+        Session session = Session.getInstance(props);
+        Transport transport = session.getTransport(protocol);
+        if (null != username) {
+            transport.connect(host, username, password);
+        } else {
+            transport.connect();
+        }
+        return new Connection(key, session, transport);
+    }
+
+    /**
+     * Returns a healthy connection to the pool.
+     */
+    static synchronized void release(Connection connection) {
+        connection.lastUsed = System.currentTimeMillis();
+        IDLE.computeIfAbsent(connection.key, k -> new ArrayDeque<>()).push(connection);
+
+        if (null == evictor) {
+            evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "jreleaser-smtp-evictor");
+                t.setDaemon(true);
+                return t;
+            });
+            evictor.scheduleWithFixedDelay(SmtpTransportPool::evict, IDLE_TIMEOUT_SECONDS, IDLE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            Runtime.getRuntime().addShutdownHook(new Thread(SmtpTransportPool::closeAll, "jreleaser-smtp-close"));
+        }
+    }
+
+    /**
+     * Closes all idle connections.
+     */
+    static void closeAll() {
+        List<Connection> connections = new ArrayList<>();
+        synchronized (SmtpTransportPool.class) {
+            IDLE.values().forEach(connections::addAll);
+            IDLE.clear();
+        }
+        connections.forEach(Connection::close);
+    }
+
+    private static synchronized Connection poll(String key) {
+        Deque<Connection> connections = IDLE.get(key);
+        return null != connections ? connections.poll() : null;
+    }
+
+    private static void evict() {
+        long threshold = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(IDLE_TIMEOUT_SECONDS);
+        List<Connection> expired = new ArrayList<>();
+        synchronized (SmtpTransportPool.class) {
+            for (Deque<Connection> connections : IDLE.values()) {
+                for (Iterator<Connection> it = connections.iterator(); it.hasNext(); ) {
+                    Connection connection = it.next();
+                    if (connection.lastUsed < threshold) {
+                        it.remove();
+                        expired.add(connection);
+                    }
+                }
+            }
+        }
+        expired.forEach(Connection::close);
+    }
+
+    private static String key(String protocol, String host, int port, String username, String password, Properties props) {
+        Map<String, String> sorted = new TreeMap<>();
+        props.forEach((k, v) -> sorted.put(String.valueOf(k), String.valueOf(v)));
+        String credentials = null != username && null != password ?
+            username + ":" + DigestUtils.sha256Hex(password) : String.valueOf(username);
+        return protocol + "://" + credentials + "@" + host + ":" + port + sorted;
+    }
+
+    static final class Connection {
+        private final String key;
+        private final Session session;
+        private final Transport transport;
+        private long lastUsed;
+
+        private Connection(String key, Session session, Transport transport) {
+            this.key = key;
+            this.session = session;
+            this.transport = transport;
+        }
+
+        Session getSession() {
+            return session;
+        }
+
+        Transport getTransport() {
+            return transport;
+        }
+
+        void close() {
+            try {
+                transport.close();
+            } catch (MessagingException ignored) {
+                // the connection is being discarded
+            }
+        }
+    }
+}
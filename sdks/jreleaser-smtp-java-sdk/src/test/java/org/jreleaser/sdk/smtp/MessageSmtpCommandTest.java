@@ -72,6 +72,37 @@ class MessageSmtpCommandTest {
         assertThat(cc, equalTo(greenMail.getReceivedMessages()[0].getRecipients(CC)[0].toString()));
     }
 
+    @Test
+    void testBatchedRecipientsOverReusedTransport() throws SmtpException, MessagingException {
+        // given:
+        String sender = "test@acme.com";
+        String receivers = "one@acme.com,two@acme.com,three@acme.com";
+        String message = "Test";
+
+        MessageSmtpCommand.Builder builder = MessageSmtpCommand
+            .builder(new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.DEBUG))
+            .transport(org.jreleaser.model.Mail.Transport.SMTP)
+            .host("localhost")
+            .port(3025)
+            .auth(false)
+            .from(sender)
+            .to(receivers)
+            .subject("Test")
+            .message(message)
+            .recipientBatchSize(2)
+            .dryrun(false);
+
+        // when:
+        builder.build().execute();
+        builder.build().execute();
+        await().timeout(3, SECONDS)
+            .until(() -> greenMail.getReceivedMessages().length == 6);
+
+        // then:
+        assertThat(greenMail.getReceivedMessagesForDomain("two@acme.com").length, equalTo(2));
+        assertThat(greenMail.getReceivedMessages()[0].getRecipients(TO).length, equalTo(3));
+    }
+
     @Test
     void testDryRun() throws SmtpException {
         // given:
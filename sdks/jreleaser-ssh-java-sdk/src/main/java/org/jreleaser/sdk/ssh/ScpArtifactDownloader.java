@@ -29,6 +29,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static org.jreleaser.sdk.ssh.SshUtils.createSSHClient;
 import static org.jreleaser.sdk.ssh.SshUtils.disconnect;
@@ -62,37 +64,46 @@ public class ScpArtifactDownloader extends AbstractArtifactDownloader<org.jrelea
 
     @Override
     public void download(String name) throws DownloadException {
-        SSHClient ssh = createSSHClient(context, downloader);
+        Map<String, Path> downloads = new LinkedHashMap<>();
+        Map<Path, Downloader.Unpack> unpacks = new LinkedHashMap<>();
 
-        try {
-            for (Downloader.Asset asset : downloader.getAssets()) {
-                downloadAsset(name, ssh, asset);
-            }
-        } finally {
-            disconnect(downloader, ssh);
-        }
-    }
+        for (Downloader.Asset asset : downloader.getAssets()) {
+            String input = asset.getResolvedInput(context, downloader);
+            String output = asset.getResolvedOutput(context, downloader, Paths.get(input).getFileName().toString());
 
-    private void downloadAsset(String name, SSHClient ssh, Downloader.Asset asset) throws DownloadException {
-        String input = asset.getResolvedInput(context, downloader);
-        String output = asset.getResolvedOutput(context, downloader, Paths.get(input).getFileName().toString());
+            if (isBlank(output)) {
+                output = Paths.get(input).getFileName().toString();
+            }
 
-        if (isBlank(output)) {
-            output = Paths.get(input).getFileName().toString();
+            Path outputPath = context.getDownloadDirectory().resolve(name).resolve(output);
+            context.getLogger().info("{} -> {}", input, context.relativizeToBasedir(outputPath));
+            downloads.put(input, outputPath);
+            unpacks.put(outputPath, asset.getUnpack());
         }
 
-        Path outputPath = context.getDownloadDirectory().resolve(name).resolve(output);
-        context.getLogger().info("{} -> {}", input, context.relativizeToBasedir(outputPath));
-
         if (!context.isDryrun()) {
-            try {
-                Files.createDirectories(outputPath.toAbsolutePath().getParent());
-                ssh.newSCPFileTransfer().download(input, outputPath.toAbsolutePath().toString());
+            SSHClient ssh = createSSHClient(context, downloader);
+
+            try (SshTransferPool pool = new SshTransferPool(ssh, downloader.getReadTimeout())) {
+                // every SCP transfer runs on its own channel of the shared connection
+                pool.execute(downloads.entrySet(), download -> {
+                    Path outputPath = download.getValue().toAbsolutePath();
+                    try {
+                        Files.createDirectories(outputPath.getParent());
+                        ssh.newSCPFileTransfer().download(download.getKey(), outputPath.toString());
+                    } catch (IOException e) {
+                        throw new IOException(RB.$("ERROR_unexpected_download", download.getKey()), e);
+                    }
+                });
             } catch (IOException e) {
-                throw new DownloadException(RB.$("ERROR_unexpected_download", input), e);
+                throw new DownloadException(RB.$("ERROR_unexpected_download_from", downloader.getName()), e);
+            } finally {
+                disconnect(downloader, ssh);
             }
         }
 
-        unpack(asset.getUnpack(), outputPath);
+        for (Map.Entry<Path, Downloader.Unpack> e : unpacks.entrySet()) {
+            unpack(e.getValue(), e.getKey());
+        }
     }
 }
@@ -27,10 +27,11 @@ import org.jreleaser.sdk.commons.AbstractArtifactUploader;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 
-import static org.jreleaser.sdk.ssh.SshUtils.createDirectories;
 import static org.jreleaser.sdk.ssh.SshUtils.createSSHClient;
 import static org.jreleaser.sdk.ssh.SshUtils.disconnect;
 
@@ -68,26 +69,37 @@ public class ScpArtifactUploader extends AbstractArtifactUploader<org.jreleaser.
             context.getLogger().info(RB.$("artifacts.no.match"));
         }
 
+        Map<Path, String> uploads = new LinkedHashMap<>();
+        for (Artifact artifact : artifacts) {
+            Path path = artifact.getEffectivePath(context);
+            context.getLogger().info(" - {}", path.getFileName());
+            uploads.put(path, uploader.getResolvedPath(context, artifact));
+        }
+
         SSHClient ssh = createSSHClient(context, uploader);
+        if (null == ssh) return;
 
-        try {
-            for (Artifact artifact : artifacts) {
-                Path path = artifact.getEffectivePath(context);
-                context.getLogger().info(" - {}", path.getFileName());
+        try (SshTransferPool pool = new SshTransferPool(ssh, uploader.getReadTimeout())) {
+            Set<String> directories = new LinkedHashSet<>();
+            for (String uploadPath : uploads.values()) {
+                directories.add(SshTransferPool.parentOf(uploadPath));
+            }
+            pool.createDirectories(directories);
 
-                if (!context.isDryrun()) {
-                    try {
-                        String uploadPath = uploader.getResolvedPath(context, artifact);
-                        context.getLogger().debug("   " + RB.$("uploader.uploading.to", uploadPath));
-                        createDirectories(context, uploader, ssh, Paths.get(uploadPath).getParent());
-                        ssh.newSCPFileTransfer().upload(path.toAbsolutePath().toString(), uploadPath);
-                    } catch (IOException e) {
-                        context.getLogger().trace(e);
-                        throw new UploadException(RB.$("ERROR_unexpected_upload",
-                            context.getBasedir().relativize(path)), e);
-                    }
+            // every SCP transfer runs on its own channel of the shared connection
+            pool.execute(uploads.entrySet(), upload -> {
+                Path path = upload.getKey();
+                try {
+                    context.getLogger().debug("   " + RB.$("uploader.uploading.to", upload.getValue()));
+                    ssh.newSCPFileTransfer().upload(path.toAbsolutePath().toString(), upload.getValue());
+                } catch (IOException e) {
+                    context.getLogger().trace(e);
+                    throw new IOException(RB.$("ERROR_unexpected_upload",
+                        context.getBasedir().relativize(path)), e);
                 }
-            }
+            });
+        } catch (IOException e) {
+            throw new UploadException(RB.$("ERROR_unexpected_upload_to", uploader.getName()), e);
         } finally {
             disconnect(uploader, ssh);
         }
@@ -18,21 +18,29 @@
 package org.jreleaser.sdk.ssh;
 
 import net.schmizz.sshj.SSHClient;
+import net.schmizz.sshj.sftp.RemoteFile;
+import net.schmizz.sshj.sftp.Response;
 import net.schmizz.sshj.sftp.SFTPClient;
+import net.schmizz.sshj.sftp.SFTPException;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.download.Downloader;
 import org.jreleaser.model.internal.download.SftpDownloader;
 import org.jreleaser.model.spi.download.DownloadException;
 import org.jreleaser.sdk.commons.AbstractArtifactDownloader;
+import org.jreleaser.util.DownloadEngine;
 
+import java.io.Closeable;
+import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
-import static org.jreleaser.sdk.ssh.SshUtils.close;
-import static org.jreleaser.sdk.ssh.SshUtils.createSFTPClient;
 import static org.jreleaser.sdk.ssh.SshUtils.createSSHClient;
 import static org.jreleaser.sdk.ssh.SshUtils.disconnect;
 import static org.jreleaser.util.StringUtils.isBlank;
@@ -65,42 +73,115 @@ public class SftpArtifactDownloader extends AbstractArtifactDownloader<org.jrele
 
     @Override
     public void download(String name) throws DownloadException {
-        SSHClient ssh = createSSHClient(context, downloader);
-        SFTPClient sftp = createSFTPClient(downloader, ssh);
+        List<DownloadEngine.Request> requests = new ArrayList<>();
+        Map<Path, Downloader.Unpack> unpacks = new LinkedHashMap<>();
 
-        try {
-            try {
-                for (Downloader.Asset asset : downloader.getAssets()) {
-                    downloadAsset(name, sftp, asset);
-                }
+        for (Downloader.Asset asset : downloader.getAssets()) {
+            String input = asset.getResolvedInput(context, downloader);
+            String output = asset.getResolvedOutput(context, downloader, Paths.get(input).getFileName().toString());
+
+            if (isBlank(output)) {
+                output = Paths.get(input).getFileName().toString();
+            }
+
+            Path outputPath = context.getDownloadDirectory().resolve(name).resolve(output);
+            context.getLogger().info("{} -> {}", input, context.relativizeToBasedir(outputPath));
+            requests.add(new DownloadEngine.Request(input, outputPath, asset.getResolvedChecksum(context, downloader)));
+            unpacks.put(outputPath, asset.getUnpack());
+        }
+
+        if (!context.isDryrun()) {
+            SSHClient ssh = createSSHClient(context, downloader);
+
+            try (SshTransferPool pool = new SshTransferPool(ssh, downloader.getReadTimeout())) {
+                String origin = "sftp://" + downloader.getUsername() + "@" + downloader.getHost() + ":" + downloader.getPort();
+                createDownloadEngine().download(new SftpTransport(pool, origin), requests);
+            } catch (IOException e) {
+                throw new DownloadException(RB.$("ERROR_unexpected_download_from", downloader.getName()), e);
             } finally {
-                close(downloader, sftp);
+                disconnect(downloader, ssh);
             }
-        } finally {
-            disconnect(downloader, ssh);
+        }
+
+        for (Map.Entry<Path, Downloader.Unpack> e : unpacks.entrySet()) {
+            unpack(e.getValue(), e.getKey());
         }
     }
 
-    private void downloadAsset(String name, SFTPClient sftp, Downloader.Asset asset) throws DownloadException {
-        String input = asset.getResolvedInput(context, downloader);
-        String output = asset.getResolvedOutput(context, downloader, Paths.get(input).getFileName().toString());
+    /**
+     * Uses the remote modification time as validator. Every open file borrows an
+     * SFTP channel from the pool, thus assets may be fetched concurrently. Sessions
+     * are always authenticated, thus nothing is kept in the shared cache.
+     */
+    private static final class SftpTransport implements DownloadEngine.Transport {
+        private final SshTransferPool pool;
+        private final String origin;
 
-        if (isBlank(output)) {
-            output = Paths.get(input).getFileName().toString();
+        private SftpTransport(SshTransferPool pool, String origin) {
+            this.pool = pool;
+            this.origin = origin;
         }
 
-        Path outputPath = context.getDownloadDirectory().resolve(name).resolve(output);
-        context.getLogger().info("{} -> {}", input, context.relativizeToBasedir(outputPath));
+        @Override
+        public boolean isCacheable() {
+            return false;
+        }
 
-        if (!context.isDryrun()) {
+        @Override
+        public String getOrigin() {
+            return origin;
+        }
+
+        @Override
+        public DownloadEngine.Response open(String input, long offset, DownloadEngine.Validators validators) throws IOException {
+            SFTPClient sftp = pool.acquire();
+            RemoteFile file;
             try {
-                Files.createDirectories(outputPath.toAbsolutePath().getParent());
-                sftp.get(input, outputPath.toAbsolutePath().toString());
-            } catch (IOException e) {
-                throw new DownloadException(RB.$("ERROR_unexpected_download", input), e);
+                file = sftp.open(input);
+            } catch (SFTPException e) {
+                pool.release(sftp);
+                if (e.getStatusCode() == Response.StatusCode.NO_SUCH_FILE) {
+                    throw new FileNotFoundException(input);
+                }
+                throw e;
+            } catch (IOException | RuntimeException e) {
+                pool.discard(sftp);
+                throw e;
             }
-        }
 
-        unpack(asset.getUnpack(), outputPath);
+            Closeable onClose = () -> {
+                try {
+                    file.close();
+                } catch (IOException | RuntimeException e) {
+                    pool.discard(sftp);
+                    throw e;
+                }
+                pool.release(sftp);
+            };
+
+            try {
+                String modificationTime = String.valueOf(file.fetchAttributes().getMtime());
+                DownloadEngine.Validators received = new DownloadEngine.Validators(null, modificationTime);
+                boolean current = null != validators && modificationTime.equals(validators.getLastModified());
+
+                if (offset == 0 && current) {
+                    return DownloadEngine.Response.notModified(onClose);
+                }
+
+                long startOffset = offset > 0 && current ? offset : 0L;
+                InputStream in = file.new ReadAheadRemoteFileInputStream(SshTransferPool.MAX_UNCONFIRMED_READS, startOffset);
+                return startOffset > 0 ?
+                    DownloadEngine.Response.partial(in, received, onClose) :
+                    DownloadEngine.Response.full(in, received, onClose);
+            } catch (IOException | RuntimeException e) {
+                try {
+                    file.close();
+                } catch (IOException ignored) {
+                    // the client is dropped anyway
+                }
+                pool.discard(sftp);
+                throw e;
+            }
+        }
     }
 }
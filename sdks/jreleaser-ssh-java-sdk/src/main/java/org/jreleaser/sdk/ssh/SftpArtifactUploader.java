@@ -18,7 +18,6 @@
 package org.jreleaser.sdk.ssh;
 
 import net.schmizz.sshj.SSHClient;
-import net.schmizz.sshj.sftp.SFTPClient;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.common.Artifact;
@@ -28,12 +27,11 @@ import org.jreleaser.sdk.commons.AbstractArtifactUploader;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 
-import static org.jreleaser.sdk.ssh.SshUtils.close;
-import static org.jreleaser.sdk.ssh.SshUtils.createDirectories;
-import static org.jreleaser.sdk.ssh.SshUtils.createSFTPClient;
 import static org.jreleaser.sdk.ssh.SshUtils.createSSHClient;
 import static org.jreleaser.sdk.ssh.SshUtils.disconnect;
 
@@ -70,29 +68,37 @@ public class SftpArtifactUploader extends AbstractArtifactUploader<org.jreleaser
             context.getLogger().info(RB.$("artifacts.no.match"));
         }
 
+        Map<Path, String> uploads = new LinkedHashMap<>();
+        for (Artifact artifact : artifacts) {
+            Path path = artifact.getEffectivePath(context);
+            context.getLogger().info(" - {}", path.getFileName());
+            uploads.put(path, uploader.getResolvedPath(context, artifact));
+        }
+
         SSHClient ssh = createSSHClient(context, uploader);
-        SFTPClient sftp = createSFTPClient(uploader, ssh);
+        if (null == ssh) return;
 
-        try {
-            for (Artifact artifact : artifacts) {
-                Path path = artifact.getEffectivePath(context);
-                context.getLogger().info(" - {}", path.getFileName());
+        try (SshTransferPool pool = new SshTransferPool(ssh, uploader.getReadTimeout())) {
+            Set<String> directories = new LinkedHashSet<>();
+            for (String uploadPath : uploads.values()) {
+                directories.add(SshTransferPool.parentOf(uploadPath));
+            }
+            pool.createDirectories(directories);
 
-                if (!context.isDryrun()) {
-                    try {
-                        String uploadPath = uploader.getResolvedPath(context, artifact);
-                        context.getLogger().debug("   " + RB.$("uploader.uploading.to", uploadPath));
-                        createDirectories(context, uploader, ssh, Paths.get(uploadPath).getParent());
-                        sftp.put(path.toAbsolutePath().toString(), uploadPath);
-                    } catch (IOException e) {
-                        context.getLogger().trace(e);
-                        throw new UploadException(RB.$("ERROR_unexpected_upload",
-                            context.getBasedir().relativize(path)), e);
-                    }
+            pool.execute(uploads.entrySet(), upload -> {
+                Path path = upload.getKey();
+                try {
+                    context.getLogger().debug("   " + RB.$("uploader.uploading.to", upload.getValue()));
+                    pool.upload(path.toAbsolutePath(), upload.getValue());
+                } catch (IOException e) {
+                    context.getLogger().trace(e);
+                    throw new IOException(RB.$("ERROR_unexpected_upload",
+                        context.getBasedir().relativize(path)), e);
                 }
-            }
+            });
+        } catch (IOException e) {
+            throw new UploadException(RB.$("ERROR_unexpected_upload_to", uploader.getName()), e);
         } finally {
-            close(uploader, sftp);
             disconnect(uploader, ssh);
         }
     }
@@ -0,0 +1,324 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2026 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.ssh;
+
+import net.schmizz.sshj.SSHClient;
+import net.schmizz.sshj.connection.channel.direct.Session;
+import net.schmizz.sshj.sftp.FileAttributes;
+import net.schmizz.sshj.sftp.OpenMode;
+import net.schmizz.sshj.sftp.RemoteFile;
+import net.schmizz.sshj.sftp.SFTPClient;
+import net.schmizz.sshj.xfer.FileSystemFile;
+import org.jreleaser.bundle.RB;
+import org.jreleaser.util.Env;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.jreleaser.util.StringUtils.isBlank;
+
+/**
+ * Shares one authenticated SSH connection between several concurrent transfers.
+ * <p>
+ * SFTP clients are opened lazily, each on its own channel, up to the configured
+ * parallelism. A permit is held for every leased client and given back when it is
+ * released or discarded, so a waiting caller may open a replacement for a discarded
+ * client. Remote directories are created in batches and remembered, so that every
+ * path is created at most once per connection.
+ *
+ * @author Andres Almiray
+ * @since 1.26.0
+ */
+final class SshTransferPool implements Closeable {
+    static final String SSH_PARALLELISM = "SSH_PARALLELISM";
+    static final int MAX_UNCONFIRMED_READS = 64;
+
+    private static final int DEFAULT_PARALLELISM = 4;
+    private static final int MAX_UNCONFIRMED_WRITES = 64;
+    private static final int MAX_COMMAND_LENGTH = 32 * 1024;
+
+    private final SSHClient ssh;
+    private final int parallelism;
+    private final int timeout;
+    private final Semaphore permits;
+    private final BlockingQueue<SFTPClient> idle = new LinkedBlockingQueue<>();
+    private final List<SFTPClient> clients = new ArrayList<>();
+    private final Set<SFTPClient> leased = ConcurrentHashMap.newKeySet();
+    private final Set<String> directories = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param ssh     an authenticated client
+     * @param timeout timeout in seconds for remote commands
+     */
+    SshTransferPool(SSHClient ssh, int timeout) {
+        this.ssh = ssh;
+        this.timeout = timeout;
+        this.parallelism = resolveParallelism();
+        this.permits = new Semaphore(parallelism, true);
+    }
+
+    private static int resolveParallelism() {
+        try {
+            return Math.max(1, Integer.parseInt(Env.resolve(SSH_PARALLELISM, String.valueOf(DEFAULT_PARALLELISM)).trim()));
+        } catch (NumberFormatException e) {
+            return DEFAULT_PARALLELISM;
+        }
+    }
+
+    SFTPClient acquire() throws IOException {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+
+        // holding a permit, either an idle client exists or there is room for a new one
+        SFTPClient client = idle.poll();
+        if (null == client) {
+            try {
+                client = ssh.newSFTPClient();
+            } catch (IOException | RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+            synchronized (clients) {
+                clients.add(client);
+            }
+        }
+
+        leased.add(client);
+        return client;
+    }
+
+    void release(SFTPClient client) {
+        if (null == client || !leased.remove(client)) return;
+
+        idle.offer(client);
+        permits.release();
+    }
+
+    /**
+     * Drops a client whose channel can no longer be trusted, e.g. after a failed transfer.
+     */
+    void discard(SFTPClient client) {
+        if (null == client || !leased.remove(client)) return;
+
+        synchronized (clients) {
+            clients.remove(client);
+        }
+        try {
+            client.close();
+        } catch (IOException ignored) {
+            // best effort
+        }
+        permits.release();
+    }
+
+    /**
+     * Creates all given remote directories with as few {@code mkdir -p} invocations as possible.
+     */
+    void createDirectories(Collection<String> paths) throws IOException {
+        Set<String> pending = new TreeSet<>();
+        for (String path : paths) {
+            String p = normalize(path);
+            if (!isBlank(p) && !directories.contains(p)) pending.add(p);
+        }
+
+        // parents are created along with their children
+        List<String> leaves = new ArrayList<>();
+        for (String path : pending) {
+            String prefix = path + "/";
+            if (pending.stream().noneMatch(p -> p.startsWith(prefix))) {
+                leaves.add(path);
+            }
+        }
+        if (leaves.isEmpty()) return;
+
+        List<String> batch = new ArrayList<>();
+        int length = 0;
+        for (String leaf : leaves) {
+            String quoted = quote(leaf);
+            if (!batch.isEmpty() && length + quoted.length() > MAX_COMMAND_LENGTH) {
+                mkdir(batch);
+                batch.clear();
+                length = 0;
+            }
+            batch.add(quoted);
+            length += quoted.length() + 1;
+        }
+        mkdir(batch);
+
+        for (String leaf : leaves) {
+            for (String d = leaf; !isBlank(d); d = parent(d)) {
+                if (!directories.add(d)) break;
+            }
+        }
+    }
+
+    private void mkdir(List<String> quotedPaths) throws IOException {
+        try (Session session = ssh.startSession()) {
+            Session.Command cmd = session.exec("mkdir -p " + String.join(" ", quotedPaths));
+            cmd.join(timeout, TimeUnit.SECONDS);
+            Integer exitStatus = cmd.getExitStatus();
+            if (null != exitStatus && exitStatus != 0) {
+                throw new IOException(RB.$("ERROR_ssh_mkdir", String.join(" ", quotedPaths)));
+            }
+        }
+    }
+
+    /**
+     * Uploads a file over SFTP keeping several write requests in flight.
+     */
+    void upload(Path source, String destination) throws IOException {
+        SFTPClient sftp = acquire();
+        try {
+            FileSystemFile local = new FileSystemFile(source.toFile());
+            try (RemoteFile remote = sftp.open(destination, EnumSet.of(OpenMode.WRITE, OpenMode.CREAT, OpenMode.TRUNC))) {
+                int bufferSize = sftp.getSFTPEngine().getSubsystem().getRemoteMaxPacketSize() - remote.getOutgoingPacketOverhead();
+                try (InputStream in = Files.newInputStream(source);
+                     OutputStream out = remote.new RemoteFileOutputStream(0, MAX_UNCONFIRMED_WRITES)) {
+                    byte[] buffer = new byte[bufferSize];
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        out.write(buffer, 0, read);
+                    }
+                }
+
+                remote.setAttributes(new FileAttributes.Builder()
+                    .withPermissions(local.getPermissions())
+                    .withAtimeMtime(local.getLastAccessTime(), local.getLastModifiedTime())
+                    .build());
+            }
+        } catch (IOException | RuntimeException e) {
+            discard(sftp);
+            throw e;
+        }
+        release(sftp);
+    }
+
+    /**
+     * Runs {@code task} for every item, using up to {@code parallelism} threads.
+     * Items are awaited in iteration order, the first failure is rethrown.
+     */
+    <T> void execute(Collection<T> items, Task<T> task) throws IOException {
+        int workers = Math.min(parallelism, items.size());
+        if (workers <= 1) {
+            for (T item : items) {
+                task.execute(item);
+            }
+            return;
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "jreleaser-ssh-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (T item : items) {
+                tasks.add(executor.submit(() -> {
+                    task.execute(item);
+                    return null;
+                }));
+            }
+
+            for (Future<?> f : tasks) {
+                try {
+                    f.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof IOException) {
+                        throw (IOException) e.getCause();
+                    }
+                    throw new IOException(e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        synchronized (clients) {
+            for (SFTPClient client : clients) {
+                try {
+                    client.close();
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+            clients.clear();
+        }
+        idle.clear();
+        if (null != failure) throw failure;
+    }
+
+    private static String normalize(String path) {
+        if (isBlank(path)) return path;
+        String p = path.replace('\\', '/');
+        while (p.length() > 1 && p.endsWith("/")) {
+            p = p.substring(0, p.length() - 1);
+        }
+        return p;
+    }
+
+    private static String parent(String path) {
+        int i = path.lastIndexOf('/');
+        return i > 0 ? path.substring(0, i) : null;
+    }
+
+    private static String quote(String path) {
+        return "'" + path.replace("'", "'\\''") + "'";
+    }
+
+    static String parentOf(String path) {
+        return parent(normalize(path));
+    }
+
+    interface Task<T> {
+        void execute(T item) throws IOException;
+    }
+}
@@ -47,7 +47,7 @@ public class TelegramSdk {
 
         this.context = context;
         this.dryrun = dryrun;
-        this.api = ClientUtils.builder(context, connectTimeout, readTimeout)
+        this.api = ClientUtils.announcerBuilder(context, connectTimeout, readTimeout)
             .target(TelegramAPI.class, apiHost);
 
         this.context.getLogger().debug(RB.$("workflow.dryrun"), dryrun);
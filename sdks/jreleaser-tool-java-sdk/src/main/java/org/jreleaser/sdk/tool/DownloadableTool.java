@@ -17,7 +17,6 @@
  */
 package org.jreleaser.sdk.tool;
 
-import org.apache.commons.io.IOUtils;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.logging.JReleaserLogger;
 import org.jreleaser.model.JReleaserVersion;
@@ -25,20 +24,19 @@ import org.jreleaser.mustache.TemplateContext;
 import org.jreleaser.sdk.command.Command;
 import org.jreleaser.sdk.command.CommandException;
 import org.jreleaser.sdk.command.CommandExecutor;
+import org.jreleaser.util.DownloadEngine;
 import org.jreleaser.util.FileUtils;
 
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.InputStream;
-import java.net.URI;
-import java.net.URLConnection;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Properties;
 import java.util.regex.Pattern;
 
-import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static org.jreleaser.model.Constants.JRELEASER_USER_HOME;
 import static org.jreleaser.model.Constants.XDG_CACHE_HOME;
 import static org.jreleaser.mustache.Templates.resolveTemplate;
@@ -58,7 +56,10 @@ public class DownloadableTool {
     private static final String K_COMMAND_VERSION = "command.version";
     private static final String K_COMMAND_VERIFY = "command.verify";
     private static final String K_EXECUTABLE_PATH = ".executable.path";
+    private static final String K_CHECKSUM = ".checksum";
     private static final String UNPACK = "unpack";
+    private static final int CONNECT_TIMEOUT = 20_000;
+    private static final int READ_TIMEOUT = 60_000;
 
     private final JReleaserLogger logger;
     private final String name;
@@ -174,10 +175,12 @@ public class DownloadableTool {
         String downloadUrl = properties.getProperty(K_DOWNLOAD_URL);
         String executablePath = properties.getProperty(platformKey(K_EXECUTABLE_PATH));
         String exec = properties.getProperty(platformKey(K_EXECUTABLE));
+        String checksum = properties.getProperty(platformKey(K_CHECKSUM));
 
         TemplateContext props = props();
         filename = resolveTemplate(logger, filename, props);
         if (isNotBlank(executablePath)) executablePath = resolveTemplate(logger, executablePath, props);
+        if (isNotBlank(checksum)) checksum = resolveTemplate(logger, checksum, props);
 
         Path test = dest;
         if (unpack && isNotBlank(executablePath)) {
@@ -194,18 +197,17 @@ public class DownloadableTool {
         downloadUrl = resolveTemplate(logger, downloadUrl, props) + filename;
 
         try {
-            URLConnection connection = new URI(downloadUrl).toURL().openConnection();
-            connection.setRequestProperty("User-Agent", "JReleaser/" + JReleaserVersion.getPlainVersion());
-            InputStream stream = connection.getInputStream();
-
             Path tmp = Files.createTempDirectory("jreleaser");
             Path destination = tmp.resolve(filename);
 
             logger.debug(RB.$("tool.located", filename));
             logger.debug(RB.$("tool.downloading", downloadUrl));
-            Files.copy(stream, destination, REPLACE_EXISTING);
+            Map<String, String> headers = new LinkedHashMap<>();
+            headers.put("User-Agent", "JReleaser/" + JReleaserVersion.getPlainVersion());
+            new DownloadEngine(logger, null, 0L, 1)
+                .download(new DownloadEngine.HttpTransport(CONNECT_TIMEOUT, READ_TIMEOUT, headers),
+                    new DownloadEngine.Request(downloadUrl, destination, checksum));
             logger.debug(RB.$("tool.downloaded", filename));
-            IOUtils.closeQuietly(stream);
 
             Files.createDirectories(dest);
             if (unpack) {